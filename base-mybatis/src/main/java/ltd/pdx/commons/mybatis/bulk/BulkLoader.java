@@ -0,0 +1,262 @@
+package ltd.pdx.commons.mybatis.bulk;
+
+import lombok.extern.slf4j.Slf4j;
+import ltd.pdx.commons.mybatis.data.InsertRepository;
+import ltd.pdx.commons.mybatis.mapping.RecordMapper;
+import ltd.pdx.commons.mybatis.mapping.RecordMappers;
+import ltd.pdx.commons.mybatis.readwrite.DataSourceFrom;
+import ltd.pdx.commons.mybatis.readwrite.DynamicDataSourceHolder;
+import ltd.pdx.commons.mybatis.sharding.ShardTable;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 大批量插入: MySQL使用LOAD DATA LOCAL INFILE, 每chunkSize条记录在内存中序列化为一个数据块,
+ * 通过驱动的setLocalInfileInputStream传给服务器, 不写临时文件; 其它数据库(如测试用的H2)
+ * 回退为每chunkSize条调用一次batchInsert.
+ * <p>
+ * 列和值来自生成的RecordMapper(需开启generateRecordMapper), 与batchInsert的列顺序一致.
+ * 数据块使用LOAD DATA的默认格式(制表符分隔, 反斜杠转义, null写为\N), 字符集utf8mb4;
+ * MySQL Connector/J 8需要在连接串中设置allowLoadLocalInfile=true.
+ * 注意LOAD DATA LOCAL会把数据错误降级为警告, 警告数会记录到日志
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@Slf4j
+public class BulkLoader {
+    public static final int DEFAULT_CHUNK_SIZE = 10000;
+
+    /**
+     * Connector/J 8和5.x中声明setLocalInfileInputStream的接口
+     */
+    private static final String[] MYSQL_STATEMENT_TYPES = {"com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement"};
+    private static final byte[] NULL_VALUE = {'\\', 'N'};
+
+    private final DataSource dataSource;
+    private final int chunkSize;
+
+    public BulkLoader(final DataSource dataSource) {
+        this(dataSource, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param dataSource 数据源, 与Mapper使用同一个数据源, 在事务中时使用事务的连接
+     * @param chunkSize  每个数据块(或每次batchInsert)的记录数
+     */
+    public BulkLoader(final DataSource dataSource, final int chunkSize) {
+        this.dataSource = dataSource;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * @param recordType 实体类型
+     * @param records    要插入的记录
+     * @param repository 非MySQL数据库时用于batchInsert
+     * @param <T>        实体类型
+     * @return 插入的记录数
+     */
+    public <T> int load(final Class<T> recordType, final Iterator<T> records, final InsertRepository<T> repository) {
+        return this.load(recordType, records, null, repository::batchInsert);
+    }
+
+    /**
+     * @param recordType 实体类型
+     * @param records    要插入的记录
+     * @param shardTable 分表对象
+     * @param repository 非MySQL数据库时用于batchInsert
+     * @param <T>        实体类型
+     * @return 插入的记录数
+     */
+    public <T> int load(final Class<T> recordType, final Iterator<T> records, final ShardTable shardTable,
+                        final ltd.pdx.commons.mybatis.sharding.data.InsertRepository<T> repository) {
+        return this.load(recordType, records, shardTable.getName(),
+                chunk -> repository.batchInsert(chunk, shardTable));
+    }
+
+    private <T> int load(final Class<T> recordType, final Iterator<T> records, final String tableName,
+                         final ToIntFunction<List<T>> batchInsert) {
+        final RecordMapper<T> recordMapper = RecordMappers.get(recordType);
+        if (recordMapper == null) {
+            throw new IllegalArgumentException("no RecordMapper found for " + recordType.getName());
+        }
+        //与DynamicDataSourcePlugin一致, 事务外的写操作使用主库
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            DynamicDataSourceHolder.putDataSource(DataSourceFrom.WRITE);
+        }
+
+        final Connection connection = DataSourceUtils.getConnection(this.dataSource);
+        try {
+            final String productName = connection.getMetaData().getDatabaseProductName();
+            if (productName.contains("MySQL") || productName.contains("MariaDB")) {
+                final String sql = BulkLoader.getLoadDataSql(tableName == null ? recordMapper.getTableName() : tableName,
+                        recordMapper.getInsertColumns());
+                return this.loadData(connection, sql, recordMapper, records);
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException("bulk load failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, this.dataSource);
+        }
+
+        int totalRows = 0;
+        final List<T> chunk = new ArrayList<>(this.chunkSize);
+        while (records.hasNext()) {
+            chunk.add(records.next());
+            if (chunk.size() == this.chunkSize || !records.hasNext()) {
+                totalRows += batchInsert.applyAsInt(chunk);
+                chunk.clear();
+            }
+        }
+        return totalRows;
+    }
+
+    private <T> int loadData(final Connection connection, final String sql, final RecordMapper<T> recordMapper,
+                             final Iterator<T> records) throws SQLException {
+        int totalRows = 0;
+        try (Statement statement = connection.createStatement()) {
+            final Object mysqlStatement = BulkLoader.unwrap(statement);
+            final Method setInputStream = BulkLoader.getSetInputStreamMethod(mysqlStatement);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            while (records.hasNext()) {
+                out.reset();
+                for (int i = 0; i < this.chunkSize && records.hasNext(); i++) {
+                    BulkLoader.writeRow(out, recordMapper.getInsertValues(records.next()));
+                }
+                BulkLoader.invoke(setInputStream, mysqlStatement, new ByteArrayInputStream(out.toByteArray()));
+                final int rows = statement.executeUpdate(sql);
+                totalRows += rows;
+                final SQLWarning warning = statement.getWarnings();
+                if (warning != null) {
+                    log.warn("LOAD DATA Rows: [{}] With Warnings, First Warning: [{}]", rows, warning.getMessage());
+                    statement.clearWarnings();
+                }
+            }
+        }
+        return totalRows;
+    }
+
+    private static String getLoadDataSql(final String tableName, final String[] columns) {
+        return "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + tableName
+                + " CHARACTER SET utf8mb4 (" + String.join(", ", columns) + ")";
+    }
+
+    private static Object unwrap(final Statement statement) throws SQLException {
+        for (final String typeName : MYSQL_STATEMENT_TYPES) {
+            try {
+                final Class<?> type = Class.forName(typeName, true, statement.getClass().getClassLoader());
+                if (statement.isWrapperFor(type)) {
+                    return statement.unwrap(type);
+                }
+            } catch (final ClassNotFoundException e) {
+                // 尝试另一个版本的驱动
+            }
+        }
+        throw new SQLException("statement is not a MySQL Connector/J statement: " + statement.getClass().getName());
+    }
+
+    private static Method getSetInputStreamMethod(final Object mysqlStatement) throws SQLException {
+        try {
+            return mysqlStatement.getClass().getMethod("setLocalInfileInputStream", InputStream.class);
+        } catch (final NoSuchMethodException e) {
+            throw new SQLException("setLocalInfileInputStream is not supported by " + mysqlStatement.getClass().getName(), e);
+        }
+    }
+
+    private static void invoke(final Method method, final Object target, final InputStream in) throws SQLException {
+        try {
+            method.invoke(target, in);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new SQLException("cannot set the LOAD DATA input stream", e);
+        }
+    }
+
+    /**
+     * 按LOAD DATA的默认格式写一行, 包内可见以便单独测试转义
+     */
+    static void writeRow(final ByteArrayOutputStream out, final Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write('\t');
+            }
+            BulkLoader.writeValue(out, values[i]);
+        }
+        out.write('\n');
+    }
+
+    private static void writeValue(final ByteArrayOutputStream out, final Object value) {
+        if (value == null) {
+            out.write(NULL_VALUE, 0, NULL_VALUE.length);
+        } else if (value instanceof byte[]) {
+            BulkLoader.writeEscaped(out, (byte[]) value);
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value ? '1' : '0');
+        } else if (value instanceof BigDecimal) {
+            BulkLoader.writeEscaped(out, ((BigDecimal) value).toPlainString());
+        } else if (value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)) {
+            //java.util.Date和Timestamp都按Timestamp格式输出
+            BulkLoader.writeEscaped(out, new Timestamp(((Date) value).getTime()).toString());
+        } else if (value instanceof LocalDateTime) {
+            BulkLoader.writeEscaped(out, Timestamp.valueOf((LocalDateTime) value).toString());
+        } else {
+            BulkLoader.writeEscaped(out, value.toString());
+        }
+    }
+
+    private static void writeEscaped(final ByteArrayOutputStream out, final String value) {
+        BulkLoader.writeEscaped(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * UTF-8的多字节字符不包含这些ASCII字节, 可以按字节转义
+     */
+    private static void writeEscaped(final ByteArrayOutputStream out, final byte[] value) {
+        for (final byte b : value) {
+            switch (b) {
+                case '\\':
+                    out.write('\\');
+                    out.write('\\');
+                    break;
+                case '\t':
+                    out.write('\\');
+                    out.write('t');
+                    break;
+                case '\n':
+                    out.write('\\');
+                    out.write('n');
+                    break;
+                case '\r':
+                    out.write('\\');
+                    out.write('r');
+                    break;
+                case 0:
+                    out.write('\\');
+                    out.write('0');
+                    break;
+                default:
+                    out.write(b);
+                    break;
+            }
+        }
+    }
+}
@@ -28,6 +28,15 @@ public interface DeleteRepository<T, U, K> {
      */
     int deleteByExample(@Param("example") U example);
 
+    /**
+     * 按主键顺序删除满足条件的前limit条记录, 用于分批删除
+     *
+     * @param example 查询Example条件参数
+     * @param limit   最多删除的记录数
+     * @return 影响的记录数
+     */
+    int deleteByExampleLimit(@Param("example") U example, @Param("limit") int limit);
+
     /**
      * @param records
      * @return
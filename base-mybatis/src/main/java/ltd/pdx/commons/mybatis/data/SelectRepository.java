@@ -68,4 +68,20 @@ public interface SelectRepository<T, U, K> {
      * @return 总记录数
      */
     int countByExample(@Param("example") U example);
+
+    /**
+     * 判断是否存在符合条件的数据, 找到第一条即返回, 不统计总记录数
+     *
+     * @param example 查询条件参数
+     * @return 存在时为1, 不存在时为null
+     */
+    Integer existsByExample(@Param("example") U example);
+
+    /**
+     * 判断主键对应的数据是否存在
+     *
+     * @param id 主键id值
+     * @return 存在时为1, 不存在时为null
+     */
+    Integer existsById(@Param("id") K id);
 }
@@ -28,6 +28,16 @@ public interface UpdateRepository<T, U> {
      */
     int updateByExample(@Param("record") T record, @Param("example") U example);
 
+    /**
+     * 按主键顺序更新满足条件的前limit条记录, 用于分批更新
+     *
+     * @param record
+     * @param example
+     * @param limit   最多更新的记录数
+     * @return 影响的记录数
+     */
+    int updateByExampleLimit(@Param("record") T record, @Param("example") U example, @Param("limit") int limit);
+
     /**
      * @param records
      * @return 影响的记录数
@@ -0,0 +1,40 @@
+package ltd.pdx.commons.mybatis.locking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 收集当前线程执行的更新语句中每条SQL影响的记录数, 由UpdateCountsPlugin写入
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public final class UpdateCountsHolder {
+    private static final ThreadLocal<List<Integer>> UPDATE_COUNTS_THREAD_LOCAL = new ThreadLocal<>();
+
+    private UpdateCountsHolder() {
+    }
+
+    public static void start() {
+        UPDATE_COUNTS_THREAD_LOCAL.set(new ArrayList<>());
+    }
+
+    public static boolean isCollecting() {
+        return UPDATE_COUNTS_THREAD_LOCAL.get() != null;
+    }
+
+    public static void addUpdateCount(final int updateCount) {
+        final List<Integer> updateCounts = UPDATE_COUNTS_THREAD_LOCAL.get();
+        if (updateCounts != null) {
+            updateCounts.add(updateCount);
+        }
+    }
+
+    public static List<Integer> getUpdateCounts() {
+        return UPDATE_COUNTS_THREAD_LOCAL.get();
+    }
+
+    public static void clear() {
+        UPDATE_COUNTS_THREAD_LOCAL.remove();
+    }
+}
@@ -0,0 +1,56 @@
+package ltd.pdx.commons.mybatis.locking;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.*;
+
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * batchUpdate是用分号连接的多条update语句, MyBatis只返回第一条语句影响的记录数;
+ * 在UpdateCountsHolder.start()之后, 本插件读取每条语句影响的记录数并写入UpdateCountsHolder.
+ * 需要MySQL连接设置allowMultiQueries=true, 且使用SIMPLE或REUSE执行器
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@Intercepts({
+        @Signature(
+                type = StatementHandler.class,
+                method = "update",
+                args = {Statement.class})
+})
+public class UpdateCountsPlugin implements Interceptor {
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        final Object rows = invocation.proceed();
+        if (UpdateCountsHolder.isCollecting()) {
+            final Statement statement = (Statement) invocation.getArgs()[0];
+            UpdateCountsHolder.addUpdateCount(statement.getUpdateCount());
+            while (true) {
+                final boolean resultSet = statement.getMoreResults();
+                final int updateCount = statement.getUpdateCount();
+                if (!resultSet && updateCount == -1) {
+                    break;
+                }
+                if (!resultSet) {
+                    UpdateCountsHolder.addUpdateCount(updateCount);
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public Object plugin(final Object target) {
+        if (target instanceof StatementHandler) {
+            return Plugin.wrap(target, this);
+        }
+        return target;
+    }
+
+    @Override
+    public void setProperties(final Properties properties) {
+    }
+}
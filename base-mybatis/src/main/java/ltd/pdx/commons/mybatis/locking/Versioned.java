@@ -0,0 +1,15 @@
+package ltd.pdx.commons.mybatis.locking;
+
+/**
+ * 带乐观锁版本号的实体, 由生成器在表配置了versionColumn时生成实现.
+ * 按主键更新成功后数据库中的版本号已加1, OptimisticLocks同步把实体的版本号加1, 同一实体可以继续更新
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public interface Versioned {
+    /**
+     * 版本号加1, 版本号为null时不变
+     */
+    void incrementVersion();
+}
@@ -0,0 +1,162 @@
+package ltd.pdx.commons.mybatis.mapping;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 生成的RecordMapper的父类: 按列标签(不区分大小写, 与resultMap一致)确定列序号,
+ * 每个结果集只解析一次元数据, 之后按序号读取; 各get方法的取值方式与MyBatis对应的TypeHandler一致
+ *
+ * @param <T> 实体类型
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public abstract class AbstractRecordMapper<T> implements RecordMapper<T> {
+    private final Class<T> recordType;
+    private final int columnCount;
+    /**
+     * key为大写的列标签, value为mapRow中使用的列下标
+     */
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    /**
+     * @param recordType  实体类型
+     * @param columnNames 列标签, 顺序即mapRow中columns数组的下标
+     */
+    protected AbstractRecordMapper(final Class<T> recordType, final String[] columnNames) {
+        this.recordType = recordType;
+        this.columnCount = columnNames.length;
+        for (int i = 0; i < columnNames.length; i++) {
+            this.columnIndexes.put(columnNames[i].toUpperCase(Locale.ENGLISH), i);
+        }
+    }
+
+    @Override
+    public Class<T> getRecordType() {
+        return this.recordType;
+    }
+
+    @Override
+    public List<T> mapRows(final ResultSet rs) throws SQLException {
+        final int[] columns = this.getColumns(rs.getMetaData());
+        final List<T> records = new ArrayList<>();
+        while (rs.next()) {
+            records.add(this.mapRow(rs, columns));
+        }
+        return records;
+    }
+
+    /**
+     * 读取一行
+     *
+     * @param rs      结果集, 已定位到当前行
+     * @param columns 各列在结果集中的序号(从1开始), 结果集中没有的列为0
+     * @return 实体
+     * @throws SQLException 读取失败
+     */
+    protected abstract T mapRow(ResultSet rs, int[] columns) throws SQLException;
+
+    private int[] getColumns(final ResultSetMetaData metaData) throws SQLException {
+        final int[] columns = new int[this.columnCount];
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            final Integer index = this.columnIndexes.get(metaData.getColumnLabel(i).toUpperCase(Locale.ENGLISH));
+            // 同名的列取第一个, 与resultMap一致
+            if (index != null && columns[index] == 0) {
+                columns[index] = i;
+            }
+        }
+        return columns;
+    }
+
+    protected static String getString(final ResultSet rs, final int column) throws SQLException {
+        return rs.getString(column);
+    }
+
+    protected static Integer getInteger(final ResultSet rs, final int column) throws SQLException {
+        final int value = rs.getInt(column);
+        return value == 0 && rs.wasNull() ? null : value;
+    }
+
+    protected static Long getLong(final ResultSet rs, final int column) throws SQLException {
+        final long value = rs.getLong(column);
+        return value == 0 && rs.wasNull() ? null : value;
+    }
+
+    protected static Short getShort(final ResultSet rs, final int column) throws SQLException {
+        final short value = rs.getShort(column);
+        return value == 0 && rs.wasNull() ? null : value;
+    }
+
+    protected static Byte getByte(final ResultSet rs, final int column) throws SQLException {
+        final byte value = rs.getByte(column);
+        return value == 0 && rs.wasNull() ? null : value;
+    }
+
+    protected static Boolean getBoolean(final ResultSet rs, final int column) throws SQLException {
+        final boolean value = rs.getBoolean(column);
+        return !value && rs.wasNull() ? null : value;
+    }
+
+    protected static Double getDouble(final ResultSet rs, final int column) throws SQLException {
+        final double value = rs.getDouble(column);
+        return value == 0 && rs.wasNull() ? null : value;
+    }
+
+    protected static Float getFloat(final ResultSet rs, final int column) throws SQLException {
+        final float value = rs.getFloat(column);
+        return value == 0 && rs.wasNull() ? null : value;
+    }
+
+    protected static BigDecimal getBigDecimal(final ResultSet rs, final int column) throws SQLException {
+        return rs.getBigDecimal(column);
+    }
+
+    protected static byte[] getBytes(final ResultSet rs, final int column) throws SQLException {
+        return rs.getBytes(column);
+    }
+
+    protected static Date getDate(final ResultSet rs, final int column) throws SQLException {
+        final Timestamp value = rs.getTimestamp(column);
+        return value == null ? null : new Date(value.getTime());
+    }
+
+    protected static java.sql.Date getSqlDate(final ResultSet rs, final int column) throws SQLException {
+        return rs.getDate(column);
+    }
+
+    protected static Time getTime(final ResultSet rs, final int column) throws SQLException {
+        return rs.getTime(column);
+    }
+
+    protected static Timestamp getTimestamp(final ResultSet rs, final int column) throws SQLException {
+        return rs.getTimestamp(column);
+    }
+
+    protected static LocalDate getLocalDate(final ResultSet rs, final int column) throws SQLException {
+        final java.sql.Date value = rs.getDate(column);
+        return value == null ? null : value.toLocalDate();
+    }
+
+    protected static LocalTime getLocalTime(final ResultSet rs, final int column) throws SQLException {
+        final Time value = rs.getTime(column);
+        return value == null ? null : value.toLocalTime();
+    }
+
+    protected static LocalDateTime getLocalDateTime(final ResultSet rs, final int column) throws SQLException {
+        final Timestamp value = rs.getTimestamp(column);
+        return value == null ? null : value.toLocalDateTime();
+    }
+}
@@ -0,0 +1,67 @@
+package ltd.pdx.commons.mybatis.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 不使用反射的实体映射, 由生成器为每张表生成实现类(实体类名 + RecordMapper),
+ * RecordMapperPlugin按实体类型查找并替代MyBatis的结果映射和参数取值, BulkLoader用于序列化插入的数据
+ *
+ * @param <T> 实体类型
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public interface RecordMapper<T> {
+    /**
+     * getValue遇到不认识的属性时返回此值, 调用方应回退到MyBatis的默认处理
+     */
+    Object UNKNOWN_PROPERTY = new Object();
+
+    /**
+     * 实体类型
+     *
+     * @return 实体类型
+     */
+    Class<T> getRecordType();
+
+    /**
+     * 读取结果集的全部行, 不关闭结果集
+     *
+     * @param rs 结果集
+     * @return 实体列表
+     * @throws SQLException 读取失败
+     */
+    List<T> mapRows(ResultSet rs) throws SQLException;
+
+    /**
+     * 按属性名取值
+     *
+     * @param record   实体
+     * @param property 属性名
+     * @return 属性值, 不认识的属性返回UNKNOWN_PROPERTY
+     */
+    Object getValue(T record, String property);
+
+    /**
+     * 表名, 分表时为生成配置中的表名
+     *
+     * @return 表名
+     */
+    String getTableName();
+
+    /**
+     * 批量插入的列, 与batchInsert的列顺序一致(单个自增主键时不包含主键)
+     *
+     * @return 列名
+     */
+    String[] getInsertColumns();
+
+    /**
+     * 批量插入的值, 与getInsertColumns一一对应
+     *
+     * @param record 实体
+     * @return 列值
+     */
+    Object[] getInsertValues(T record);
+}
@@ -0,0 +1,229 @@
+package ltd.pdx.commons.mybatis.mapping;
+
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.plugin.*;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeException;
+import org.apache.ibatis.type.TypeHandler;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 使用生成的RecordMapper代替MyBatis基于MetaObject/Reflector的结果映射和参数取值:
+ * <ul>
+ * <li>结果: 语句只有一个生成的resultMap(BaseResultMap/ResultMapWithBLOBs), 且没有嵌套查询,
+ * 嵌套结果, 鉴别器和RowBounds/ResultHandler时, 由RecordMapper按列序号读取</li>
+ * <li>参数: #{record.x}, #{x}等参数通过RecordMapper按属性名取值, 再交给参数映射上的TypeHandler;
+ * 只要有一个参数取不到(如Example的条件), 整条语句回退到MyBatis的默认处理</li>
+ * </ul>
+ * 每条语句只通过MetaObject读取一次处理器的内部字段, 不再按行/按参数反射
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@Intercepts({
+        @Signature(
+                type = ResultSetHandler.class,
+                method = "handleResultSets",
+                args = {Statement.class}),
+        @Signature(
+                type = ParameterHandler.class,
+                method = "setParameters",
+                args = {PreparedStatement.class})
+})
+public class RecordMapperPlugin implements Interceptor {
+    private static final String[] RESULT_MAP_IDS = {".BaseResultMap", ".ResultMapWithBLOBs"};
+    /**
+     * key为MappedStatement的id
+     */
+    private static final Map<String, Optional<RecordMapper<Object>>> CACHE_MAP = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        if (invocation.getTarget() instanceof ResultSetHandler) {
+            return this.handleResultSets(invocation);
+        }
+        return this.setParameters(invocation);
+    }
+
+    private Object handleResultSets(final Invocation invocation) throws Throwable {
+        final Object resultSetHandler = RecordMapperPlugin.unwrap(invocation.getTarget());
+        if (!(resultSetHandler instanceof DefaultResultSetHandler)) {
+            return invocation.proceed();
+        }
+        final MetaObject metaObject = SystemMetaObject.forObject(resultSetHandler);
+        final MappedStatement mappedStatement = (MappedStatement) metaObject.getValue("mappedStatement");
+        final RecordMapper<Object> recordMapper = CACHE_MAP
+                .computeIfAbsent(mappedStatement.getId(), id -> RecordMapperPlugin.getRecordMapper(mappedStatement))
+                .orElse(null);
+        if (recordMapper == null || metaObject.getValue("resultHandler") != null) {
+            return invocation.proceed();
+        }
+        final RowBounds rowBounds = (RowBounds) metaObject.getValue("rowBounds");
+        if (rowBounds.getOffset() != RowBounds.NO_ROW_OFFSET || rowBounds.getLimit() != RowBounds.NO_ROW_LIMIT) {
+            return invocation.proceed();
+        }
+        final ResultSet rs = ((Statement) invocation.getArgs()[0]).getResultSet();
+        if (rs == null) {
+            return invocation.proceed();
+        }
+        try {
+            return recordMapper.mapRows(rs);
+        } finally {
+            rs.close();
+        }
+    }
+
+    private static Optional<RecordMapper<Object>> getRecordMapper(final MappedStatement mappedStatement) {
+        final List<ResultMap> resultMaps = mappedStatement.getResultMaps();
+        if (mappedStatement.getResultSets() != null || resultMaps.size() != 1) {
+            return Optional.empty();
+        }
+        final ResultMap resultMap = resultMaps.get(0);
+        if (resultMap.hasNestedQueries() || resultMap.hasNestedResultMaps() || resultMap.getDiscriminator() != null) {
+            return Optional.empty();
+        }
+        for (final String resultMapId : RESULT_MAP_IDS) {
+            if (resultMap.getId().endsWith(resultMapId)) {
+                return Optional.ofNullable(RecordMappers.get(RecordMapperPlugin.cast(resultMap.getType())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Object setParameters(final Invocation invocation) throws Throwable {
+        final ParameterHandler parameterHandler = (ParameterHandler) invocation.getTarget();
+        final Object parameterObject = parameterHandler.getParameterObject();
+        final Object defaultParameterHandler = RecordMapperPlugin.unwrap(parameterHandler);
+        if (!(defaultParameterHandler instanceof DefaultParameterHandler)) {
+            return invocation.proceed();
+        }
+        final MetaObject metaObject = SystemMetaObject.forObject(defaultParameterHandler);
+        final BoundSql boundSql = (BoundSql) metaObject.getValue("boundSql");
+        final Configuration configuration = (Configuration) metaObject.getValue("configuration");
+        final List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+        if (parameterObject == null || parameterMappings == null || parameterMappings.isEmpty()
+                || configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+            return invocation.proceed();
+        }
+
+        final Object[] values = new Object[parameterMappings.size()];
+        for (int i = 0; i < values.length; i++) {
+            final ParameterMapping parameterMapping = parameterMappings.get(i);
+            if (parameterMapping.getMode() != ParameterMode.IN) {
+                return invocation.proceed();
+            }
+            values[i] = RecordMapperPlugin.getValue(boundSql, parameterObject, parameterMapping.getProperty());
+            if (values[i] == RecordMapper.UNKNOWN_PROPERTY) {
+                return invocation.proceed();
+            }
+        }
+
+        final PreparedStatement ps = (PreparedStatement) invocation.getArgs()[0];
+        for (int i = 0; i < values.length; i++) {
+            final ParameterMapping parameterMapping = parameterMappings.get(i);
+            final TypeHandler<Object> typeHandler = RecordMapperPlugin.cast(parameterMapping.getTypeHandler());
+            JdbcType jdbcType = parameterMapping.getJdbcType();
+            if (values[i] == null && jdbcType == null) {
+                jdbcType = configuration.getJdbcTypeForNull();
+            }
+            try {
+                typeHandler.setParameter(ps, i + 1, values[i], jdbcType);
+            } catch (TypeException | SQLException e) {
+                throw new TypeException("Could not set parameters for mapping: " + parameterMapping + ". Cause: " + e, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 先注册的插件(如ChangeTrackingPlugin)包装同一类型时, 目标是Plugin代理, 逐层取出被代理的处理器
+     */
+    private static Object unwrap(final Object target) {
+        Object object = target;
+        while (Proxy.isProxyClass(object.getClass())) {
+            final InvocationHandler handler = Proxy.getInvocationHandler(object);
+            if (!(handler instanceof Plugin)) {
+                return object;
+            }
+            object = SystemMetaObject.forObject(handler).getValue("target");
+        }
+        return object;
+    }
+
+    /**
+     * 按DefaultParameterHandler的顺序取值: 附加参数(foreach等), Map参数, 参数对象本身
+     */
+    private static Object getValue(final BoundSql boundSql, final Object parameterObject, final String property) {
+        final int dot = property.indexOf('.');
+        final String name = dot < 0 ? property : property.substring(0, dot);
+        final Object value;
+        if (boundSql.hasAdditionalParameter(name)) {
+            value = boundSql.getAdditionalParameter(name);
+        } else if (parameterObject instanceof Map) {
+            final Map<?, ?> parameterMap = (Map<?, ?>) parameterObject;
+            if (!parameterMap.containsKey(name)) {
+                return RecordMapper.UNKNOWN_PROPERTY;
+            }
+            value = parameterMap.get(name);
+        } else {
+            return RecordMapperPlugin.getRecordValue(parameterObject, property);
+        }
+        return dot < 0 ? value : RecordMapperPlugin.getRecordValue(value, property.substring(dot + 1));
+    }
+
+    private static Object getRecordValue(final Object record, final String property) {
+        if (record == null) {
+            return null;
+        }
+        final RecordMapper<Object> recordMapper = RecordMappers.get(RecordMapperPlugin.cast(record.getClass()));
+        if (recordMapper == null) {
+            return RecordMapper.UNKNOWN_PROPERTY;
+        }
+        return recordMapper.getValue(record, property);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Object> cast(final Class<?> type) {
+        return (Class<Object>) type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeHandler<Object> cast(final TypeHandler<?> typeHandler) {
+        return (TypeHandler<Object>) typeHandler;
+    }
+
+    @Override
+    public Object plugin(final Object target) {
+        if (target instanceof ResultSetHandler || target instanceof ParameterHandler) {
+            return Plugin.wrap(target, this);
+        }
+        return target;
+    }
+
+    @Override
+    public void setProperties(final Properties properties) {
+    }
+}
@@ -0,0 +1,58 @@
+package ltd.pdx.commons.mybatis.mapping;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按实体类型查找RecordMapper: 实现类与实体同包, 类名为实体类名加RecordMapper后缀.
+ * 查找结果(包括找不到)按类型缓存, 也可以通过register手工注册
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public final class RecordMappers {
+    private static final String SUFFIX = "RecordMapper";
+    private static final Map<Class<?>, Optional<RecordMapper<?>>> CACHE_MAP = new ConcurrentHashMap<>();
+
+    private RecordMappers() {
+    }
+
+    /**
+     * 注册RecordMapper, 覆盖按类名查找的结果
+     *
+     * @param recordMapper RecordMapper
+     */
+    public static void register(final RecordMapper<?> recordMapper) {
+        CACHE_MAP.put(recordMapper.getRecordType(), Optional.<RecordMapper<?>>of(recordMapper));
+    }
+
+    /**
+     * 取实体类型的RecordMapper
+     *
+     * @param recordType 实体类型
+     * @param <T>        实体类型
+     * @return RecordMapper, 没有时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RecordMapper<T> get(final Class<T> recordType) {
+        return (RecordMapper<T>) CACHE_MAP.computeIfAbsent(recordType, RecordMappers::load).orElse(null);
+    }
+
+    private static Optional<RecordMapper<?>> load(final Class<?> recordType) {
+        try {
+            final Class<?> mapperType = Class.forName(recordType.getName() + SUFFIX, true,
+                    recordType.getClassLoader());
+            if (!RecordMapper.class.isAssignableFrom(mapperType)) {
+                return Optional.empty();
+            }
+            final RecordMapper<?> recordMapper = (RecordMapper<?>) mapperType.getDeclaredConstructor().newInstance();
+            if (recordMapper.getRecordType() != recordType) {
+                return Optional.empty();
+            }
+            return Optional.<RecordMapper<?>>of(recordMapper);
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
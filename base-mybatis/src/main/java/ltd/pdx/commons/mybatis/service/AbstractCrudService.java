@@ -3,6 +3,8 @@ package ltd.pdx.commons.mybatis.service;
 import ltd.pdx.commons.mybatis.data.CrudRepository;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 基本增删改查(CRUD)数据访问服务基类
@@ -34,7 +36,7 @@ public abstract class AbstractCrudService<Dao extends CrudRepository<Po, Example
 
     @Override
     public int editById(final Po record) {
-        return this.dao.updateById(record);
+        return OptimisticLocks.update(record, this.dao::updateById);
     }
 
     @Override
@@ -42,11 +44,26 @@ public abstract class AbstractCrudService<Dao extends CrudRepository<Po, Example
         return this.dao.updateByExample(record, example);
     }
 
+    @Override
+    public int editByExampleInChunks(final Po record, final Example example, final Chunking chunking) {
+        return Chunks.execute(chunking, limit -> this.dao.updateByExampleLimit(record, example, limit));
+    }
+
     @Override
     public int batchEdit(final List<Po> records) {
         return this.dao.batchUpdate(records);
     }
 
+    @Override
+    public List<Po> batchEditWithVersion(final List<Po> records) {
+        return OptimisticLocks.batchUpdate(records, this.dao::batchUpdate);
+    }
+
+    @Override
+    public int editWithRetry(final Supplier<Po> loader, final Consumer<Po> modifier, final int maxAttempts) {
+        return OptimisticLocks.retry(loader, modifier, this.dao::updateById, maxAttempts);
+    }
+
     @Override
     public int removeById(final Type id) {
         return this.dao.deleteById(id);
@@ -57,6 +74,11 @@ public abstract class AbstractCrudService<Dao extends CrudRepository<Po, Example
         return this.dao.deleteByExample(example);
     }
 
+    @Override
+    public int removeByExampleInChunks(final Example example, final Chunking chunking) {
+        return Chunks.execute(chunking, limit -> this.dao.deleteByExampleLimit(example, limit));
+    }
+
     @Override
     public int removeIn(final List<Po> records) {
         return this.dao.deleteIn(records);
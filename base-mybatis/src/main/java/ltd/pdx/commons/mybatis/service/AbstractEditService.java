@@ -4,6 +4,8 @@ import ltd.pdx.commons.mybatis.data.UpdateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @param <Dao>
@@ -19,7 +21,7 @@ public abstract class AbstractEditService<Dao extends UpdateRepository<Po, Examp
 
     @Override
     public int editById(final Po record) {
-        return this.dao.updateById(record);
+        return OptimisticLocks.update(record, this.dao::updateById);
     }
 
     @Override
@@ -27,8 +29,23 @@ public abstract class AbstractEditService<Dao extends UpdateRepository<Po, Examp
         return this.dao.updateByExample(record, example);
     }
 
+    @Override
+    public int editByExampleInChunks(final Po record, final Example example, final Chunking chunking) {
+        return Chunks.execute(chunking, limit -> this.dao.updateByExampleLimit(record, example, limit));
+    }
+
     @Override
     public int batchEdit(final List<Po> records) {
         return this.dao.batchUpdate(records);
     }
+
+    @Override
+    public List<Po> batchEditWithVersion(final List<Po> records) {
+        return OptimisticLocks.batchUpdate(records, this.dao::batchUpdate);
+    }
+
+    @Override
+    public int editWithRetry(final Supplier<Po> loader, final Consumer<Po> modifier, final int maxAttempts) {
+        return OptimisticLocks.retry(loader, modifier, this.dao::updateById, maxAttempts);
+    }
 }
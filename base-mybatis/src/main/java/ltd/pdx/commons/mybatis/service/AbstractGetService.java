@@ -22,7 +22,12 @@ public abstract class AbstractGetService<Dao extends SelectRepository<Po, Exampl
 
     @Override
     public boolean exists(final Example example) {
-        return this.dao.countByExample(example) > 0;
+        return this.dao.existsByExample(example) != null;
+    }
+
+    @Override
+    public boolean existsById(final Type id) {
+        return this.dao.existsById(id) != null;
     }
 
     @Override
@@ -28,6 +28,11 @@ public abstract class AbstractRemoveService<Dao extends DeleteRepository<Po, Exa
         return this.dao.deleteByExample(example);
     }
 
+    @Override
+    public int removeByExampleInChunks(final Example example, final Chunking chunking) {
+        return Chunks.execute(chunking, limit -> this.dao.deleteByExampleLimit(example, limit));
+    }
+
     @Override
     public int removeIn(final List<Po> records) {
         return this.dao.deleteIn(records);
@@ -0,0 +1,19 @@
+package ltd.pdx.commons.mybatis.service;
+
+/**
+ * 分批删除/更新的进度回调
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@FunctionalInterface
+public interface ChunkListener {
+    /**
+     * 每批执行完成后调用
+     *
+     * @param rows      本批影响的记录数
+     * @param totalRows 已影响的记录总数
+     * @return 是否继续执行下一批
+     */
+    boolean onChunk(int rows, int totalRows);
+}
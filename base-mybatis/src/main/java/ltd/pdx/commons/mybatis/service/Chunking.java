@@ -0,0 +1,38 @@
+package ltd.pdx.commons.mybatis.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 分批删除/更新的配置
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Chunking {
+    /**
+     * 未设置每批记录数时使用的值
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * 每批记录数, 小于等于0时使用DEFAULT_CHUNK_SIZE
+     */
+    private int chunkSize;
+
+    /**
+     * 两批之间的停顿毫秒数, 用于限流和降低主从延迟
+     */
+    private long pauseMillis;
+
+    /**
+     * 进度回调, 可为null
+     */
+    private ChunkListener listener;
+}
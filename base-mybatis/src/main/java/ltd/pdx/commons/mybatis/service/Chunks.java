@@ -0,0 +1,53 @@
+package ltd.pdx.commons.mybatis.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 分批执行删除/更新: 每批是一条带limit的语句, 在自动提交下即一个独立的短事务,
+ * 本批影响的记录数小于每批记录数, 或回调要求停止时结束
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@Slf4j
+public final class Chunks {
+    private Chunks() {
+    }
+
+    /**
+     * @param chunking 分批配置, 为null时使用默认配置
+     * @param chunk    执行一批, 参数为每批记录数, 返回本批影响的记录数
+     * @return 影响的记录总数
+     */
+    public static int execute(final Chunking chunking, final IntUnaryOperator chunk) {
+        //在事务中执行时所有批次属于同一个事务, 锁会一直持有到外层事务结束
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("chunked statements must not run inside a transaction");
+        }
+        final Chunking config = chunking == null ? new Chunking() : chunking;
+        final int chunkSize = config.getChunkSize() > 0 ? config.getChunkSize() : Chunking.DEFAULT_CHUNK_SIZE;
+        int totalRows = 0;
+        while (true) {
+            final int rows = chunk.applyAsInt(chunkSize);
+            totalRows += rows;
+            log.debug("Chunk Rows: [{}], Total Rows: [{}]", rows, totalRows);
+            if (config.getListener() != null && !config.getListener().onChunk(rows, totalRows)) {
+                return totalRows;
+            }
+            if (rows < chunkSize) {
+                return totalRows;
+            }
+            if (config.getPauseMillis() > 0) {
+                try {
+                    Thread.sleep(config.getPauseMillis());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return totalRows;
+                }
+            }
+        }
+    }
+}
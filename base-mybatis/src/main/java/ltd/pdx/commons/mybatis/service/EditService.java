@@ -1,6 +1,8 @@
 package ltd.pdx.commons.mybatis.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @param <T> Po
@@ -10,7 +12,7 @@ import java.util.List;
  */
 public interface EditService<T, U> {
     /**
-     * 根据主键更新用户信息
+     * 根据主键更新用户信息, 表有版本号时更新成功后记录的版本号加1
      *
      * @param record
      * @return 影响的记录数
@@ -27,8 +29,39 @@ public interface EditService<T, U> {
     int editByExample(T record, U example);
 
     /**
+     * 分批更新满足条件的记录, 每批一个短事务, 不能在事务中调用.
+     * 更新后的记录必须不再满足条件, 否则下一批会重复更新同一批记录
+     *
+     * @param record
+     * @param example
+     * @param chunking 分批配置
+     * @return 影响的记录数
+     */
+    int editByExampleInChunks(T record, U example, Chunking chunking);
+
+    /**
+     * 批量更新, 不知道每条记录是否更新到, 记录的版本号不会同步, 再次更新前需要重新加载
+     *
      * @param records
      * @return 影响的记录数
      */
     int batchEdit(List<T> records);
+
+    /**
+     * 批量更新并返回没有更新到的记录(版本号已变化或记录已删除), 表需要配置versionColumn并注册UpdateCountsPlugin
+     *
+     * @param records
+     * @return 没有更新到的记录
+     */
+    List<T> batchEditWithVersion(List<T> records);
+
+    /**
+     * 乐观锁更新: 加载记录, 修改后按主键和版本号更新, 版本冲突时重新加载并重试, 不能在事务中调用
+     *
+     * @param loader      加载最新的记录, 记录不存在时返回null
+     * @param modifier    修改记录
+     * @param maxAttempts 最多尝试次数
+     * @return 影响的记录数, 记录不存在时为0
+     */
+    int editWithRetry(Supplier<T> loader, Consumer<T> modifier, int maxAttempts);
 }
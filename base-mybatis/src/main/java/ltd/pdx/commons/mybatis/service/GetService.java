@@ -18,6 +18,14 @@ public interface GetService<T, U, K> {
      */
     boolean exists(U example);
 
+    /**
+     * 判断主键对应的数据是否存在
+     *
+     * @param id 主键id值
+     * @return 存在时为true
+     */
+    boolean existsById(K id);
+
     /**
      * 通过主键找出一条数据
      *
@@ -0,0 +1,117 @@
+package ltd.pdx.commons.mybatis.service;
+
+import lombok.extern.slf4j.Slf4j;
+import ltd.pdx.commons.mybatis.locking.UpdateCountsHolder;
+import ltd.pdx.commons.mybatis.locking.Versioned;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 乐观锁更新: 表配置了versionColumn时, 按主键更新会同时比较版本号并把版本号加1,
+ * 版本号不一致时影响的记录数为0. 更新成功后实体的版本号同步加1(实体实现Versioned时), 不必重新加载即可再次更新
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@Slf4j
+public final class OptimisticLocks {
+    private OptimisticLocks() {
+    }
+
+    /**
+     * 按主键更新, 更新成功后把实体的版本号加1, 与数据库保持一致
+     *
+     * @param record 要更新的记录
+     * @param update 按主键更新, 返回影响的记录数
+     * @param <T>    实体类型
+     * @return 影响的记录数
+     */
+    public static <T> int update(final T record, final ToIntFunction<T> update) {
+        final int rows = update.applyAsInt(record);
+        if (rows > 0) {
+            incrementVersion(record);
+        }
+        return rows;
+    }
+
+    /**
+     * 批量更新并返回没有更新到的记录(版本号已变化或记录已删除), 需要注册UpdateCountsPlugin.
+     * 更新到的记录版本号加1
+     *
+     * @param records     要更新的记录
+     * @param batchUpdate 执行批量更新
+     * @param <T>         实体类型
+     * @return 没有更新到的记录, 顺序与records一致
+     */
+    public static <T> List<T> batchUpdate(final List<T> records, final ToIntFunction<List<T>> batchUpdate) {
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+        UpdateCountsHolder.start();
+        try {
+            batchUpdate.applyAsInt(records);
+            final List<Integer> updateCounts = UpdateCountsHolder.getUpdateCounts();
+            if (updateCounts.size() != records.size()) {
+                throw new IllegalStateException("expected " + records.size() + " update counts but got "
+                        + updateCounts.size() + ", is UpdateCountsPlugin registered?");
+            }
+            final List<T> conflicts = new ArrayList<>();
+            for (int i = 0; i < records.size(); i++) {
+                if (updateCounts.get(i) == 0) {
+                    conflicts.add(records.get(i));
+                } else {
+                    incrementVersion(records.get(i));
+                }
+            }
+            return conflicts;
+        } finally {
+            UpdateCountsHolder.clear();
+        }
+    }
+
+    /**
+     * 加载记录并修改后按主键更新, 版本冲突时重新加载并重试.
+     * 每次尝试必须能读到最新提交的数据, 在可重复读的事务中重新加载读到的仍是事务开始时的快照, 所以不能在事务中调用
+     *
+     * @param loader      加载最新的记录, 记录不存在时返回null
+     * @param modifier    修改记录, 每次尝试都会调用, 不能有其它副作用
+     * @param update      按主键更新, 返回影响的记录数
+     * @param maxAttempts 最多尝试次数
+     * @param <T>         实体类型
+     * @return 影响的记录数, 记录不存在时为0
+     * @throws OptimisticLockingFailureException 尝试maxAttempts次后仍然版本冲突
+     */
+    public static <T> int retry(final Supplier<T> loader, final Consumer<T> modifier, final ToIntFunction<T> update,
+                                final int maxAttempts) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("optimistic lock retries must not run inside a transaction");
+        }
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            final T record = loader.get();
+            if (record == null) {
+                return 0;
+            }
+            modifier.accept(record);
+            final int rows = update(record, update);
+            if (rows > 0) {
+                return rows;
+            }
+            log.debug("Optimistic Lock Conflict, Attempt: [{}] of [{}]", attempt, maxAttempts);
+        }
+        throw new OptimisticLockingFailureException("record is still modified concurrently after "
+                + maxAttempts + " attempts");
+    }
+
+    private static void incrementVersion(final Object record) {
+        if (record instanceof Versioned) {
+            ((Versioned) record).incrementVersion();
+        }
+    }
+}
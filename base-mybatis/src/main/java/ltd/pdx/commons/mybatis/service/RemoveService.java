@@ -22,6 +22,15 @@ public interface RemoveService<T, U, K> {
      */
     int removeByExample(U example);
 
+    /**
+     * 分批删除满足条件的记录, 每批一个短事务, 不能在事务中调用
+     *
+     * @param example
+     * @param chunking 分批配置
+     * @return 影响的记录数
+     */
+    int removeByExampleInChunks(U example, Chunking chunking);
+
     /**
      * @param records
      * @return
@@ -32,6 +32,18 @@ public interface UpdateRepository<T, U> {
     int updateByExample(@Param("record") T record, @Param("example") U example,
                         @Param("shardTable") ShardTable shardTable);
 
+    /**
+     * 按主键顺序更新满足条件的前limit条记录, 用于分批更新
+     *
+     * @param record     pojo记录
+     * @param example
+     * @param limit      最多更新的记录数
+     * @param shardTable 分表对象
+     * @return 影响的记录数
+     */
+    int updateByExampleLimit(@Param("record") T record, @Param("example") U example, @Param("limit") int limit,
+                             @Param("shardTable") ShardTable shardTable);
+
     /**
      * @param records    pojo记录集
      * @param shardTable 分表对象
@@ -1,9 +1,14 @@
 package ltd.pdx.commons.mybatis.sharding.service;
 
+import ltd.pdx.commons.mybatis.service.Chunking;
+import ltd.pdx.commons.mybatis.service.Chunks;
+import ltd.pdx.commons.mybatis.service.OptimisticLocks;
 import ltd.pdx.commons.mybatis.sharding.ShardTable;
 import ltd.pdx.commons.mybatis.sharding.data.CrudRepository;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 基本增删改查(CRUD)数据访问服务基类
@@ -35,7 +40,7 @@ public abstract class AbstractCrudService<Dao extends CrudRepository<Po, Example
 
     @Override
     public int editById(final Po record, final ShardTable shardTable) {
-        return this.dao.updateById(record, shardTable);
+        return OptimisticLocks.update(record, entity -> this.dao.updateById(entity, shardTable));
     }
 
     @Override
@@ -43,11 +48,28 @@ public abstract class AbstractCrudService<Dao extends CrudRepository<Po, Example
         return this.dao.updateByExample(record, example, shardTable);
     }
 
+    @Override
+    public int editByExampleInChunks(final Po record, final Example example, final Chunking chunking,
+                                     final ShardTable shardTable) {
+        return Chunks.execute(chunking, limit -> this.dao.updateByExampleLimit(record, example, limit, shardTable));
+    }
+
     @Override
     public int batchEdit(final List<Po> records, final ShardTable shardTable) {
         return this.dao.batchUpdate(records, shardTable);
     }
 
+    @Override
+    public List<Po> batchEditWithVersion(final List<Po> records, final ShardTable shardTable) {
+        return OptimisticLocks.batchUpdate(records, list -> this.dao.batchUpdate(list, shardTable));
+    }
+
+    @Override
+    public int editWithRetry(final Supplier<Po> loader, final Consumer<Po> modifier, final int maxAttempts,
+                             final ShardTable shardTable) {
+        return OptimisticLocks.retry(loader, modifier, record -> this.dao.updateById(record, shardTable), maxAttempts);
+    }
+
     @Override
     public int removeById(final Type id, final ShardTable shardTable) {
         return this.dao.deleteById(id, shardTable);
@@ -58,6 +80,11 @@ public abstract class AbstractCrudService<Dao extends CrudRepository<Po, Example
         return this.dao.deleteByExample(example, shardTable);
     }
 
+    @Override
+    public int removeByExampleInChunks(final Example example, final Chunking chunking, final ShardTable shardTable) {
+        return Chunks.execute(chunking, limit -> this.dao.deleteByExampleLimit(example, limit, shardTable));
+    }
+
     @Override
     public int removeIn(final List<Po> records, final ShardTable shardTable) {
         return this.dao.deleteIn(records, shardTable);
@@ -1,10 +1,15 @@
 package ltd.pdx.commons.mybatis.sharding.service;
 
+import ltd.pdx.commons.mybatis.service.Chunking;
+import ltd.pdx.commons.mybatis.service.Chunks;
+import ltd.pdx.commons.mybatis.service.OptimisticLocks;
 import ltd.pdx.commons.mybatis.sharding.ShardTable;
 import ltd.pdx.commons.mybatis.sharding.data.UpdateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @param <Dao>
@@ -20,7 +25,7 @@ public abstract class AbstractEditService<Dao extends UpdateRepository<Po, Examp
 
     @Override
     public int editById(final Po record, final ShardTable shardTable) {
-        return this.dao.updateById(record, shardTable);
+        return OptimisticLocks.update(record, entity -> this.dao.updateById(entity, shardTable));
     }
 
     @Override
@@ -28,8 +33,25 @@ public abstract class AbstractEditService<Dao extends UpdateRepository<Po, Examp
         return this.dao.updateByExample(record, example, shardTable);
     }
 
+    @Override
+    public int editByExampleInChunks(final Po record, final Example example, final Chunking chunking,
+                                     final ShardTable shardTable) {
+        return Chunks.execute(chunking, limit -> this.dao.updateByExampleLimit(record, example, limit, shardTable));
+    }
+
     @Override
     public int batchEdit(final List<Po> records, final ShardTable shardTable) {
         return this.dao.batchUpdate(records, shardTable);
     }
+
+    @Override
+    public List<Po> batchEditWithVersion(final List<Po> records, final ShardTable shardTable) {
+        return OptimisticLocks.batchUpdate(records, list -> this.dao.batchUpdate(list, shardTable));
+    }
+
+    @Override
+    public int editWithRetry(final Supplier<Po> loader, final Consumer<Po> modifier, final int maxAttempts,
+                             final ShardTable shardTable) {
+        return OptimisticLocks.retry(loader, modifier, record -> this.dao.updateById(record, shardTable), maxAttempts);
+    }
 }
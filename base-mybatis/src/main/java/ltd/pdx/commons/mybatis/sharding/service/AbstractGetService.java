@@ -23,7 +23,12 @@ public abstract class AbstractGetService<Dao extends SelectRepository<Po, Exampl
 
     @Override
     public boolean exists(final Example example, final ShardTable shardTable) {
-        return this.dao.countByExample(example, shardTable) > 0;
+        return this.dao.existsByExample(example, shardTable) != null;
+    }
+
+    @Override
+    public boolean existsById(final Type id, final ShardTable shardTable) {
+        return this.dao.existsById(id, shardTable) != null;
     }
 
     @Override
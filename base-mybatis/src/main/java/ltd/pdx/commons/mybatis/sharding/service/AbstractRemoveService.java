@@ -1,5 +1,7 @@
 package ltd.pdx.commons.mybatis.sharding.service;
 
+import ltd.pdx.commons.mybatis.service.Chunking;
+import ltd.pdx.commons.mybatis.service.Chunks;
 import ltd.pdx.commons.mybatis.sharding.ShardTable;
 import ltd.pdx.commons.mybatis.sharding.data.DeleteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +31,11 @@ public abstract class AbstractRemoveService<Dao extends DeleteRepository<Po, Exa
         return this.dao.deleteByExample(example, shardTable);
     }
 
+    @Override
+    public int removeByExampleInChunks(final Example example, final Chunking chunking, final ShardTable shardTable) {
+        return Chunks.execute(chunking, limit -> this.dao.deleteByExampleLimit(example, limit, shardTable));
+    }
+
     @Override
     public int removeIn(final List<Po> records, final ShardTable shardTable) {
         return this.dao.deleteIn(records, shardTable);
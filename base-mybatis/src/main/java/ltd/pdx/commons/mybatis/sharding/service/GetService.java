@@ -19,6 +19,15 @@ public interface GetService<T, U, K> {
      */
     boolean exists(U example, ShardTable shardTable);
 
+    /**
+     * 判断主键对应的数据是否存在
+     *
+     * @param id         主键id值
+     * @param shardTable 分表对象
+     * @return 存在时为true
+     */
+    boolean existsById(K id, ShardTable shardTable);
+
     /**
      * 通过主键找出一条数据
      *
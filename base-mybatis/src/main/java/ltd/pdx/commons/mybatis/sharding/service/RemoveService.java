@@ -1,5 +1,6 @@
 package ltd.pdx.commons.mybatis.sharding.service;
 
+import ltd.pdx.commons.mybatis.service.Chunking;
 import ltd.pdx.commons.mybatis.sharding.ShardTable;
 
 import java.util.List;
@@ -26,6 +27,16 @@ public interface RemoveService<T, U, K> {
      */
     int removeByExample(U example, ShardTable shardTable);
 
+    /**
+     * 分批删除满足条件的记录, 每批一个短事务, 不能在事务中调用
+     *
+     * @param example    pojo记录
+     * @param chunking   分批配置
+     * @param shardTable 分表对象
+     * @return 影响的记录数
+     */
+    int removeByExampleInChunks(U example, Chunking chunking, ShardTable shardTable);
+
     /**
      * @param records    pojo记录集
      * @param shardTable 分表对象
@@ -0,0 +1,24 @@
+package ltd.pdx.commons.mybatis.tracking;
+
+import java.util.BitSet;
+
+/**
+ * 记录被修改过的列的实体, 由生成器在开启trackChanges时生成实现.
+ * 每个setter在掩码中置位, updateChangedById只更新置位的列
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public interface ChangeTracked {
+    /**
+     * 取被修改过的列, 不用get前缀, 掩码不作为bean属性被序列化
+     *
+     * @return 列掩码, 位序号为列在表中的序号, 未修改时为null
+     */
+    BitSet changedColumns();
+
+    /**
+     * 清除修改记录, 查询结果由ChangeTrackingPlugin清除, 更新成功后也应调用
+     */
+    void clearChangedColumns();
+}
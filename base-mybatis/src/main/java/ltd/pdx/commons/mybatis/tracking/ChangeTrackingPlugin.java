@@ -0,0 +1,49 @@
+package ltd.pdx.commons.mybatis.tracking;
+
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.plugin.*;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 查询结果映射时MyBatis通过setter赋值, 会把所有列记为已修改;
+ * 本插件在结果映射完成后清除修改记录, 之后的updateChangedById只更新业务代码修改过的列
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+@Intercepts({
+        @Signature(
+                type = ResultSetHandler.class,
+                method = "handleResultSets",
+                args = {Statement.class})
+})
+public class ChangeTrackingPlugin implements Interceptor {
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        final Object result = invocation.proceed();
+        if (result instanceof List) {
+            for (final Object element : (List<?>) result) {
+                if (element instanceof ChangeTracked) {
+                    ((ChangeTracked) element).clearChangedColumns();
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Object plugin(final Object target) {
+        if (target instanceof ResultSetHandler) {
+            return Plugin.wrap(target, this);
+        }
+        return target;
+    }
+
+    @Override
+    public void setProperties(final Properties properties) {
+    }
+}
@@ -0,0 +1,132 @@
+package ltd.pdx.commons.mybatis.bulk;
+
+import ltd.pdx.commons.mybatis.data.InsertRepository;
+import ltd.pdx.commons.mybatis.fixture.H2Database;
+import ltd.pdx.commons.mybatis.fixture.Item;
+import ltd.pdx.commons.mybatis.fixture.ItemMapper;
+import ltd.pdx.commons.mybatis.readwrite.DynamicDataSourceHolder;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public class BulkLoaderTest {
+    private DataSource dataSource;
+    private SqlSession sqlSession;
+    private ItemMapper itemMapper;
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        this.dataSource = H2Database.create("bulk_loader");
+        this.sqlSession = H2Database.sqlSessionFactory(this.dataSource).openSession(true);
+        this.itemMapper = this.sqlSession.getMapper(ItemMapper.class);
+        this.chunkSizes.clear();
+    }
+
+    @After
+    public void tearDown() {
+        this.sqlSession.close();
+        DynamicDataSourceHolder.clearDataSource();
+    }
+
+    @Test
+    public void escapesSeparatorsAndBackslashes() {
+        assertEquals("a\\tb\tc\\nd\te\\\\f\tg\\0h\ti\\rj\t\\\\N\t中文\n",
+                BulkLoaderTest.writeRow("a\tb", "c\nd", "e\\f", "g\0h", "i\rj", "\\N", "中文"));
+    }
+
+    @Test
+    public void writesNullAsBackslashN() {
+        assertEquals("\\N\t\t\\N\n", BulkLoaderTest.writeRow(null, "", null));
+    }
+
+    @Test
+    public void formatsNonStringValues() {
+        assertEquals("1\t0\t1000\t2026-10-18 12:30:00.0\t2026-10-18 12:30:00.0\tx\\0\\t\n",
+                BulkLoaderTest.writeRow(true, false, new BigDecimal("1E+3"),
+                        Timestamp.valueOf("2026-10-18 12:30:00"), LocalDateTime.of(2026, 10, 18, 12, 30),
+                        new byte[]{'x', 0, '\t'}));
+    }
+
+    @Test
+    public void fallsBackToBatchInsertInChunks() throws Exception {
+        final int rows = new BulkLoader(this.dataSource, 2).load(Item.class, BulkLoaderTest.items(5).iterator(),
+                this.countingRepository());
+        assertEquals(5, rows);
+        assertEquals(Arrays.asList(2, 2, 1), this.chunkSizes);
+        assertEquals(5, H2Database.queryForInt(this.dataSource, "select count(*) from item"));
+        assertEquals("item5", H2Database.queryForString(this.dataSource, "select name from item where id = 5"));
+    }
+
+    @Test
+    public void doesNotInsertAnEmptyChunkAtTheBoundary() throws Exception {
+        final int rows = new BulkLoader(this.dataSource, 2).load(Item.class, BulkLoaderTest.items(4).iterator(),
+                this.countingRepository());
+        assertEquals(4, rows);
+        assertEquals(Arrays.asList(2, 2), this.chunkSizes);
+        assertEquals(4, H2Database.queryForInt(this.dataSource, "select count(*) from item"));
+    }
+
+    @Test
+    public void insertsNothingWithoutRecords() {
+        final int rows = new BulkLoader(this.dataSource, 2).load(Item.class, Collections.<Item>emptyIterator(),
+                this.countingRepository());
+        assertEquals(0, rows);
+        assertEquals(Collections.emptyList(), this.chunkSizes);
+    }
+
+    private static String writeRow(final Object... values) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BulkLoader.writeRow(out, values);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static List<Item> items(final int count) {
+        final List<Item> items = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            items.add(new Item(i, "item" + i, 0));
+        }
+        return items;
+    }
+
+    /**
+     * 记录每次batchInsert的记录数, BulkLoader会复用传入的列表, 只能在调用时读取
+     */
+    private InsertRepository<Item> countingRepository() {
+        return new InsertRepository<Item>() {
+            @Override
+            public int insert(final Item record) {
+                return BulkLoaderTest.this.itemMapper.insert(record);
+            }
+
+            @Override
+            public int batchInsert(final List<Item> records) {
+                BulkLoaderTest.this.chunkSizes.add(records.size());
+                return BulkLoaderTest.this.itemMapper.batchInsert(records);
+            }
+
+            @Override
+            public int batchInsertOnDuplicateKey(final List<Item> records) {
+                return BulkLoaderTest.this.itemMapper.batchInsertOnDuplicateKey(records);
+            }
+        };
+    }
+}
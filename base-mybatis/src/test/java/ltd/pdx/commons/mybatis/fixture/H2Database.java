@@ -0,0 +1,90 @@
+package ltd.pdx.commons.mybatis.fixture;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * MySQL兼容模式的H2内存库, 每次create重建item表
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public final class H2Database {
+    private static final String MAPPER_RESOURCE = "ltd/pdx/commons/mybatis/fixture/ItemMapper.xml";
+
+    private H2Database() {
+    }
+
+    /**
+     * @param name 库名, 各测试类使用不同的库
+     * @return 数据源
+     * @throws SQLException 建表失败
+     */
+    public static DataSource create(final String name) throws SQLException {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        H2Database.execute(dataSource, "drop table if exists item");
+        H2Database.execute(dataSource, "create table item (id int primary key, name varchar(64), version int)");
+        return dataSource;
+    }
+
+    /**
+     * @param dataSource   数据源
+     * @param interceptors 插件, 按顺序注册, 后注册的包装先注册的
+     * @return SqlSessionFactory
+     * @throws IOException 读取ItemMapper.xml失败
+     */
+    public static SqlSessionFactory sqlSessionFactory(final DataSource dataSource, final Interceptor... interceptors)
+            throws IOException {
+        final Configuration configuration = new Configuration(
+                new Environment("h2", new JdbcTransactionFactory(), dataSource));
+        for (final Interceptor interceptor : interceptors) {
+            configuration.addInterceptor(interceptor);
+        }
+        try (InputStream in = Resources.getResourceAsStream(MAPPER_RESOURCE)) {
+            new XMLMapperBuilder(in, configuration, MAPPER_RESOURCE, configuration.getSqlFragments()).parse();
+        }
+        return new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    public static int execute(final DataSource dataSource, final String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(sql);
+        }
+    }
+
+    public static int queryForInt(final DataSource dataSource, final String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    public static String queryForString(final DataSource dataSource, final String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ltd.pdx.commons.mybatis.fixture;
+
+import ltd.pdx.commons.mybatis.locking.Versioned;
+
+/**
+ * 测试用实体, 对应H2Database创建的item表
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public class Item implements Versioned {
+    private Integer id;
+    private String name;
+    private Integer version;
+
+    public Item() {
+    }
+
+    public Item(final Integer id, final String name, final Integer version) {
+        this.id = id;
+        this.name = name;
+        this.version = version;
+    }
+
+    public Integer getId() {
+        return this.id;
+    }
+
+    public void setId(final Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public Integer getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(final Integer version) {
+        this.version = version;
+    }
+
+    @Override
+    public void incrementVersion() {
+        if (this.version != null) {
+            this.version++;
+        }
+    }
+}
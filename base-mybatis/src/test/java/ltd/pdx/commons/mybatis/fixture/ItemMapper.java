@@ -0,0 +1,22 @@
+package ltd.pdx.commons.mybatis.fixture;
+
+import ltd.pdx.commons.mybatis.data.InsertRepository;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 测试用Mapper, 语句见ItemMapper.xml
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public interface ItemMapper extends InsertRepository<Item> {
+    Item selectById(@Param("id") Integer id);
+
+    List<Item> selectAll();
+
+    List<String> selectNames();
+
+    int updateById(@Param("record") Item record);
+}
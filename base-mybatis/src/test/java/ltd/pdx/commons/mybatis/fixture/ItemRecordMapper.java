@@ -0,0 +1,81 @@
+package ltd.pdx.commons.mybatis.fixture;
+
+import ltd.pdx.commons.mybatis.mapping.AbstractRecordMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 与生成器生成的RecordMapper一致, 另外记录调用次数, 用于判断是否走了RecordMapper
+ *
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public class ItemRecordMapper extends AbstractRecordMapper<Item> {
+    private final AtomicInteger mappedRows = new AtomicInteger();
+    private final AtomicInteger readValues = new AtomicInteger();
+
+    public ItemRecordMapper() {
+        super(Item.class, new String[]{"id", "name", "version"});
+    }
+
+    @Override
+    protected Item mapRow(final ResultSet rs, final int[] columns) throws SQLException {
+        this.mappedRows.incrementAndGet();
+        final Item record = new Item();
+        if (columns[0] > 0) {
+            record.setId(getInteger(rs, columns[0]));
+        }
+        if (columns[1] > 0) {
+            record.setName(getString(rs, columns[1]));
+        }
+        if (columns[2] > 0) {
+            record.setVersion(getInteger(rs, columns[2]));
+        }
+        return record;
+    }
+
+    @Override
+    public Object getValue(final Item record, final String property) {
+        this.readValues.incrementAndGet();
+        switch (property) {
+            case "id":
+                return record.getId();
+            case "name":
+                return record.getName();
+            case "version":
+                return record.getVersion();
+            default:
+                return UNKNOWN_PROPERTY;
+        }
+    }
+
+    @Override
+    public String getTableName() {
+        return "item";
+    }
+
+    @Override
+    public String[] getInsertColumns() {
+        return new String[]{"id", "name", "version"};
+    }
+
+    @Override
+    public Object[] getInsertValues(final Item record) {
+        return new Object[]{record.getId(), record.getName(), record.getVersion()};
+    }
+
+    public int getMappedRows() {
+        return this.mappedRows.get();
+    }
+
+    public int getReadValues() {
+        return this.readValues.get();
+    }
+
+    public void reset() {
+        this.mappedRows.set(0);
+        this.readValues.set(0);
+    }
+}
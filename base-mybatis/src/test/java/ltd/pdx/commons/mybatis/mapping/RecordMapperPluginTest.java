@@ -0,0 +1,105 @@
+package ltd.pdx.commons.mybatis.mapping;
+
+import ltd.pdx.commons.mybatis.fixture.H2Database;
+import ltd.pdx.commons.mybatis.fixture.Item;
+import ltd.pdx.commons.mybatis.fixture.ItemMapper;
+import ltd.pdx.commons.mybatis.fixture.ItemRecordMapper;
+import ltd.pdx.commons.mybatis.tracking.ChangeTrackingPlugin;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public class RecordMapperPluginTest {
+    private DataSource dataSource;
+    private ItemRecordMapper recordMapper;
+
+    @Before
+    public void setUp() throws Exception {
+        this.dataSource = H2Database.create("record_mapper_plugin");
+        H2Database.execute(this.dataSource, "insert into item (id, name, version) values (1, 'first', 0), (2, 'second', 0)");
+        // 与生成的RecordMapper一样按类名找到
+        this.recordMapper = (ItemRecordMapper) RecordMappers.get(Item.class);
+        this.recordMapper.reset();
+    }
+
+    @Test
+    public void mapsResultsAndParametersWithTheRecordMapper() throws Exception {
+        try (SqlSession sqlSession = this.openSession(new RecordMapperPlugin())) {
+            final ItemMapper itemMapper = sqlSession.getMapper(ItemMapper.class);
+            final Item item = itemMapper.selectById(1);
+            assertEquals("first", item.getName());
+            assertEquals(Integer.valueOf(0), item.getVersion());
+            assertEquals(1, this.recordMapper.getMappedRows());
+
+            item.setName("renamed");
+            assertEquals(1, itemMapper.updateById(item));
+            assertEquals(3, this.recordMapper.getReadValues());
+        }
+        assertEquals("renamed", H2Database.queryForString(this.dataSource, "select name from item where id = 1"));
+    }
+
+    @Test
+    public void readsForeachItemsWithTheRecordMapper() throws Exception {
+        try (SqlSession sqlSession = this.openSession(new RecordMapperPlugin())) {
+            final ItemMapper itemMapper = sqlSession.getMapper(ItemMapper.class);
+            assertEquals(2, itemMapper.batchInsert(Arrays.asList(new Item(3, "third", 0), new Item(4, null, 0))));
+            assertEquals(6, this.recordMapper.getReadValues());
+        }
+        assertEquals(4, H2Database.queryForInt(this.dataSource, "select count(*) from item"));
+    }
+
+    @Test
+    public void unwrapsHandlersWrappedByOtherPlugins() throws Exception {
+        // 后注册的RecordMapperPlugin拿到的是ChangeTrackingPlugin的代理
+        try (SqlSession sqlSession = this.openSession(new ChangeTrackingPlugin(), new RecordMapperPlugin())) {
+            final List<Item> items = sqlSession.getMapper(ItemMapper.class).selectAll();
+            assertEquals(2, items.size());
+            assertEquals("second", items.get(1).getName());
+            assertEquals(2, this.recordMapper.getMappedRows());
+        }
+    }
+
+    @Test
+    public void fallsBackForRowBounds() throws Exception {
+        try (SqlSession sqlSession = this.openSession(new RecordMapperPlugin())) {
+            final List<Item> items = sqlSession.selectList(ItemMapper.class.getName() + ".selectAll", null,
+                    new RowBounds(1, 1));
+            assertEquals(1, items.size());
+            assertEquals("second", items.get(0).getName());
+            assertEquals(0, this.recordMapper.getMappedRows());
+        }
+    }
+
+    @Test
+    public void fallsBackForOtherResultMaps() throws Exception {
+        try (SqlSession sqlSession = this.openSession(new RecordMapperPlugin())) {
+            assertEquals(Arrays.asList("first", "second"), sqlSession.getMapper(ItemMapper.class).selectNames());
+            assertEquals(0, this.recordMapper.getMappedRows());
+        }
+    }
+
+    @Test
+    public void fallsBackWithoutPlugin() throws Exception {
+        try (SqlSession sqlSession = this.openSession()) {
+            assertEquals("first", sqlSession.getMapper(ItemMapper.class).selectById(1).getName());
+            assertEquals(0, this.recordMapper.getMappedRows());
+            assertEquals(0, this.recordMapper.getReadValues());
+        }
+    }
+
+    private SqlSession openSession(final Interceptor... interceptors) throws Exception {
+        return H2Database.sqlSessionFactory(this.dataSource, interceptors).openSession(true);
+    }
+}
@@ -0,0 +1,95 @@
+package ltd.pdx.commons.mybatis.service;
+
+import ltd.pdx.commons.mybatis.fixture.H2Database;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public class ChunksTest {
+    private DataSource dataSource;
+    private final List<Integer> limits = new ArrayList<>();
+    private final List<Integer> chunkRows = new ArrayList<>();
+
+    @Before
+    public void setUp() throws SQLException {
+        this.dataSource = H2Database.create("chunks");
+        H2Database.execute(this.dataSource,
+                "insert into item (id, name, version) select x, concat('item', x), 0 from system_range(1, 25)");
+        this.limits.clear();
+        this.chunkRows.clear();
+    }
+
+    @Test
+    public void stopsAtTheFirstChunkThatIsNotFull() throws SQLException {
+        final int rows = Chunks.execute(Chunking.builder().chunkSize(10).build(), this::deleteChunk);
+        assertEquals(25, rows);
+        assertEquals(Arrays.asList(10, 10, 5), this.chunkRows);
+        assertEquals(0, H2Database.queryForInt(this.dataSource, "select count(*) from item"));
+    }
+
+    @Test
+    public void needsAnEmptyChunkWhenTheRowsAreAMultipleOfTheChunkSize() {
+        final int rows = Chunks.execute(Chunking.builder().chunkSize(5).build(), this::deleteChunk);
+        assertEquals(25, rows);
+        assertEquals(Arrays.asList(5, 5, 5, 5, 5, 0), this.chunkRows);
+    }
+
+    @Test
+    public void stopsWhenTheListenerReturnsFalse() throws SQLException {
+        final List<Integer> totals = new ArrayList<>();
+        final Chunking chunking = Chunking.builder()
+                .chunkSize(10)
+                .listener((rows, totalRows) -> {
+                    totals.add(totalRows);
+                    return totalRows < 20;
+                })
+                .build();
+        assertEquals(20, Chunks.execute(chunking, this::deleteChunk));
+        assertEquals(Arrays.asList(10, 20), totals);
+        assertEquals(5, H2Database.queryForInt(this.dataSource, "select count(*) from item"));
+    }
+
+    @Test
+    public void usesTheDefaultChunkSizeWhenNotSet() {
+        assertEquals(25, Chunks.execute(new Chunking(), this::deleteChunk));
+        assertEquals(0, Chunks.execute(null, this::deleteChunk));
+        assertEquals(Arrays.asList(Chunking.DEFAULT_CHUNK_SIZE, Chunking.DEFAULT_CHUNK_SIZE), this.limits);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsTransactions() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            Chunks.execute(null, this::deleteChunk);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private int deleteChunk(final int limit) {
+        this.limits.add(limit);
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("delete from item limit ?")) {
+            ps.setInt(1, limit);
+            final int rows = ps.executeUpdate();
+            this.chunkRows.add(rows);
+            return rows;
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package ltd.pdx.commons.mybatis.service;
+
+import ltd.pdx.commons.mybatis.fixture.H2Database;
+import ltd.pdx.commons.mybatis.fixture.Item;
+import ltd.pdx.commons.mybatis.fixture.ItemMapper;
+import ltd.pdx.commons.mybatis.locking.UpdateCountsHolder;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author pdx-team
+ * @date 2026/10/18
+ */
+public class OptimisticLocksTest {
+    private DataSource dataSource;
+    private SqlSession sqlSession;
+    private ItemMapper itemMapper;
+
+    @Before
+    public void setUp() throws Exception {
+        this.dataSource = H2Database.create("optimistic_locks");
+        H2Database.execute(this.dataSource, "insert into item (id, name, version) values (1, 'first', 0), (2, 'second', 0)");
+        this.sqlSession = H2Database.sqlSessionFactory(this.dataSource).openSession(true);
+        this.itemMapper = this.sqlSession.getMapper(ItemMapper.class);
+    }
+
+    @After
+    public void tearDown() {
+        this.sqlSession.close();
+    }
+
+    @Test
+    public void incrementsTheVersionOfAnUpdatedRecord() throws SQLException {
+        final Item item = this.itemMapper.selectById(1);
+        item.setName("renamed");
+        assertEquals(1, OptimisticLocks.update(item, this.itemMapper::updateById));
+        assertEquals(Integer.valueOf(1), item.getVersion());
+
+        // 版本号已同步, 不重新加载也能再次更新
+        item.setName("renamed again");
+        assertEquals(1, OptimisticLocks.update(item, this.itemMapper::updateById));
+        assertEquals(Integer.valueOf(2), item.getVersion());
+        assertEquals(2, H2Database.queryForInt(this.dataSource, "select version from item where id = 1"));
+    }
+
+    @Test
+    public void keepsTheVersionOfAStaleRecord() throws SQLException {
+        final Item item = this.itemMapper.selectById(1);
+        this.modifyConcurrently(1);
+        assertEquals(0, OptimisticLocks.update(item, this.itemMapper::updateById));
+        assertEquals(Integer.valueOf(0), item.getVersion());
+    }
+
+    @Test
+    public void returnsTheConflictsOfABatchUpdate() throws SQLException {
+        final Item first = this.itemMapper.selectById(1);
+        final Item second = this.itemMapper.selectById(2);
+        this.modifyConcurrently(2);
+
+        final List<Item> conflicts = OptimisticLocks.batchUpdate(Arrays.asList(first, second), this::updateEach);
+        assertEquals(1, conflicts.size());
+        assertSame(second, conflicts.get(0));
+        assertEquals(Integer.valueOf(1), first.getVersion());
+        assertEquals(Integer.valueOf(0), second.getVersion());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsABatchUpdateWithoutUpdateCounts() {
+        OptimisticLocks.batchUpdate(Arrays.asList(new Item(1, "first", 0), new Item(2, "second", 0)), records -> 1);
+    }
+
+    @Test
+    public void retriesAfterAConflict() throws SQLException {
+        final AtomicInteger attempts = new AtomicInteger();
+        final int rows = OptimisticLocks.retry(() -> this.itemMapper.selectById(1), item -> {
+            if (attempts.incrementAndGet() == 1) {
+                this.modifyConcurrently(1);
+            }
+            item.setName("retried");
+        }, this.itemMapper::updateById, 3);
+        assertEquals(1, rows);
+        assertEquals(2, attempts.get());
+        assertEquals("retried", H2Database.queryForString(this.dataSource, "select name from item where id = 1"));
+    }
+
+    @Test
+    public void returnsZeroWhenTheRecordIsGone() {
+        assertEquals(0, OptimisticLocks.retry(() -> this.itemMapper.selectById(3), item -> item.setName("missing"),
+                this.itemMapper::updateById, 3));
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void givesUpAfterMaxAttempts() {
+        OptimisticLocks.retry(() -> this.itemMapper.selectById(1), item -> this.modifyConcurrently(1),
+                this.itemMapper::updateById, 3);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsRetriesInsideATransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            OptimisticLocks.retry(() -> this.itemMapper.selectById(1), item -> item.setName("renamed"),
+                    this.itemMapper::updateById, 3);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    /**
+     * 代替UpdateCountsPlugin: H2不返回多语句的各条记录数, 逐条更新并写入UpdateCountsHolder
+     */
+    private int updateEach(final List<Item> records) {
+        int totalRows = 0;
+        for (final Item record : records) {
+            final int rows = this.itemMapper.updateById(record);
+            UpdateCountsHolder.addUpdateCount(rows);
+            totalRows += rows;
+        }
+        return totalRows;
+    }
+
+    private void modifyConcurrently(final int id) {
+        try {
+            H2Database.execute(this.dataSource, "update item set version = version + 1 where id = " + id);
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 /**
  * Abstract class that holds information common to all generated files.
  *
@@ -43,6 +45,17 @@ public abstract class GeneratedFile {
      */
     public abstract String getFormattedContent();
 
+    /**
+     * Writes the entire contents of the generated file to the output. Subclasses override this
+     * method to stream the content without first building it as one String.
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeFormattedContent(Appendable out) throws IOException {
+        out.append(getFormattedContent());
+    }
+
     /**
      * Get the file name (without any path). Clients should use this method to determine how to save
      * the results.
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 
 /**
@@ -75,6 +77,16 @@ public class GeneratedJavaFile extends GeneratedFile {
         return this.javaFormatter.getFormattedContent(this.compilationUnit);
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.mybatis.generator.api.GeneratedFile#writeFormattedContent(java.lang.Appendable)
+     */
+    @Override
+    public void writeFormattedContent(Appendable out) throws IOException {
+        this.javaFormatter.writeFormattedContent(this.compilationUnit, out);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.xml.Document;
 
 /**
@@ -67,6 +69,16 @@ public class GeneratedXmlFile extends GeneratedFile {
         return xmlFormatter.getFormattedContent(document);
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.mybatis.generator.api.GeneratedFile#writeFormattedContent(java.lang.Appendable)
+     */
+    @Override
+    public void writeFormattedContent(Appendable out) throws IOException {
+        xmlFormatter.writeFormattedContent(document, out);
+    }
+
     /**
      * Gets the file name.
      *
@@ -97,6 +109,24 @@ public class GeneratedXmlFile extends GeneratedFile {
         return isMergeable;
     }
 
+    /**
+     * Gets the in-memory document this file is rendered from.
+     *
+     * @return the document
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Gets the formatter used to render the document.
+     *
+     * @return the xml formatter
+     */
+    public XmlFormatter getXmlFormatter() {
+        return xmlFormatter;
+    }
+
     public void setMergeable(boolean isMergeable) {
         this.isMergeable = isMergeable;
     }
@@ -0,0 +1,266 @@
+package org.mybatis.generator.api;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.exception.InvalidConfigurationException;
+import org.mybatis.generator.exception.XMLParserException;
+import org.mybatis.generator.internal.NullProgressCallback;
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+
+/**
+ * Watch mode: keeps the parsed configuration and the generator in memory and regenerates code
+ * whenever the configuration file or the structure of a configured table changes.
+ *
+ * <p>The configuration file is watched with a {@link WatchService}; any change to it reloads the
+ * configuration and regenerates every table. Between file events the schema marker of every
+ * table (see {@link Context#calculateSchemaMarkers(List)}) is polled, and only the tables whose
+ * marker changed are passed to {@link MyBatisGenerator#generate(ProgressCallback, Set, Set, boolean)}.
+ *
+ * <p>The daemon runs on the calling thread until {@link #stop()} is called from another thread.
+ */
+public class GeneratorDaemon {
+
+    /** Time to wait for more file events after the configuration file changed. */
+    private static final long SETTLE_MILLIS = 200L;
+
+    private final File configurationFile;
+
+    private final ShellCallback shellCallback;
+
+    private final ProgressCallback progressCallback;
+
+    private final Set<String> contextIds;
+
+    private final long pollInterval;
+
+    private final Log logger = LogFactory.getLog(getClass());
+
+    /** The warnings list handed to the generator, drained after every generation. */
+    private final List<String> generatorWarnings = new ArrayList<String>();
+
+    private Configuration configuration;
+
+    private MyBatisGenerator myBatisGenerator;
+
+    /** The schema markers of the last generation, keyed by context id and table name. */
+    private Map<String, Map<String, String>> schemaMarkers =
+            new HashMap<String, Map<String, String>>();
+
+    private volatile boolean stopped;
+
+    /**
+     * Constructs a GeneratorDaemon object.
+     *
+     * @param configurationFile the XML configuration file to load and watch
+     * @param shellCallback the shell callback used for every generation. Usually overwrite or
+     *        merge should be enabled, otherwise every regeneration saves uniquely named files.
+     * @param progressCallback the progress callback, or <code>null</code>
+     * @param contextIds the contexts to run, or <code>null</code> or empty for all contexts
+     * @param pollInterval the interval between two schema polls, in milliseconds
+     */
+    public GeneratorDaemon(File configurationFile, ShellCallback shellCallback,
+                           ProgressCallback progressCallback, Set<String> contextIds, long pollInterval) {
+        super();
+        this.configurationFile = configurationFile.getAbsoluteFile();
+        this.shellCallback = shellCallback;
+        this.progressCallback = progressCallback == null ? new NullProgressCallback() : progressCallback;
+        this.contextIds = contextIds == null ? Collections.<String>emptySet() : contextIds;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Loads the configuration, generates all tables once and then watches for changes until
+     * {@link #stop()} is called.
+     *
+     * @throws IOException if the configuration file cannot be watched
+     * @throws XMLParserException if the initial configuration cannot be parsed
+     * @throws InvalidConfigurationException if the initial configuration is invalid
+     * @throws SQLException if the initial generation fails
+     * @throws InterruptedException if the thread is interrupted or the progress callback cancels
+     */
+    public void run() throws IOException, XMLParserException, InvalidConfigurationException,
+            SQLException, InterruptedException {
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        try {
+            Path directory = this.configurationFile.getParentFile().toPath();
+            Path fileName = this.configurationFile.toPath().getFileName();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+            this.loadConfiguration();
+            this.generateAll();
+
+            while (!this.stopped) {
+                WatchKey key = watchService.poll(this.pollInterval, TimeUnit.MILLISECONDS);
+                boolean configurationChanged = false;
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (fileName.equals(event.context())) {
+                            configurationChanged = true;
+                        }
+                    }
+                    key.reset();
+                    // editors often save a file in several steps, wait for them to settle
+                    key = configurationChanged
+                            ? watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS) : null;
+                }
+
+                if (this.stopped) {
+                    break;
+                }
+
+                try {
+                    if (configurationChanged) {
+                        this.progressCallback.startTask(getString("Progress.19", //$NON-NLS-1$
+                                this.configurationFile.getPath()));
+                        this.loadConfiguration();
+                        this.generateAll();
+                    } else {
+                        this.generateChangedTables();
+                    }
+                } catch (XMLParserException e) {
+                    this.generationFailed(e, e.getErrors());
+                } catch (InvalidConfigurationException e) {
+                    this.generationFailed(e, e.getErrors());
+                } catch (SQLException e) {
+                    this.generationFailed(e, Collections.singletonList(e.getMessage()));
+                } catch (IOException e) {
+                    this.generationFailed(e, Collections.singletonList(e.getMessage()));
+                }
+            }
+        } finally {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Asks the daemon to stop. The daemon finishes the current generation, if any, and returns
+     * from {@link #run()} within one poll interval.
+     */
+    public void stop() {
+        this.stopped = true;
+    }
+
+    /**
+     * Called after every generation with the warnings of that generation. The default
+     * implementation logs them.
+     *
+     * @param tables the regenerated tables, or an empty set if all tables were generated
+     * @param warnings the warnings of the generation
+     */
+    protected void generationFinished(Set<String> tables, List<String> warnings) {
+        for (String warning : warnings) {
+            this.logger.warn(warning);
+        }
+    }
+
+    /**
+     * Called when a reload or a generation fails. The daemon keeps the previous configuration and
+     * keeps watching. The default implementation logs the errors.
+     *
+     * @param e the cause
+     * @param errors the error messages
+     */
+    protected void generationFailed(Exception e, List<String> errors) {
+        for (String error : errors) {
+            this.logger.error(error);
+        }
+    }
+
+    private void loadConfiguration() throws IOException, XMLParserException,
+            InvalidConfigurationException {
+        List<String> warnings = new ArrayList<String>();
+        ConfigurationParser cp = new ConfigurationParser(warnings);
+        Configuration newConfiguration = cp.parseConfiguration(this.configurationFile);
+        MyBatisGenerator newGenerator = new MyBatisGenerator(newConfiguration, this.shellCallback,
+                this.generatorWarnings);
+
+        // only replace the running configuration once the new one is known to be valid
+        this.configuration = newConfiguration;
+        this.myBatisGenerator = newGenerator;
+        this.schemaMarkers = new HashMap<String, Map<String, String>>();
+        // parser warnings are reported with the generation that follows the reload
+        this.generatorWarnings.addAll(warnings);
+    }
+
+    /**
+     * Generates all tables. The schema markers are calculated before generating, so a change made
+     * during the generation is picked up by the next poll.
+     */
+    private void generateAll() throws SQLException, IOException, InterruptedException {
+        List<String> warnings = new ArrayList<String>();
+        for (Context c : this.getContextsToRun()) {
+            this.schemaMarkers.put(c.getId(), c.calculateSchemaMarkers(warnings));
+        }
+
+        this.myBatisGenerator.generate(this.progressCallback, this.contextIds, null, true);
+        this.generationFinished(Collections.<String>emptySet(), this.collectWarnings(warnings));
+    }
+
+    private void generateChangedTables() throws SQLException, IOException, InterruptedException {
+        for (Context context : this.getContextsToRun()) {
+            List<String> warnings = new ArrayList<String>();
+            Map<String, String> markers = context.calculateSchemaMarkers(warnings);
+            Map<String, String> previousMarkers = this.schemaMarkers.get(context.getId());
+
+            Set<String> changedTables = new HashSet<String>();
+            for (Map.Entry<String, String> entry : markers.entrySet()) {
+                String previousMarker = previousMarkers == null ? null : previousMarkers.get(entry.getKey());
+                if (!entry.getValue().equals(previousMarker)) {
+                    changedTables.add(entry.getKey());
+                    this.progressCallback.startTask(getString("Progress.20", entry.getKey())); //$NON-NLS-1$
+                }
+            }
+            this.schemaMarkers.put(context.getId(), markers);
+
+            if (!changedTables.isEmpty()) {
+                this.myBatisGenerator.generate(this.progressCallback,
+                        Collections.singleton(context.getId()), changedTables, true);
+                this.generationFinished(changedTables, this.collectWarnings(warnings));
+            }
+        }
+    }
+
+    private List<Context> getContextsToRun() {
+        List<Context> contexts = new ArrayList<Context>();
+        for (Context context : this.configuration.getContexts()) {
+            if (this.contextIds.isEmpty() || this.contextIds.contains(context.getId())) {
+                contexts.add(context);
+            }
+        }
+        return contexts;
+    }
+
+    /**
+     * The generator appends to the same warnings list on every run; hand out the new warnings
+     * and clear the list so a long running daemon does not accumulate them.
+     */
+    private List<String> collectWarnings(List<String> markerWarnings) {
+        List<String> warnings = new ArrayList<String>(markerWarnings);
+        warnings.addAll(this.generatorWarnings);
+        this.generatorWarnings.clear();
+        return warnings;
+    }
+}
@@ -0,0 +1,50 @@
+package org.mybatis.generator.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An index of a table, as returned by DatabaseMetaData.getIndexInfo. Only indexes whose columns are
+ * all introspected columns of the table are kept, so expression indexes and indexes on ignored
+ * columns are not represented.
+ */
+public class IntrospectedIndex {
+
+    private final String name;
+
+    private final boolean unique;
+
+    private final List<IntrospectedColumn> columns = new ArrayList<IntrospectedColumn>();
+
+    public IntrospectedIndex(String name, boolean unique) {
+        super();
+        this.name = name;
+        this.unique = unique;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    /**
+     * Returns the columns of the index in key sequence order.
+     *
+     * @return the columns
+     */
+    public List<IntrospectedColumn> getColumns() {
+        return columns;
+    }
+
+    public void addColumn(IntrospectedColumn column) {
+        columns.add(column);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -73,6 +73,11 @@ public abstract class IntrospectedTable {
 
     protected List<IntrospectedColumn> blobColumns;
 
+    /**
+     * Indexes retrieved from database metadata. Only read if index finders are enabled.
+     */
+    protected List<IntrospectedIndex> indexes;
+
     protected TargetRuntime targetRuntime;
 
     /**
@@ -100,6 +105,7 @@ public abstract class IntrospectedTable {
         this.primaryKeyColumns = new ArrayList<IntrospectedColumn>();
         this.baseColumns = new ArrayList<IntrospectedColumn>();
         this.blobColumns = new ArrayList<IntrospectedColumn>();
+        this.indexes = new ArrayList<IntrospectedIndex>();
         this.attributes = new HashMap<String, Object>();
         this.internalAttributes = new HashMap<IntrospectedTable.InternalAttribute, String>();
     }
@@ -407,6 +413,20 @@ public abstract class IntrospectedTable {
         introspectedColumn.setIntrospectedTable(this);
     }
 
+    /**
+     * Returns the unique and non-unique indexes of the table, except the primary key. The list is
+     * empty unless the generateIndexFinders property is set.
+     *
+     * @return the indexes
+     */
+    public List<IntrospectedIndex> getIndexes() {
+        return this.indexes;
+    }
+
+    public void addIndex(IntrospectedIndex index) {
+        this.indexes.add(index);
+    }
+
     public void addPrimaryKeyColumn(String columnName) {
         boolean found = false;
         // first search base columns
@@ -1158,6 +1178,144 @@ public abstract class IntrospectedTable {
         return isTrue(properties.getProperty(PropertyRegistry.ANY_CONSTRUCTOR_BASED));
     }
 
+    /**
+     * Returns true if the BLOB columns of this table are loaded lazily. The selects then leave the
+     * BLOB columns out, and a lazy association of the base result map runs selectBlobsById the
+     * first time a BLOB property is read. Lazy loading needs a BLOB column, a single column
+     * primary key and a setter based model.
+     *
+     * @return true if the BLOB columns are loaded lazily
+     */
+    public boolean isLazyLoadBlobs() {
+        if (this.primaryKeyColumns.size() != 1 || this.isConstructorBased()) {
+            return false;
+        }
+
+        String property = this.tableConfiguration.getProperty(PropertyRegistry.ANY_LAZY_LOAD_BLOBS);
+        if (property == null && this.context.getJavaClientGeneratorConfiguration() != null) {
+            property = this.context.getJavaClientGeneratorConfiguration()
+                    .getProperty(PropertyRegistry.ANY_LAZY_LOAD_BLOBS);
+        }
+        if (!isTrue(property)) {
+            return false;
+        }
+
+        for (IntrospectedColumn introspectedColumn : this.getNonPrimaryKeyColumns()) {
+            if (introspectedColumn.isBLOBColumn()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the model records which properties were set. The setters of the model then
+     * mark the changed columns, and updateChangedById writes only those columns. Change tracking
+     * needs a single column primary key and a setter based model.
+     *
+     * @return true if the model tracks changes
+     */
+    public boolean isTrackChanges() {
+        if (this.primaryKeyColumns.size() != 1 || this.isConstructorBased()) {
+            return false;
+        }
+
+        Properties properties;
+        if (this.tableConfiguration.getProperties().containsKey(PropertyRegistry.ANY_TRACK_CHANGES)) {
+            properties = this.tableConfiguration.getProperties();
+        } else {
+            properties = this.context.getJavaModelGeneratorConfiguration().getProperties();
+        }
+        return isTrue(properties.getProperty(PropertyRegistry.ANY_TRACK_CHANGES));
+    }
+
+    /**
+     * Returns true if a record mapper should be generated: a class next to the model that reads
+     * result rows and parameter values without reflection. Record mappers need a flat, setter
+     * based model.
+     *
+     * @return true if a record mapper should be generated
+     */
+    public boolean isGenerateRecordMapper() {
+        if (this.isConstructorBased() || !this.rules.generateBaseRecordClass()
+                || this.rules.generatePrimaryKeyClass() || this.rules.generateRecordWithBLOBsClass()) {
+            return false;
+        }
+
+        Properties properties;
+        if (this.tableConfiguration.getProperties().containsKey(PropertyRegistry.ANY_GENERATE_RECORD_MAPPER)) {
+            properties = this.tableConfiguration.getProperties();
+        } else {
+            properties = this.context.getJavaModelGeneratorConfiguration().getProperties();
+        }
+        return isTrue(properties.getProperty(PropertyRegistry.ANY_GENERATE_RECORD_MAPPER));
+    }
+
+    /**
+     * Returns the column used for optimistic locking. The updates by primary key then only match a
+     * row whose version equals the version of the record, and every update increments the version.
+     * The version column must be an integer column that is not part of the primary key.
+     *
+     * @return the version column, or <code>null</code> if the table has no valid version column
+     */
+    public IntrospectedColumn getVersionColumn() {
+        if (this.primaryKeyColumns.isEmpty()) {
+            return null;
+        }
+
+        IntrospectedColumn introspectedColumn = this.getColumn(
+                this.tableConfiguration.getProperty(PropertyRegistry.TABLE_VERSION_COLUMN));
+        if (introspectedColumn == null || this.primaryKeyColumns.contains(introspectedColumn)
+                || introspectedColumn.isIdentity() || introspectedColumn.isGeneratedAlways()) {
+            return null;
+        }
+
+        String javaType = introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName();
+        if ("java.lang.Integer".equals(javaType) || "java.lang.Long".equals(javaType) //$NON-NLS-1$ //$NON-NLS-2$
+                || "java.lang.Short".equals(javaType)) { //$NON-NLS-1$
+            return introspectedColumn;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the columns whose changes are tracked: the columns an update can write. The version
+     * column is not tracked, the updates increment it. The bit of a column in the change mask is
+     * its index in {@link #getAllColumns()}.
+     *
+     * @return the tracked columns, empty unless {@link #isTrackChanges()} is true
+     */
+    public List<IntrospectedColumn> getChangeTrackedColumns() {
+        List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+        if (this.isTrackChanges()) {
+            IntrospectedColumn versionColumn = this.getVersionColumn();
+            for (IntrospectedColumn introspectedColumn : this.getNonPrimaryKeyColumns()) {
+                if (!introspectedColumn.isGeneratedAlways() && introspectedColumn != versionColumn) {
+                    answer.add(introspectedColumn);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the columns that are loaded lazily. BLOB columns are kept with the base columns (see
+     * {@link #addColumn(IntrospectedColumn)}), so they are picked by their JDBC type here.
+     *
+     * @return the lazily loaded columns, empty unless {@link #isLazyLoadBlobs()} is true
+     */
+    public List<IntrospectedColumn> getLazyBlobColumns() {
+        List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+        if (this.isLazyLoadBlobs()) {
+            for (IntrospectedColumn introspectedColumn : this.getNonPrimaryKeyColumns()) {
+                if (introspectedColumn.isBLOBColumn()) {
+                    answer.add(introspectedColumn);
+                }
+            }
+        }
+        return answer;
+    }
+
     /**
      * Should return true if an XML generator is required for this table. This method will be called
      * during validation of the configuration, so it should not rely on database introspection. This
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.config.Context;
 
@@ -32,4 +34,17 @@ public interface JavaFormatter {
     void setContext(Context context);
 
     String getFormattedContent(CompilationUnit compilationUnit);
+
+    /**
+     * Writes the formatted content directly to the output. The default implementation writes the
+     * result of {@link #getFormattedContent(CompilationUnit)}; formatters that do not post-process the
+     * content should override this method so that the file can be streamed.
+     *
+     * @param compilationUnit the compilation unit to format
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    default void writeFormattedContent(CompilationUnit compilationUnit, Appendable out) throws IOException {
+        out.append(getFormattedContent(compilationUnit));
+    }
 }
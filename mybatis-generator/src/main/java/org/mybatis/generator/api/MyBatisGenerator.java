@@ -23,10 +23,12 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.codegen.RootClassInfo;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.Context;
@@ -36,7 +38,7 @@ import org.mybatis.generator.exception.ShellException;
 import org.mybatis.generator.internal.DefaultShellCallback;
 import org.mybatis.generator.internal.NullProgressCallback;
 import org.mybatis.generator.internal.ObjectFactory;
-import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.XmlFileMergerStax;
 
 /**
  * This class is the main interface to MyBatis generator. A typical execution of the tool involves
@@ -201,68 +203,73 @@ public class MyBatisGenerator {
         ObjectFactory.reset();
         RootClassInfo.reset();
 
-        // calculate the contexts to run
-        List<Context> contextsToRun;
-        if (contextIds == null || contextIds.size() == 0) {
-            contextsToRun = this.configuration.getContexts();
-        } else {
-            contextsToRun = new ArrayList<Context>();
-            for (Context context : this.configuration.getContexts()) {
-                if (contextIds.contains(context.getId())) {
-                    contextsToRun.add(context);
+        try {
+            // calculate the contexts to run
+            List<Context> contextsToRun;
+            if (contextIds == null || contextIds.size() == 0) {
+                contextsToRun = this.configuration.getContexts();
+            } else {
+                contextsToRun = new ArrayList<Context>();
+                for (Context context : this.configuration.getContexts()) {
+                    if (contextIds.contains(context.getId())) {
+                        contextsToRun.add(context);
+                    }
                 }
             }
-        }
 
-        // setup custom classloader if required
-        if (this.configuration.getClassPathEntries().size() > 0) {
-            ClassLoader classLoader = getCustomClassloader(this.configuration.getClassPathEntries());
-            ObjectFactory.addExternalClassLoader(classLoader);
-        }
+            // setup custom classloader if required
+            if (this.configuration.getClassPathEntries().size() > 0) {
+                ClassLoader classLoader = getCustomClassloader(this.configuration.getClassPathEntries());
+                ObjectFactory.addExternalClassLoader(classLoader);
+            }
 
-        // now run the introspections...
-        int totalSteps = 0;
-        for (Context context : contextsToRun) {
-            totalSteps += context.getIntrospectionSteps();
-        }
-        callback.introspectionStarted(totalSteps);
+            // now run the introspections...
+            int totalSteps = 0;
+            for (Context context : contextsToRun) {
+                totalSteps += context.getIntrospectionSteps();
+            }
+            callback.introspectionStarted(totalSteps);
 
-        for (Context context : contextsToRun) {
-            context.introspectTables(callback, this.warnings, fullyQualifiedTableNames);
-        }
+            for (Context context : contextsToRun) {
+                context.introspectTables(callback, this.warnings, fullyQualifiedTableNames);
+            }
 
-        // now run the generates
-        totalSteps = 0;
-        for (Context context : contextsToRun) {
-            totalSteps += context.getGenerationSteps();
-        }
-        callback.generationStarted(totalSteps);
+            // now run the generates
+            totalSteps = 0;
+            for (Context context : contextsToRun) {
+                totalSteps += context.getGenerationSteps();
+            }
+            callback.generationStarted(totalSteps);
 
-        for (Context context : contextsToRun) {
-            context.generateFiles(callback, this.generatedJavaFiles, this.generatedXmlFiles,
-                    this.warnings);
-        }
+            for (Context context : contextsToRun) {
+                context.generateFiles(callback, this.generatedJavaFiles, this.generatedXmlFiles,
+                        this.warnings);
+            }
 
-        // now save the files
-        if (writeFiles) {
-            callback.saveStarted(this.generatedXmlFiles.size() + this.generatedJavaFiles.size());
+            // now save the files
+            if (writeFiles) {
+                callback.saveStarted(this.generatedXmlFiles.size() + this.generatedJavaFiles.size());
 
-            for (GeneratedXmlFile gxf : this.generatedXmlFiles) {
-                this.projects.add(gxf.getTargetProject());
-                this.writeGeneratedXmlFile(gxf, callback);
-            }
+                for (GeneratedXmlFile gxf : this.generatedXmlFiles) {
+                    this.projects.add(gxf.getTargetProject());
+                    this.writeGeneratedXmlFile(gxf, callback);
+                }
 
-            for (GeneratedJavaFile gjf : this.generatedJavaFiles) {
-                this.projects.add(gjf.getTargetProject());
-                this.writeGeneratedJavaFile(gjf, callback);
-            }
+                for (GeneratedJavaFile gjf : this.generatedJavaFiles) {
+                    this.projects.add(gjf.getTargetProject());
+                    this.writeGeneratedJavaFile(gjf, callback);
+                }
 
-            for (String project : this.projects) {
-                this.shellCallback.refreshProject(project);
+                for (String project : this.projects) {
+                    this.shellCallback.refreshProject(project);
+                }
             }
-        }
 
-        callback.done();
+            callback.done();
+        } finally {
+            // the interned types are only shared within a run, do not keep them for the next one
+            FullyQualifiedJavaType.reset();
+        }
     }
 
     private void writeGeneratedJavaFile(GeneratedJavaFile gjf, ProgressCallback callback)
@@ -273,26 +280,28 @@ public class MyBatisGenerator {
             File directory =
                     this.shellCallback.getDirectory(gjf.getTargetProject(), gjf.getTargetPackage());
             targetFile = new File(directory, gjf.getFileName());
+            // a null source means the generated content is streamed straight to the file
+            source = null;
             if (targetFile.exists()) {
                 if (this.shellCallback.isMergeSupported()) {
                     source = this.shellCallback.mergeJavaFile(gjf.getFormattedContent(), targetFile,
                             MergeConstants.OLD_ELEMENT_TAGS, gjf.getFileEncoding());
                 } else if (gjf.isOverride()) {// this.shellCallback.isOverwriteEnabled()
-                    source = gjf.getFormattedContent();
                     this.warnings.add(getString("Warning.11", //$NON-NLS-1$
                             targetFile.getAbsolutePath()));
                 } else {
-                    source = gjf.getFormattedContent();
                     targetFile = this.getUniqueFileName(directory, gjf.getFileName());
                     this.warnings.add(getString("Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
                 }
-            } else {
-                source = gjf.getFormattedContent();
             }
 
             callback.checkCancel();
             callback.startTask(getString("Progress.15", targetFile.getName())); //$NON-NLS-1$
-            this.writeFile(targetFile, source, gjf.getFileEncoding());
+            if (source == null) {
+                this.writeFile(targetFile, gjf, gjf.getFileEncoding());
+            } else {
+                this.writeFile(targetFile, source, gjf.getFileEncoding());
+            }
         } catch (ShellException e) {
             this.warnings.add(e.getMessage());
         }
@@ -306,25 +315,27 @@ public class MyBatisGenerator {
             File directory =
                     this.shellCallback.getDirectory(gxf.getTargetProject(), gxf.getTargetPackage());
             targetFile = new File(directory, gxf.getFileName());
+            // a null source means the generated content is streamed straight to the file
+            source = null;
             if (targetFile.exists()) {
                 if (gxf.isMergeable()) {
-                    source = XmlFileMergerJaxp.getMergedSource(gxf, targetFile);
+                    source = XmlFileMergerStax.getMergedSource(gxf, targetFile);
                 } else if (this.shellCallback.isOverwriteEnabled()) {
-                    source = gxf.getFormattedContent();
                     this.warnings.add(getString("Warning.11", //$NON-NLS-1$
                             targetFile.getAbsolutePath()));
                 } else {
-                    source = gxf.getFormattedContent();
                     targetFile = this.getUniqueFileName(directory, gxf.getFileName());
                     this.warnings.add(getString("Warning.2", targetFile.getAbsolutePath())); //$NON-NLS-1$
                 }
-            } else {
-                source = gxf.getFormattedContent();
             }
 
             callback.checkCancel();
             callback.startTask(getString("Progress.15", targetFile.getName())); //$NON-NLS-1$
-            this.writeFile(targetFile, source, "UTF-8"); //$NON-NLS-1$
+            if (source == null) {
+                this.writeFile(targetFile, gxf, "UTF-8"); //$NON-NLS-1$
+            } else {
+                this.writeFile(targetFile, source, "UTF-8"); //$NON-NLS-1$
+            }
         } catch (ShellException e) {
             this.warnings.add(e.getMessage());
         }
@@ -339,6 +350,35 @@ public class MyBatisGenerator {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     private void writeFile(File file, String content, String fileEncoding) throws IOException {
+        BufferedWriter bw = this.openWriter(file, fileEncoding);
+        try {
+            bw.write(content);
+        } finally {
+            bw.close();
+        }
+    }
+
+    /**
+     * Writes, or overwrites, the specified file by streaming the generated content into it. The
+     * content is rendered directly into the file buffer, so the whole file is never held as a
+     * String.
+     *
+     * @param file the file
+     * @param generatedFile the generated file to render
+     * @param fileEncoding the file encoding
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void writeFile(File file, GeneratedFile generatedFile, String fileEncoding)
+            throws IOException {
+        BufferedWriter bw = this.openWriter(file, fileEncoding);
+        try {
+            generatedFile.writeFormattedContent(bw);
+        } finally {
+            bw.close();
+        }
+    }
+
+    private BufferedWriter openWriter(File file, String fileEncoding) throws IOException {
         FileOutputStream fos = new FileOutputStream(file, false);
         OutputStreamWriter osw;
         if (fileEncoding == null) {
@@ -347,9 +387,7 @@ public class MyBatisGenerator {
             osw = new OutputStreamWriter(fos, fileEncoding);
         }
 
-        BufferedWriter bw = new BufferedWriter(osw);
-        bw.write(content);
-        bw.close();
+        return new BufferedWriter(osw);
     }
 
     /**
@@ -362,6 +400,13 @@ public class MyBatisGenerator {
     private File getUniqueFileName(File directory, String fileName) {
         File answer = null;
 
+        // list the directory once instead of probing for each candidate
+        Set<String> existingNames = new HashSet<String>();
+        String[] names = directory.list();
+        if (names != null) {
+            Collections.addAll(existingNames, names);
+        }
+
         // try up to 1000 times to generate a unique file name
         StringBuilder sb = new StringBuilder();
         for (int i = 1; i < 1000; i++) {
@@ -370,9 +415,8 @@ public class MyBatisGenerator {
             sb.append('.');
             sb.append(i);
 
-            File testFile = new File(directory, sb.toString());
-            if (!testFile.exists()) {
-                answer = testFile;
+            if (!existingNames.contains(sb.toString())) {
+                answer = new File(directory, sb.toString());
                 break;
             }
         }
@@ -384,6 +428,37 @@ public class MyBatisGenerator {
         return answer;
     }
 
+    /**
+     * Runs the generator without writing anything to disk and returns the generated files as a
+     * tree keyed by path. Use this from tools that need the generated code in memory, such as IDE
+     * previews or diff checks; the content of each file is rendered only when it is read.
+     *
+     * @param callback an instance of the ProgressCallback interface, or <code>null</code> if you do
+     *        not require progress information
+     * @param contextIds a set of Strings containing context ids to run. If the set is null or
+     *        empty, than all contexts are run.
+     * @param fullyQualifiedTableNames a set of table names to generate. If the set is null or empty,
+     *        then all tables in the configuration will be used for code generation.
+     * @return the generated files
+     * @throws SQLException the SQL exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws InterruptedException if the method is canceled through the ProgressCallback
+     */
+    public VirtualFileTree generateFileTree(ProgressCallback callback, Set<String> contextIds,
+                                            Set<String> fullyQualifiedTableNames)
+            throws SQLException, IOException, InterruptedException {
+        this.generate(callback, contextIds, fullyQualifiedTableNames, false);
+
+        VirtualFileTree tree = new VirtualFileTree();
+        for (GeneratedXmlFile gxf : this.generatedXmlFiles) {
+            tree.addFile(gxf);
+        }
+        for (GeneratedJavaFile gjf : this.generatedJavaFiles) {
+            tree.addFile(gjf);
+        }
+        return tree;
+    }
+
     /**
      * Returns the list of generated Java files after a call to one of the generate methods. This is
      * useful if you prefer to process the generated files yourself and do not want the generator to
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
 
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
@@ -41,9 +42,13 @@ import org.mybatis.generator.logging.LogFactory;
 public class ShellRunner {
     private static final String CONFIG_FILE = "-configfile"; //$NON-NLS-1$
     private static final String OVERWRITE = "-overwrite"; //$NON-NLS-1$
+    private static final String MERGE = "-merge"; //$NON-NLS-1$
     private static final String CONTEXT_IDS = "-contextids"; //$NON-NLS-1$
     private static final String TABLES = "-tables"; //$NON-NLS-1$
     private static final String VERBOSE = "-verbose"; //$NON-NLS-1$
+    private static final String WATCH = "-watch"; //$NON-NLS-1$
+    private static final String POLL_INTERVAL = "-pollinterval"; //$NON-NLS-1$
+    private static final long DEFAULT_POLL_INTERVAL = 5L;
     private static final String FORCE_JAVA_LOGGING = "-forceJavaLogging"; //$NON-NLS-1$
     private static final String HELP_1 = "-?"; //$NON-NLS-1$
     private static final String HELP_2 = "-h"; //$NON-NLS-1$
@@ -100,17 +105,23 @@ public class ShellRunner {
         }
 
         try {
-            ConfigurationParser cp = new ConfigurationParser(warnings);
-            Configuration config = cp.parseConfiguration(configurationFile);
-
             DefaultShellCallback shellCallback =
-                    new DefaultShellCallback(arguments.containsKey(OVERWRITE));
-
-            MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
+                    new DefaultShellCallback(arguments.containsKey(OVERWRITE),
+                            arguments.containsKey(MERGE));
 
             ProgressCallback progressCallback =
                     arguments.containsKey(VERBOSE) ? new VerboseProgressCallback() : null;
 
+            if (arguments.containsKey(WATCH)) {
+                watch(configurationFile, shellCallback, progressCallback, contexts, arguments);
+                return;
+            }
+
+            ConfigurationParser cp = new ConfigurationParser(warnings);
+            Configuration config = cp.parseConfiguration(configurationFile);
+
+            MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
+
             myBatisGenerator.generate(progressCallback, contexts, fullyqualifiedTables);
 
         } catch (XMLParserException e) {
@@ -149,6 +160,46 @@ public class ShellRunner {
         }
     }
 
+    private static void watch(File configurationFile, ShellCallback shellCallback,
+                              ProgressCallback progressCallback, Set<String> contexts,
+                              Map<String, String> arguments)
+            throws IOException, XMLParserException, InvalidConfigurationException,
+            SQLException, InterruptedException {
+        long pollInterval = DEFAULT_POLL_INTERVAL;
+        if (arguments.containsKey(POLL_INTERVAL)) {
+            try {
+                pollInterval = Long.parseLong(arguments.get(POLL_INTERVAL));
+            } catch (NumberFormatException e) {
+                pollInterval = 0L;
+            }
+            if (pollInterval <= 0L) {
+                writeLine(getString("RuntimeError.23", //$NON-NLS-1$
+                        POLL_INTERVAL, arguments.get(POLL_INTERVAL)));
+                return;
+            }
+        }
+
+        GeneratorDaemon daemon = new GeneratorDaemon(configurationFile, shellCallback,
+                progressCallback, contexts, TimeUnit.SECONDS.toMillis(pollInterval)) {
+            @Override
+            protected void generationFinished(Set<String> tables, List<String> warnings) {
+                for (String warning : warnings) {
+                    writeLine(warning);
+                }
+                writeLine(getString(warnings.isEmpty() ? "Progress.4" : "Progress.5")); //$NON-NLS-1$ //$NON-NLS-2$
+                writeLine(getString("Progress.21")); //$NON-NLS-1$
+            }
+
+            @Override
+            protected void generationFailed(Exception e, List<String> errors) {
+                for (String error : errors) {
+                    writeLine(error);
+                }
+            }
+        };
+        daemon.run();
+    }
+
     private static void usage() {
         String lines = getString("Usage.Lines"); //$NON-NLS-1$
         int intLines = Integer.parseInt(lines);
@@ -180,6 +231,17 @@ public class ShellRunner {
                 i++;
             } else if (OVERWRITE.equalsIgnoreCase(args[i])) {
                 arguments.put(OVERWRITE, "Y"); //$NON-NLS-1$
+            } else if (MERGE.equalsIgnoreCase(args[i])) {
+                arguments.put(MERGE, "Y"); //$NON-NLS-1$
+            } else if (WATCH.equalsIgnoreCase(args[i])) {
+                arguments.put(WATCH, "Y"); //$NON-NLS-1$
+            } else if (POLL_INTERVAL.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(POLL_INTERVAL, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", POLL_INTERVAL)); //$NON-NLS-1$
+                }
+                i++;
             } else if (VERBOSE.equalsIgnoreCase(args[i])) {
                 arguments.put(VERBOSE, "Y"); //$NON-NLS-1$
             } else if (HELP_1.equalsIgnoreCase(args[i])) {
@@ -0,0 +1,93 @@
+package org.mybatis.generator.api;
+
+import static org.mybatis.generator.internal.util.StringUtility.sha1Hex;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A generated file in a {@link VirtualFileTree}. The content is rendered on first access and
+ * cached, so files that are never read are never rendered, and reading the same file again is
+ * free.
+ */
+public class VirtualFile {
+
+    private final String path;
+
+    private final GeneratedFile generatedFile;
+
+    private volatile String content;
+
+    private volatile String hash;
+
+    VirtualFile(String path, GeneratedFile generatedFile) {
+        super();
+        this.path = path;
+        this.generatedFile = generatedFile;
+    }
+
+    /**
+     * Returns the path of the file: the target project, the target package as directories and
+     * the file name, separated by '/'.
+     *
+     * @return the path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public GeneratedFile getGeneratedFile() {
+        return generatedFile;
+    }
+
+    /**
+     * Returns the content of the file, rendering it on the first call.
+     *
+     * @return the content
+     */
+    public String getContent() {
+        String answer = content;
+        if (answer == null) {
+            synchronized (this) {
+                answer = content;
+                if (answer == null) {
+                    answer = generatedFile.getFormattedContent();
+                    content = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the SHA-1 hash of the content. Files with equal hashes have equal content, so the
+     * hash can be compared with the hash of an earlier run or of a file on disk to find changed
+     * files.
+     *
+     * @return the content hash as lower case hex
+     */
+    public String getHash() {
+        String answer = hash;
+        if (answer == null) {
+            answer = sha1Hex(getContent().getBytes(StandardCharsets.UTF_8));
+            hash = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Writes the content to the output. If the content was not rendered yet it is streamed
+     * without being cached.
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeContent(Appendable out) throws IOException {
+        String rendered = content;
+        if (rendered == null) {
+            generatedFile.writeFormattedContent(out);
+        } else {
+            out.append(rendered);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.mybatis.generator.api;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The result of an in-memory generation: the generated files keyed by their path. Nothing is
+ * rendered when the tree is built; see {@link VirtualFile}.
+ */
+public class VirtualFileTree {
+
+    private final NavigableMap<String, VirtualFile> files = new TreeMap<String, VirtualFile>();
+
+    VirtualFileTree() {
+        super();
+    }
+
+    void addFile(GeneratedFile generatedFile) {
+        String path = calculatePath(generatedFile);
+        files.put(path, new VirtualFile(path, generatedFile));
+    }
+
+    /**
+     * Returns all paths in the tree, in sorted order.
+     *
+     * @return the paths
+     */
+    public Set<String> getPaths() {
+        return Collections.unmodifiableSet(files.keySet());
+    }
+
+    /**
+     * Returns the file with the specified path.
+     *
+     * @param path the path, as returned by {@link VirtualFile#getPath()}
+     * @return the file, or <code>null</code> if there is no file with this path
+     */
+    public VirtualFile getFile(String path) {
+        return files.get(path);
+    }
+
+    /**
+     * Returns all files in the tree, sorted by path.
+     *
+     * @return the files
+     */
+    public Collection<VirtualFile> getFiles() {
+        return Collections.unmodifiableCollection(files.values());
+    }
+
+    /**
+     * Returns the files directly or indirectly below a directory.
+     *
+     * @param directory the directory path, without a trailing '/'
+     * @return the files, sorted by path
+     */
+    public List<VirtualFile> getFiles(String directory) {
+        String prefix = directory + '/';
+        List<VirtualFile> answer = new ArrayList<VirtualFile>();
+        for (VirtualFile file : files.tailMap(prefix, true).values()) {
+            if (!file.getPath().startsWith(prefix)) {
+                break;
+            }
+            answer.add(file);
+        }
+        return answer;
+    }
+
+    private static String calculatePath(GeneratedFile generatedFile) {
+        StringBuilder sb = new StringBuilder();
+        if (stringHasValue(generatedFile.getTargetProject())) {
+            sb.append(generatedFile.getTargetProject().replace('\\', '/'));
+            sb.append('/');
+        }
+        if (stringHasValue(generatedFile.getTargetPackage())) {
+            sb.append(generatedFile.getTargetPackage().replace('.', '/'));
+            sb.append('/');
+        }
+        sb.append(generatedFile.getFileName());
+        return sb.toString();
+    }
+}
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.config.Context;
 
@@ -32,4 +34,17 @@ public interface XmlFormatter {
     void setContext(Context context);
 
     String getFormattedContent(Document document);
+
+    /**
+     * Writes the formatted content directly to the output. The default implementation writes the
+     * result of {@link #getFormattedContent(Document)}; formatters that do not post-process the
+     * content should override this method so that the file can be streamed.
+     *
+     * @param document the document to format
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    default void writeFormattedContent(Document document, Appendable out) throws IOException {
+        out.append(getFormattedContent(document));
+    }
 }
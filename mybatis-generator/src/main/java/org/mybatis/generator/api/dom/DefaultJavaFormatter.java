@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.config.Context;
@@ -32,6 +34,11 @@ public class DefaultJavaFormatter implements JavaFormatter {
         return compilationUnit.getFormattedContent();
     }
 
+    @Override
+    public void writeFormattedContent(CompilationUnit compilationUnit, Appendable out) throws IOException {
+        compilationUnit.writeFormattedContent(out);
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.XmlFormatter;
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.config.Context;
@@ -32,6 +34,11 @@ public class DefaultXmlFormatter implements XmlFormatter {
         return document.getFormattedContent();
     }
 
+    @Override
+    public void writeFormattedContent(Document document, Appendable out) throws IOException {
+        document.writeFormattedContent(out);
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
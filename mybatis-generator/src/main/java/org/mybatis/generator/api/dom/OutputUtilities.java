@@ -13,6 +13,7 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -56,6 +57,20 @@ public class OutputUtilities {
         }
     }
 
+    /**
+     * Utility method that indents the output by the default amount for Java (four spaces per indent
+     * level).
+     *
+     * @param out an Appendable to write to
+     * @param indentLevel the required indent level
+     * @throws IOException if the underlying Appendable fails
+     */
+    public static void javaIndent(Appendable out, int indentLevel) throws IOException {
+        for (int i = 0; i < indentLevel; i++) {
+            out.append("    "); //$NON-NLS-1$
+        }
+    }
+
     /**
      * Utility method that indents the buffer by the default amount for XML (two spaces per indent
      * level).
@@ -69,6 +84,20 @@ public class OutputUtilities {
         }
     }
 
+    /**
+     * Utility method that indents the output by the default amount for XML (two spaces per indent
+     * level).
+     *
+     * @param out an Appendable to write to
+     * @param indentLevel the required indent level
+     * @throws IOException if the underlying Appendable fails
+     */
+    public static void xmlIndent(Appendable out, int indentLevel) throws IOException {
+        for (int i = 0; i < indentLevel; i++) {
+            out.append("  "); //$NON-NLS-1$
+        }
+    }
+
     /**
      * Utility method. Adds a newline character to a StringBuilder.
      *
@@ -78,6 +107,16 @@ public class OutputUtilities {
         sb.append(lineSeparator);
     }
 
+    /**
+     * Utility method. Adds a newline character to an Appendable.
+     *
+     * @param out the Appendable to be written to
+     * @throws IOException if the underlying Appendable fails
+     */
+    public static void newLine(Appendable out) throws IOException {
+        out.append(lineSeparator);
+    }
+
     /**
      * returns a unique set of "import xxx;" Strings for the set of types.
      *
@@ -13,6 +13,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -26,6 +27,17 @@ public interface CompilationUnit {
 
     String getFormattedContent();
 
+    /**
+     * Writes the formatted content directly to the output. Implementations that can render
+     * without building the whole file as a String should override this method.
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    default void writeFormattedContent(Appendable out) throws IOException {
+        out.append(getFormattedContent());
+    }
+
     Set<FullyQualifiedJavaType> getImportedTypes();
 
     Set<String> getStaticImports();
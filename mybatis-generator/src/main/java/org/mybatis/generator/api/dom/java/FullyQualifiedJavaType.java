@@ -17,31 +17,30 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The Class FullyQualifiedJavaType.
  *
+ * <p>Type specifications are parsed once and kept in an interned table. {@link #getInstance(String)}
+ * returns the shared, immutable instance; the public constructor returns a mutable copy of it, so
+ * that type arguments can still be added with {@link #addTypeArgument(FullyQualifiedJavaType)}.
+ * Parameterized types that are not going to be changed can be built with {@link #builder(String)}
+ * instead, which returns an interned instance as well.
+ *
  * @author Jeff Butler
  */
 public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType> {
 
     private static final String JAVA_LANG = "java.lang"; //$NON-NLS-1$
 
-    private static FullyQualifiedJavaType intInstance = null;
-
-    private static FullyQualifiedJavaType stringInstance = null;
-
-    private static FullyQualifiedJavaType booleanPrimitiveInstance = null;
-
-    private static FullyQualifiedJavaType objectInstance = null;
-
-    private static FullyQualifiedJavaType dateInstance = null;
-
-    private static FullyQualifiedJavaType criteriaInstance = null;
-
-    private static FullyQualifiedJavaType generatedCriteriaInstance = null;
+    /** The interned types, keyed by the type specification they were parsed from. */
+    private static final ConcurrentMap<String, FullyQualifiedJavaType> INTERNED_TYPES =
+            new ConcurrentHashMap<String, FullyQualifiedJavaType>();
 
     /** The short name without any generic arguments. */
     private String baseShortName;
@@ -68,15 +67,104 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     private boolean extendsBoundedWildcard;
 
+    /** True for interned instances. They and their type arguments never change. */
+    private boolean immutable;
+
+    /**
+     * True if the derived names may be cached, that is if this type and all its type arguments are
+     * immutable, apart from type arguments added to this instance.
+     */
+    private boolean cacheable;
+
+    // derived values, see cacheable
+    private String fullyQualifiedName;
+
+    private String shortName;
+
+    private List<String> importList;
+
     /**
      * Use this constructor to construct a generic type with the specified type parameters.
      *
+     * <p>The returned instance is a mutable copy of the interned type, so the specification is only
+     * parsed once.
+     *
      * @param fullTypeSpecification the full type specification
      */
     public FullyQualifiedJavaType(String fullTypeSpecification) {
+        super();
+        FullyQualifiedJavaType template = getInstance(fullTypeSpecification);
+        baseShortName = template.baseShortName;
+        baseQualifiedName = template.baseQualifiedName;
+        explicitlyImported = template.explicitlyImported;
+        packageName = template.packageName;
+        primitive = template.primitive;
+        isArray = template.isArray;
+        primitiveTypeWrapper = template.primitiveTypeWrapper;
+        typeArguments = new ArrayList<FullyQualifiedJavaType>(template.typeArguments);
+        wildcardType = template.wildcardType;
+        boundedWildcard = template.boundedWildcard;
+        extendsBoundedWildcard = template.extendsBoundedWildcard;
+        cacheable = true;
+        fullyQualifiedName = template.fullyQualifiedName;
+        shortName = template.shortName;
+        importList = template.importList;
+    }
+
+    /**
+     * Parses an interned instance.
+     */
+    private FullyQualifiedJavaType(String fullTypeSpecification, boolean immutable) {
         super();
         typeArguments = new ArrayList<FullyQualifiedJavaType>();
         parse(fullTypeSpecification);
+        typeArguments = Collections.unmodifiableList(typeArguments);
+        this.immutable = immutable;
+        cacheable = true;
+        // calculate the derived values eagerly so that interned instances can be shared between threads
+        fullyQualifiedName = calculateFullyQualifiedName();
+        shortName = calculateShortName();
+        importList = Collections.unmodifiableList(calculateImportList());
+    }
+
+    /**
+     * Forgets the interned types, so that the table does not keep growing over generator runs.
+     * Instances returned before stay valid, they are just no longer shared with later calls.
+     */
+    public static void reset() {
+        INTERNED_TYPES.clear();
+    }
+
+    /**
+     * Returns the interned, immutable instance for a type specification. The specification is
+     * parsed the first time it is seen; later calls return the same instance.
+     *
+     * @param fullTypeSpecification the full type specification
+     * @return the interned type. Calling {@link #addTypeArgument(FullyQualifiedJavaType)} on it
+     *         throws an exception - use the constructor if the type arguments are added later.
+     */
+    public static FullyQualifiedJavaType getInstance(String fullTypeSpecification) {
+        FullyQualifiedJavaType answer = INTERNED_TYPES.get(fullTypeSpecification);
+        if (answer == null) {
+            // not computeIfAbsent - parsing the type arguments interns them recursively
+            answer = new FullyQualifiedJavaType(fullTypeSpecification, true);
+            FullyQualifiedJavaType existing = INTERNED_TYPES.putIfAbsent(fullTypeSpecification, answer);
+            if (existing != null) {
+                answer = existing;
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Returns a builder for a parameterized type.
+     *
+     * @param baseTypeSpecification the type without type arguments, for example "java.util.List"
+     * @return the builder
+     */
+    public static Builder builder(String baseTypeSpecification) {
+        return new Builder(baseTypeSpecification);
     }
 
     public boolean isExplicitlyImported() {
@@ -89,6 +177,16 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
      * @return Returns the fullyQualifiedName.
      */
     public String getFullyQualifiedName() {
+        if (!cacheable) {
+            return calculateFullyQualifiedName();
+        }
+        if (fullyQualifiedName == null) {
+            fullyQualifiedName = calculateFullyQualifiedName();
+        }
+        return fullyQualifiedName;
+    }
+
+    private String calculateFullyQualifiedName() {
         StringBuilder sb = new StringBuilder();
         if (wildcardType) {
             sb.append('?');
@@ -134,6 +232,16 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
      * @return the import list
      */
     public List<String> getImportList() {
+        if (!cacheable) {
+            return calculateImportList();
+        }
+        if (importList == null) {
+            importList = Collections.unmodifiableList(calculateImportList());
+        }
+        return importList;
+    }
+
+    private List<String> calculateImportList() {
         List<String> answer = new ArrayList<String>();
         if (isExplicitlyImported()) {
             int index = baseShortName.indexOf('.');
@@ -178,6 +286,16 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
      * @return Returns the shortName - including any type arguments.
      */
     public String getShortName() {
+        if (!cacheable) {
+            return calculateShortName();
+        }
+        if (shortName == null) {
+            shortName = calculateShortName();
+        }
+        return shortName;
+    }
+
+    private String calculateShortName() {
         StringBuilder sb = new StringBuilder();
         if (wildcardType) {
             sb.append('?');
@@ -255,11 +373,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public static final FullyQualifiedJavaType getIntInstance() {
-        if (intInstance == null) {
-            intInstance = new FullyQualifiedJavaType("int"); //$NON-NLS-1$
-        }
-
-        return intInstance;
+        return getInstance("int"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getNewMapInstance() {
@@ -288,51 +402,27 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public static final FullyQualifiedJavaType getStringInstance() {
-        if (stringInstance == null) {
-            stringInstance = new FullyQualifiedJavaType("java.lang.String"); //$NON-NLS-1$
-        }
-
-        return stringInstance;
+        return getInstance("java.lang.String"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getBooleanPrimitiveInstance() {
-        if (booleanPrimitiveInstance == null) {
-            booleanPrimitiveInstance = new FullyQualifiedJavaType("boolean"); //$NON-NLS-1$
-        }
-
-        return booleanPrimitiveInstance;
+        return getInstance("boolean"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getObjectInstance() {
-        if (objectInstance == null) {
-            objectInstance = new FullyQualifiedJavaType("java.lang.Object"); //$NON-NLS-1$
-        }
-
-        return objectInstance;
+        return getInstance("java.lang.Object"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getDateInstance() {
-        if (dateInstance == null) {
-            dateInstance = new FullyQualifiedJavaType("java.util.Date"); //$NON-NLS-1$
-        }
-
-        return dateInstance;
+        return getInstance("java.util.Date"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getCriteriaInstance() {
-        if (criteriaInstance == null) {
-            criteriaInstance = new FullyQualifiedJavaType("Criteria"); //$NON-NLS-1$
-        }
-
-        return criteriaInstance;
+        return getInstance("Criteria"); //$NON-NLS-1$
     }
 
     public static final FullyQualifiedJavaType getGeneratedCriteriaInstance() {
-        if (generatedCriteriaInstance == null) {
-            generatedCriteriaInstance = new FullyQualifiedJavaType("GeneratedCriteria"); //$NON-NLS-1$
-        }
-
-        return generatedCriteriaInstance;
+        return getInstance("GeneratedCriteria"); //$NON-NLS-1$
     }
 
     @Override
@@ -341,7 +431,16 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public void addTypeArgument(FullyQualifiedJavaType type) {
+        if (immutable) {
+            throw new UnsupportedOperationException(getString("RuntimeError.24", //$NON-NLS-1$
+                    getFullyQualifiedName()));
+        }
         typeArguments.add(type);
+        // a mutable argument may still change, so its names cannot be cached here
+        cacheable = cacheable && type.immutable;
+        fullyQualifiedName = null;
+        shortName = null;
+        importList = null;
     }
 
     private void parse(String fullTypeSpecification) {
@@ -455,7 +554,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
                 openCount--;
             } else if (",".equals(token)) { //$NON-NLS-1$
                 if (openCount == 0) {
-                    typeArguments.add(new FullyQualifiedJavaType(sb.toString()));
+                    typeArguments.add(getInstance(sb.toString()));
                     sb.setLength(0);
                 } else {
                     sb.append(token);
@@ -471,7 +570,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
         String finalType = sb.toString();
         if (stringHasValue(finalType)) {
-            typeArguments.add(new FullyQualifiedJavaType(finalType));
+            typeArguments.add(getInstance(finalType));
         }
     }
 
@@ -495,7 +594,70 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
         return isArray;
     }
 
+    /**
+     * Returns true for interned instances, which never change.
+     *
+     * @return true if the type is interned
+     */
+    boolean isImmutable() {
+        return immutable;
+    }
+
+    /**
+     * Returns the type arguments. The list cannot be modified, type arguments are added with
+     * {@link #addTypeArgument(FullyQualifiedJavaType)} so that the cached names stay correct.
+     *
+     * @return the type arguments
+     */
     public List<FullyQualifiedJavaType> getTypeArguments() {
-        return typeArguments;
+        // the list of an interned instance is unmodifiable already
+        return immutable ? typeArguments : Collections.unmodifiableList(typeArguments);
+    }
+
+    /**
+     * Builds an interned parameterized type. Unlike a type created with the constructor and
+     * {@link FullyQualifiedJavaType#addTypeArgument(FullyQualifiedJavaType)}, the result is shared
+     * and never copied or re-parsed.
+     */
+    public static class Builder {
+
+        private final String baseTypeSpecification;
+
+        private final List<FullyQualifiedJavaType> typeArguments = new ArrayList<FullyQualifiedJavaType>();
+
+        private Builder(String baseTypeSpecification) {
+            super();
+            this.baseTypeSpecification = baseTypeSpecification;
+        }
+
+        public Builder addTypeArgument(FullyQualifiedJavaType type) {
+            typeArguments.add(type);
+            return this;
+        }
+
+        public Builder addTypeArgument(String typeSpecification) {
+            return addTypeArgument(getInstance(typeSpecification));
+        }
+
+        public FullyQualifiedJavaType build() {
+            if (typeArguments.isEmpty()) {
+                return getInstance(baseTypeSpecification);
+            }
+
+            StringBuilder sb = new StringBuilder();
+            sb.append(baseTypeSpecification.trim());
+            sb.append('<');
+            boolean first = true;
+            for (FullyQualifiedJavaType type : typeArguments) {
+                if (first) {
+                    first = false;
+                } else {
+                    sb.append(", "); //$NON-NLS-1$
+                }
+                sb.append(type.getFullyQualifiedName());
+            }
+            sb.append('>');
+            return getInstance(sb.toString());
+        }
     }
 }
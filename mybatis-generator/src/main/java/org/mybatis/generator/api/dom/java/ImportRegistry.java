@@ -0,0 +1,267 @@
+package org.mybatis.generator.api.dom.java;
+
+import static org.mybatis.generator.api.dom.OutputUtilities.newLine;
+
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The imported types of a compilation unit. The set keeps the sorted import names up to date as
+ * types are added, so rendering the imports is a single walk over the names instead of collecting
+ * and sorting the import lists of all types on every render.
+ *
+ * <p>Types can be added through any reference to the set - generators and comment generators
+ * receive it from {@link CompilationUnit#getImportedTypes()}. Removing a type rebuilds the names.
+ *
+ * <p>Interned types never change, their import names are registered once when they are added. A
+ * type created with the constructor can still get type arguments after it was added, so the
+ * import names of such types are compared with their current import lists before the names are
+ * read, and rebuilt if one of them changed.
+ *
+ * <p>The set also records import names that share a short name, for example
+ * <code>java.util.Date</code> and <code>java.sql.Date</code>. Only one of them can be used by its
+ * short name in the generated code; see {@link #getConflictingShortNames()}.
+ */
+public class ImportRegistry extends AbstractSet<FullyQualifiedJavaType> {
+
+    /**
+     * Orders the names like the rendered "import xxx;" lines, so a name sorts before the names it
+     * is a prefix of only if the next character sorts after ';'.
+     */
+    private static final Comparator<String> IMPORT_ORDER = new Comparator<String>() {
+        @Override
+        public int compare(String s1, String s2) {
+            int length = Math.min(s1.length(), s2.length());
+            for (int i = 0; i < length; i++) {
+                char c1 = s1.charAt(i);
+                char c2 = s2.charAt(i);
+                if (c1 != c2) {
+                    return c1 - c2;
+                }
+            }
+            if (s1.length() == s2.length()) {
+                return 0;
+            }
+            return s1.length() < s2.length() ? ';' - s2.charAt(length) : s1.charAt(length) - ';';
+        }
+    };
+
+    /** The interned types. */
+    private final Set<FullyQualifiedJavaType> types = new TreeSet<FullyQualifiedJavaType>();
+
+    /**
+     * The types created with the constructor. They are not kept in the sorted set because adding a
+     * type argument changes their name, and with it their order.
+     */
+    private final List<FullyQualifiedJavaType> mutableTypes = new ArrayList<FullyQualifiedJavaType>();
+
+    /** The import lists of the mutable types the names were last registered with, by index. */
+    private final List<List<String>> mutableImportLists = new ArrayList<List<String>>();
+
+    /** Import name to the number of types that need it. */
+    private final Map<String, Integer> importNames = new TreeMap<String, Integer>(IMPORT_ORDER);
+
+    /** Short name to the first import name registered with it. */
+    private final Map<String, String> shortNames = new HashMap<String, String>();
+
+    private final Set<String> conflictingShortNames = new TreeSet<String>();
+
+    @Override
+    public boolean add(FullyQualifiedJavaType type) {
+        if (type.isImmutable()) {
+            if (!types.add(type)) {
+                return false;
+            }
+            registerImports(type.getImportList());
+            return true;
+        }
+
+        // by identity, an equal type may still get different type arguments
+        for (FullyQualifiedJavaType mutableType : mutableTypes) {
+            if (mutableType == type) {
+                return false;
+            }
+        }
+        List<String> importList = type.getImportList();
+        mutableTypes.add(type);
+        mutableImportLists.add(importList);
+        registerImports(importList);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!types.remove(o)) {
+            int index = mutableTypes.indexOf(o);
+            if (index == -1) {
+                return false;
+            }
+            mutableTypes.remove(index);
+            mutableImportLists.remove(index);
+        }
+
+        rebuild();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        types.clear();
+        mutableTypes.clear();
+        mutableImportLists.clear();
+        rebuild();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return types.contains(o) || mutableTypes.contains(o);
+    }
+
+    @Override
+    public Iterator<FullyQualifiedJavaType> iterator() {
+        List<FullyQualifiedJavaType> snapshot = new ArrayList<FullyQualifiedJavaType>(types);
+        snapshot.addAll(mutableTypes);
+        final Iterator<FullyQualifiedJavaType> iterator = snapshot.iterator();
+        return new Iterator<FullyQualifiedJavaType>() {
+            private FullyQualifiedJavaType current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public FullyQualifiedJavaType next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                ImportRegistry.this.remove(current);
+                current = null;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return types.size() + mutableTypes.size();
+    }
+
+    /**
+     * Returns the names to import, in the order they are rendered.
+     *
+     * @return the import names
+     */
+    public Set<String> getImportNames() {
+        refresh();
+        return Collections.unmodifiableSet(importNames.keySet());
+    }
+
+    /**
+     * Returns the short names that are shared by more than one import name.
+     *
+     * @return the conflicting short names
+     */
+    public Set<String> getConflictingShortNames() {
+        refresh();
+        return Collections.unmodifiableSet(conflictingShortNames);
+    }
+
+    /**
+     * Returns the import name registered for a short name. If the short name is conflicting, this
+     * is the import name that was registered first.
+     *
+     * @param shortName the short name
+     * @return the import name, or <code>null</code> if nothing with this short name is imported
+     */
+    public String getImportName(String shortName) {
+        refresh();
+        return shortNames.get(shortName);
+    }
+
+    /**
+     * Writes an "import xxx;" line for every import name, followed by an empty line if there are
+     * any imports.
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeImports(Appendable out) throws IOException {
+        refresh();
+        for (String importName : importNames.keySet()) {
+            out.append("import "); //$NON-NLS-1$
+            out.append(importName);
+            out.append(';');
+            newLine(out);
+        }
+
+        if (!importNames.isEmpty()) {
+            newLine(out);
+        }
+    }
+
+    private void registerImports(List<String> importList) {
+        for (String importName : importList) {
+            registerImport(importName);
+        }
+    }
+
+    private void registerImport(String importName) {
+        Integer count = importNames.get(importName);
+        if (count != null) {
+            importNames.put(importName, count + 1);
+            return;
+        }
+
+        importNames.put(importName, 1);
+        String shortName = importName.substring(importName.lastIndexOf('.') + 1);
+        String registered = shortNames.get(shortName);
+        if (registered == null) {
+            shortNames.put(shortName, importName);
+        } else {
+            conflictingShortNames.add(shortName);
+        }
+    }
+
+    /**
+     * Rebuilds the names if a type argument was added to one of the mutable types since their names
+     * were registered.
+     */
+    private void refresh() {
+        for (int i = 0; i < mutableTypes.size(); i++) {
+            if (!mutableTypes.get(i).getImportList().equals(mutableImportLists.get(i))) {
+                rebuild();
+                return;
+            }
+        }
+    }
+
+    private void rebuild() {
+        importNames.clear();
+        shortNames.clear();
+        conflictingShortNames.clear();
+        for (FullyQualifiedJavaType type : types) {
+            registerImports(type.getImportList());
+        }
+        for (int i = 0; i < mutableTypes.size(); i++) {
+            List<String> importList = mutableTypes.get(i).getImportList();
+            mutableImportLists.set(i, importList);
+            registerImports(importList);
+        }
+    }
+}
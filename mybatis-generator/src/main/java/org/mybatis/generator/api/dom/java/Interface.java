@@ -13,10 +13,10 @@
  */
 package org.mybatis.generator.api.dom.java;
 
-import static org.mybatis.generator.api.dom.OutputUtilities.calculateImports;
 import static org.mybatis.generator.api.dom.OutputUtilities.newLine;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -29,7 +29,7 @@ import java.util.TreeSet;
  */
 public class Interface extends InnerInterface implements CompilationUnit {
 
-    private Set<FullyQualifiedJavaType> importedTypes;
+    private ImportRegistry importedTypes;
 
     private Set<String> staticImports;
 
@@ -37,7 +37,7 @@ public class Interface extends InnerInterface implements CompilationUnit {
 
     public Interface(FullyQualifiedJavaType type) {
         super(type);
-        importedTypes = new TreeSet<FullyQualifiedJavaType>();
+        importedTypes = new ImportRegistry();
         fileCommentLines = new ArrayList<String>();
         staticImports = new TreeSet<String>();
     }
@@ -93,14 +93,11 @@ public class Interface extends InnerInterface implements CompilationUnit {
             newLine(sb);
         }
 
-        Set<String> importStrings = calculateImports(importedTypes);
-        for (String importString : importStrings) {
-            sb.append(importString);
-            newLine(sb);
-        }
-
-        if (importStrings.size() > 0) {
-            newLine(sb);
+        try {
+            importedTypes.writeImports(sb);
+        } catch (IOException e) {
+            // a StringBuilder never throws IOException
+            throw new IllegalStateException(e);
         }
 
         sb.append(super.getFormattedContent(0, this));
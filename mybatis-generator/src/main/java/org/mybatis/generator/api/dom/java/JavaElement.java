@@ -13,6 +13,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -152,6 +153,36 @@ public abstract class JavaElement {
         }
     }
 
+    /**
+     * Writes the formatted javadoc.
+     *
+     * @param out the output to write to
+     * @param indentLevel the indent level
+     * @throws IOException if the output cannot be written
+     */
+    public void writeFormattedJavadoc(Appendable out, int indentLevel) throws IOException {
+        for (String javaDocLine : javaDocLines) {
+            OutputUtilities.javaIndent(out, indentLevel);
+            out.append(javaDocLine);
+            OutputUtilities.newLine(out);
+        }
+    }
+
+    /**
+     * Writes the formatted annotations.
+     *
+     * @param out the output to write to
+     * @param indentLevel the indent level
+     * @throws IOException if the output cannot be written
+     */
+    public void writeFormattedAnnotations(Appendable out, int indentLevel) throws IOException {
+        for (String annotation : annotations) {
+            OutputUtilities.javaIndent(out, indentLevel);
+            out.append(annotation);
+            OutputUtilities.newLine(out);
+        }
+    }
+
     /**
      * Checks if is final.
      *
@@ -13,6 +13,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -158,99 +159,119 @@ public class Method extends JavaElement {
     public String getFormattedContent(int indentLevel, boolean interfaceMethod,
                                       CompilationUnit compilationUnit) {
         StringBuilder sb = new StringBuilder();
+        try {
+            writeFormattedContent(sb, indentLevel, interfaceMethod, compilationUnit);
+        } catch (IOException e) {
+            // a StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
+
+        return sb.toString();
+    }
 
-        addFormattedJavadoc(sb, indentLevel);
-        addFormattedAnnotations(sb, indentLevel);
+    /**
+     * Writes the formatted content directly to the output.
+     *
+     * @param out the output to write to
+     * @param indentLevel the indent level
+     * @param interfaceMethod the interface method
+     * @param compilationUnit the compilation unit
+     * @throws IOException if the output cannot be written
+     */
+    public void writeFormattedContent(Appendable out, int indentLevel, boolean interfaceMethod,
+                                      CompilationUnit compilationUnit) throws IOException {
+        writeFormattedJavadoc(out, indentLevel);
+        writeFormattedAnnotations(out, indentLevel);
 
-        OutputUtilities.javaIndent(sb, indentLevel);
+        OutputUtilities.javaIndent(out, indentLevel);
 
         if (interfaceMethod) {
             if (isStatic()) {
-                sb.append("static "); //$NON-NLS-1$
+                out.append("static "); //$NON-NLS-1$
             } else if (isDefault()) {
-                sb.append("default "); //$NON-NLS-1$
+                out.append("default "); //$NON-NLS-1$
             }
         } else {
-            sb.append(getVisibility().getValue());
+            out.append(getVisibility().getValue());
 
             if (isStatic()) {
-                sb.append("static "); //$NON-NLS-1$
+                out.append("static "); //$NON-NLS-1$
             }
 
             if (isFinal()) {
-                sb.append("final "); //$NON-NLS-1$
+                out.append("final "); //$NON-NLS-1$
             }
 
             if (isSynchronized()) {
-                sb.append("synchronized "); //$NON-NLS-1$
+                out.append("synchronized "); //$NON-NLS-1$
             }
 
             if (isNative()) {
-                sb.append("native "); //$NON-NLS-1$
+                out.append("native "); //$NON-NLS-1$
             } else if (bodyLines.size() == 0) {
-                sb.append("abstract "); //$NON-NLS-1$
+                out.append("abstract "); //$NON-NLS-1$
             }
         }
 
         if (!getTypeParameters().isEmpty()) {
-            sb.append("<"); //$NON-NLS-1$
+            out.append("<"); //$NON-NLS-1$
             boolean comma = false;
             for (TypeParameter typeParameter : getTypeParameters()) {
                 if (comma) {
-                    sb.append(", "); //$NON-NLS-1$
+                    out.append(", "); //$NON-NLS-1$
                 } else {
                     comma = true;
                 }
 
-                sb.append(typeParameter.getFormattedContent(compilationUnit));
+                out.append(typeParameter.getFormattedContent(compilationUnit));
             }
-            sb.append("> "); //$NON-NLS-1$
+            out.append("> "); //$NON-NLS-1$
         }
 
         if (!constructor) {
             if (getReturnType() == null) {
-                sb.append("void"); //$NON-NLS-1$
+                out.append("void"); //$NON-NLS-1$
             } else {
-                sb.append(JavaDomUtils.calculateTypeName(compilationUnit, getReturnType()));
+                out.append(JavaDomUtils.calculateTypeName(compilationUnit, getReturnType()));
             }
-            sb.append(' ');
+            out.append(' ');
         }
 
-        sb.append(getName());
-        sb.append('(');
+        out.append(getName());
+        out.append('(');
 
         boolean comma = false;
         for (Parameter parameter : getParameters()) {
             if (comma) {
-                sb.append(", "); //$NON-NLS-1$
+                out.append(", "); //$NON-NLS-1$
             } else {
                 comma = true;
             }
 
-            sb.append(parameter.getFormattedContent(compilationUnit));
+            out.append(parameter.getFormattedContent(compilationUnit));
         }
 
-        sb.append(')');
+        out.append(')');
 
         if (getExceptions().size() > 0) {
-            sb.append(" throws "); //$NON-NLS-1$
+            out.append(" throws "); //$NON-NLS-1$
             comma = false;
             for (FullyQualifiedJavaType fqjt : getExceptions()) {
                 if (comma) {
-                    sb.append(", "); //$NON-NLS-1$
+                    out.append(", "); //$NON-NLS-1$
                 } else {
                     comma = true;
                 }
 
-                sb.append(JavaDomUtils.calculateTypeName(compilationUnit, fqjt));
+                out.append(JavaDomUtils.calculateTypeName(compilationUnit, fqjt));
             }
         }
 
         // if no body lines, then this is an abstract method
         if (bodyLines.size() == 0 || isNative()) {
-            sb.append(';');
+            out.append(';');
         } else {
-            sb.append(" {"); //$NON-NLS-1$
+            out.append(" {"); //$NON-NLS-1$
             indentLevel++;
 
             ListIterator<String> listIter = bodyLines.listIterator();
@@ -260,9 +281,9 @@ public class Method extends JavaElement {
                     indentLevel--;
                 }
 
-                OutputUtilities.newLine(sb);
-                OutputUtilities.javaIndent(sb, indentLevel);
-                sb.append(line);
+                OutputUtilities.newLine(out);
+                OutputUtilities.javaIndent(out, indentLevel);
+                out.append(line);
 
                 if ((line.endsWith("{") && !line.startsWith("switch")) //$NON-NLS-1$ //$NON-NLS-2$
                         || line.endsWith(":")) { //$NON-NLS-1$
@@ -285,12 +306,10 @@ public class Method extends JavaElement {
             }
 
             indentLevel--;
-            OutputUtilities.newLine(sb);
-            OutputUtilities.javaIndent(sb, indentLevel);
-            sb.append('}');
+            OutputUtilities.newLine(out);
+            OutputUtilities.javaIndent(out, indentLevel);
+            out.append('}');
         }
-
-        return sb.toString();
     }
 
     /**
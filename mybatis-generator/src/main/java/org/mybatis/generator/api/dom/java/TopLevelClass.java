@@ -13,10 +13,10 @@
  */
 package org.mybatis.generator.api.dom.java;
 
-import static org.mybatis.generator.api.dom.OutputUtilities.calculateImports;
 import static org.mybatis.generator.api.dom.OutputUtilities.newLine;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -29,7 +29,7 @@ import java.util.TreeSet;
  */
 public class TopLevelClass extends InnerClass implements CompilationUnit {
 
-    private Set<FullyQualifiedJavaType> importedTypes;
+    private ImportRegistry importedTypes;
 
     private Set<String> staticImports;
 
@@ -37,7 +37,7 @@ public class TopLevelClass extends InnerClass implements CompilationUnit {
 
     public TopLevelClass(FullyQualifiedJavaType type) {
         super(type);
-        importedTypes = new TreeSet<FullyQualifiedJavaType>();
+        importedTypes = new ImportRegistry();
         fileCommentLines = new ArrayList<String>();
         staticImports = new TreeSet<String>();
     }
@@ -67,44 +67,45 @@ public class TopLevelClass extends InnerClass implements CompilationUnit {
     @Override
     public String getFormattedContent() {
         StringBuilder sb = new StringBuilder();
+        try {
+            writeFormattedContent(sb);
+        } catch (IOException e) {
+            // a StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
 
+        return sb.toString();
+    }
+
+    @Override
+    public void writeFormattedContent(Appendable out) throws IOException {
         for (String fileCommentLine : fileCommentLines) {
-            sb.append(fileCommentLine);
-            newLine(sb);
+            out.append(fileCommentLine);
+            newLine(out);
         }
 
         if (stringHasValue(getType().getPackageName())) {
-            sb.append("package "); //$NON-NLS-1$
-            sb.append(getType().getPackageName());
-            sb.append(';');
-            newLine(sb);
-            newLine(sb);
+            out.append("package "); //$NON-NLS-1$
+            out.append(getType().getPackageName());
+            out.append(';');
+            newLine(out);
+            newLine(out);
         }
 
         for (String staticImport : staticImports) {
-            sb.append("import static "); //$NON-NLS-1$
-            sb.append(staticImport);
-            sb.append(';');
-            newLine(sb);
+            out.append("import static "); //$NON-NLS-1$
+            out.append(staticImport);
+            out.append(';');
+            newLine(out);
         }
 
         if (staticImports.size() > 0) {
-            newLine(sb);
+            newLine(out);
         }
 
-        Set<String> importStrings = calculateImports(importedTypes);
-        for (String importString : importStrings) {
-            sb.append(importString);
-            newLine(sb);
-        }
-
-        if (importStrings.size() > 0) {
-            newLine(sb);
-        }
+        importedTypes.writeImports(out);
 
-        sb.append(super.getFormattedContent(0, this));
-
-        return sb.toString();
+        super.writeFormattedContent(out, 0, this);
     }
 
     @Override
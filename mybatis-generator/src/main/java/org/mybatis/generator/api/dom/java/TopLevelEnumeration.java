@@ -13,10 +13,10 @@
  */
 package org.mybatis.generator.api.dom.java;
 
-import static org.mybatis.generator.api.dom.OutputUtilities.calculateImports;
 import static org.mybatis.generator.api.dom.OutputUtilities.newLine;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -24,7 +24,7 @@ import java.util.TreeSet;
 
 public class TopLevelEnumeration extends InnerEnum implements CompilationUnit {
 
-    private Set<FullyQualifiedJavaType> importedTypes;
+    private ImportRegistry importedTypes;
 
     private Set<String> staticImports;
 
@@ -37,7 +37,7 @@ public class TopLevelEnumeration extends InnerEnum implements CompilationUnit {
      */
     public TopLevelEnumeration(FullyQualifiedJavaType type) {
         super(type);
-        importedTypes = new TreeSet<FullyQualifiedJavaType>();
+        importedTypes = new ImportRegistry();
         fileCommentLines = new ArrayList<String>();
         staticImports = new TreeSet<String>();
     }
@@ -70,14 +70,11 @@ public class TopLevelEnumeration extends InnerEnum implements CompilationUnit {
             newLine(sb);
         }
 
-        Set<String> importStrings = calculateImports(importedTypes);
-        for (String importString : importStrings) {
-            sb.append(importString);
-            newLine(sb);
-        }
-
-        if (importStrings.size() > 0) {
-            newLine(sb);
+        try {
+            importedTypes.writeImports(sb);
+        } catch (IOException e) {
+            // a StringBuilder never throws IOException
+            throw new IllegalStateException(e);
         }
 
         sb.append(super.getFormattedContent(0, this));
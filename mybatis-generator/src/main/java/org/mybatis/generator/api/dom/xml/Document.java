@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.OutputUtilities;
 
 /**
@@ -93,23 +95,48 @@ public class Document {
      */
     public String getFormattedContent() {
         StringBuilder sb = new StringBuilder();
+        try {
+            writeFormattedContent(sb);
+        } catch (IOException e) {
+            // a StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
 
-        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+        return sb.toString();
+    }
 
-        if (publicId != null && systemId != null) {
-            OutputUtilities.newLine(sb);
-            sb.append("<!DOCTYPE "); //$NON-NLS-1$
-            sb.append(rootElement.getName());
-            sb.append(" PUBLIC \""); //$NON-NLS-1$
-            sb.append(publicId);
-            sb.append("\" \""); //$NON-NLS-1$
-            sb.append(systemId);
-            sb.append("\">"); //$NON-NLS-1$
-        }
+    /**
+     * Writes the formatted content directly to the output. The whole element tree is rendered into
+     * the one output, so no per-element Strings are built.
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeFormattedContent(Appendable out) throws IOException {
+        writeFormattedHeader(out);
+        OutputUtilities.newLine(out);
+        rootElement.writeFormattedContent(out, 0);
+    }
 
-        OutputUtilities.newLine(sb);
-        sb.append(rootElement.getFormattedContent(0));
+    /**
+     * Writes the XML declaration and, if public and system ids are set, the document type
+     * declaration. This is everything that precedes the root element.
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeFormattedHeader(Appendable out) throws IOException {
+        out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
 
-        return sb.toString();
+        if (publicId != null && systemId != null) {
+            OutputUtilities.newLine(out);
+            out.append("<!DOCTYPE "); //$NON-NLS-1$
+            out.append(rootElement.getName());
+            out.append(" PUBLIC \""); //$NON-NLS-1$
+            out.append(publicId);
+            out.append("\" \""); //$NON-NLS-1$
+            out.append(systemId);
+            out.append("\">"); //$NON-NLS-1$
+        }
     }
 }
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
+
 public abstract class Element {
 
     public Element() {
@@ -20,4 +22,17 @@ public abstract class Element {
     }
 
     public abstract String getFormattedContent(int indentLevel);
+
+    /**
+     * Writes the formatted content directly to the output, without building an intermediate
+     * String. Subclasses should override this method; the default implementation simply writes
+     * the result of {@link #getFormattedContent(int)}.
+     *
+     * @param out the output to write to
+     * @param indentLevel the indent level
+     * @throws IOException if the output cannot be written
+     */
+    public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+        out.append(getFormattedContent(indentLevel));
+    }
 }
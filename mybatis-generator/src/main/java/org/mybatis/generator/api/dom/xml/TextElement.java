@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.OutputUtilities;
 
 /**
@@ -48,6 +50,17 @@ public class TextElement extends Element {
         return sb.toString();
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.mybatis.generator.api.dom.xml.Element#writeFormattedContent(java.lang.Appendable, int)
+     */
+    @Override
+    public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+        OutputUtilities.xmlIndent(out, indentLevel);
+        out.append(content);
+    }
+
     /**
      * Gets the content.
      *
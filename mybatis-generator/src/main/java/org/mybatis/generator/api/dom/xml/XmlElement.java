@@ -13,6 +13,7 @@
  */
 package org.mybatis.generator.api.dom.xml;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -123,34 +124,51 @@ public class XmlElement extends Element {
     @Override
     public String getFormattedContent(int indentLevel) {
         StringBuilder sb = new StringBuilder();
+        try {
+            writeFormattedContent(sb, indentLevel);
+        } catch (IOException e) {
+            // a StringBuilder never throws IOException
+            throw new IllegalStateException(e);
+        }
 
-        OutputUtilities.xmlIndent(sb, indentLevel);
-        sb.append('<');
-        sb.append(this.name);
+        return sb.toString();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.mybatis.generator.api.dom.xml.Element#writeFormattedContent(java.lang.Appendable, int)
+     */
+    @Override
+    public void writeFormattedContent(Appendable out, int indentLevel) throws IOException {
+        OutputUtilities.xmlIndent(out, indentLevel);
+        out.append('<');
+        out.append(this.name);
 
         // Collections.sort(attributes);
         for (Attribute att : this.attributes) {
-            sb.append(' ');
-            sb.append(att.getFormattedContent());
+            out.append(' ');
+            out.append(att.getName());
+            out.append("=\""); //$NON-NLS-1$
+            out.append(att.getValue());
+            out.append('\"');
         }
 
         if (this.elements.size() > 0) {
-            sb.append(">"); //$NON-NLS-1$
+            out.append(">"); //$NON-NLS-1$
             for (Element element : this.elements) {
-                OutputUtilities.newLine(sb);
-                sb.append(element.getFormattedContent(indentLevel + 1));
+                OutputUtilities.newLine(out);
+                element.writeFormattedContent(out, indentLevel + 1);
             }
-            OutputUtilities.newLine(sb);
-            OutputUtilities.xmlIndent(sb, indentLevel);
-            sb.append("</"); //$NON-NLS-1$
-            sb.append(this.name);
-            sb.append('>');
+            OutputUtilities.newLine(out);
+            OutputUtilities.xmlIndent(out, indentLevel);
+            out.append("</"); //$NON-NLS-1$
+            out.append(this.name);
+            out.append('>');
 
         } else {
-            sb.append(" />"); //$NON-NLS-1$
+            out.append(" />"); //$NON-NLS-1$
         }
-
-        return sb.toString();
     }
 
     /**
@@ -18,10 +18,17 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
@@ -30,6 +37,10 @@ import org.mybatis.generator.internal.ObjectFactory;
 /**
  * Holds information about a class (uses the JavaBeans Introspector to find properties).
  *
+ * <p>The properties are kept in an index keyed by property name. The index of a class that was
+ * loaded from a class file or a jar file is kept across generation runs, and is only rebuilt when
+ * that file is modified.
+ *
  * @author Jeff Butler
  *
  */
@@ -37,6 +48,10 @@ public class RootClassInfo {
 
     private static Map<String, RootClassInfo> rootClassInfoMap;
 
+    /** Property indexes that survive {@link #reset()}, keyed by class name. */
+    private static final ConcurrentMap<String, PropertyIndex> propertyIndexes =
+            new ConcurrentHashMap<String, PropertyIndex>();
+
     static {
         rootClassInfoMap = Collections.synchronizedMap(new HashMap<String, RootClassInfo>());
     }
@@ -53,16 +68,17 @@ public class RootClassInfo {
 
     /**
      * Clears the internal map containing root class info. This method should be called at the
-     * beginning of a generation run to clear the cached root class info in case there has been a
-     * change. For example, when using the eclipse launcher, the cache would be kept until eclipse was
-     * restarted.
+     * beginning of a generation run so that warnings are reported to the warnings list of the
+     * current run. Property indexes are kept unless the class file has changed since it was
+     * introspected. For example, when using the eclipse launcher, a changed root class is picked up
+     * without restarting eclipse.
      *
      */
     public static void reset() {
         rootClassInfoMap.clear();
     }
 
-    private PropertyDescriptor[] propertyDescriptors;
+    private Map<String, PropertyInfo> properties;
     private String className;
     private List<String> warnings;
     private boolean genericMode = false;
@@ -82,64 +98,153 @@ public class RootClassInfo {
             genericMode = true;
         }
 
-        try {
-            Class<?> clazz = ObjectFactory.externalClassForName(nameWithoutGenerics);
-            BeanInfo bi = Introspector.getBeanInfo(clazz);
-            propertyDescriptors = bi.getPropertyDescriptors();
-        } catch (Exception e) {
-            propertyDescriptors = null;
+        PropertyIndex propertyIndex = getPropertyIndex(nameWithoutGenerics);
+        if (propertyIndex == null) {
+            properties = null;
             warnings.add(getString("Warning.20", className)); //$NON-NLS-1$
+        } else {
+            properties = propertyIndex.properties;
         }
     }
 
     public boolean containsProperty(IntrospectedColumn introspectedColumn) {
-        if (propertyDescriptors == null) {
+        if (properties == null) {
             return false;
         }
 
-        boolean found = false;
         String propertyName = introspectedColumn.getJavaProperty();
+        PropertyInfo propertyInfo = properties.get(propertyName);
+        if (propertyInfo == null) {
+            return false;
+        }
+
+        // property name is in the rootClass...
+
+        // Is it the proper type?
         String propertyType = introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName();
+        if (genericMode && propertyInfo.typeName.equals("java.lang.Object")) { //$NON-NLS-1$
+            // OK - but add a warning
+            warnings.add(getString("Warning.28", //$NON-NLS-1$
+                    propertyName, className));
+        } else if (!propertyInfo.typeName.equals(propertyType)) {
+            warnings.add(getString("Warning.21", //$NON-NLS-1$
+                    propertyName, className, propertyType));
+            return false;
+        }
+
+        // Does it have a getter?
+        if (!propertyInfo.readable) {
+            warnings.add(getString("Warning.22", //$NON-NLS-1$
+                    propertyName, className));
+            return false;
+        }
+
+        // Does it have a setter?
+        if (!propertyInfo.writable) {
+            warnings.add(getString("Warning.23", //$NON-NLS-1$
+                    propertyName, className));
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the property index of a class, introspecting the class if there is no current index.
+     *
+     * @return the index, or null if the class cannot be loaded or introspected
+     */
+    private static PropertyIndex getPropertyIndex(String className) {
+        URL location = ObjectFactory.getResource(className.replace('.', '/') + ".class"); //$NON-NLS-1$
+        long lastModified = getLastModified(location);
+
+        PropertyIndex propertyIndex = propertyIndexes.get(className);
+        if (propertyIndex != null && propertyIndex.isCurrent(location, lastModified)) {
+            return propertyIndex;
+        }
 
-        // get method names from class and check against this column definition.
-        // better yet, have a map of method Names. check against it.
-        for (int i = 0; i < propertyDescriptors.length; i++) {
-            PropertyDescriptor propertyDescriptor = propertyDescriptors[i];
-
-            if (propertyDescriptor.getName().equals(propertyName)) {
-                // property name is in the rootClass...
-
-                // Is it the proper type?
-                String introspectedPropertyType = propertyDescriptor.getPropertyType().getName();
-                if (genericMode && introspectedPropertyType.equals("java.lang.Object")) { //$NON-NLS-1$
-                    // OK - but add a warning
-                    warnings.add(getString("Warning.28", //$NON-NLS-1$
-                            propertyName, className));
-                } else if (!introspectedPropertyType.equals(propertyType)) {
-                    warnings.add(getString("Warning.21", //$NON-NLS-1$
-                            propertyName, className, propertyType));
-                    break;
-                }
-
-                // Does it have a getter?
-                if (propertyDescriptor.getReadMethod() == null) {
-                    warnings.add(getString("Warning.22", //$NON-NLS-1$
-                            propertyName, className));
-                    break;
-                }
-
-                // Does it have a setter?
-                if (propertyDescriptor.getWriteMethod() == null) {
-                    warnings.add(getString("Warning.23", //$NON-NLS-1$
-                            propertyName, className));
-                    break;
-                }
-
-                found = true;
-                break;
+        try {
+            Class<?> clazz = ObjectFactory.externalClassForName(className);
+            BeanInfo bi = Introspector.getBeanInfo(clazz);
+            propertyIndex = new PropertyIndex(location, lastModified, bi.getPropertyDescriptors());
+        } catch (Exception e) {
+            return null;
+        }
+
+        if (lastModified > 0L) {
+            propertyIndexes.put(className, propertyIndex);
+        } else {
+            // the class file cannot be checked for changes, introspect again in the next run
+            propertyIndexes.remove(className);
+        }
+        return propertyIndex;
+    }
+
+    /**
+     * Returns the modification time of the class file or of the jar file that contains it.
+     *
+     * @return the modification time, or 0 if it cannot be determined
+     */
+    private static long getLastModified(URL location) {
+        if (location == null) {
+            return 0L;
+        }
+
+        try {
+            URL fileLocation = location;
+            if ("jar".equals(location.getProtocol())) { //$NON-NLS-1$
+                fileLocation = ((JarURLConnection) location.openConnection()).getJarFileURL();
+            }
+            if ("file".equals(fileLocation.getProtocol())) { //$NON-NLS-1$
+                return new File(fileLocation.toURI()).lastModified();
+            }
+        } catch (IOException e) {
+            // fall through
+        } catch (URISyntaxException e) {
+            // fall through
+        } catch (IllegalArgumentException e) {
+            // fall through
+        }
+
+        return 0L;
+    }
+
+    private static class PropertyIndex {
+        private final String location;
+        private final long lastModified;
+        private final Map<String, PropertyInfo> properties;
+
+        PropertyIndex(URL location, long lastModified, PropertyDescriptor[] propertyDescriptors) {
+            this.location = location == null ? null : location.toExternalForm();
+            this.lastModified = lastModified;
+            Map<String, PropertyInfo> map = new HashMap<String, PropertyInfo>();
+            for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
+                // indexed properties have no property type
+                String typeName = propertyDescriptor.getPropertyType() == null ? "" //$NON-NLS-1$
+                        : propertyDescriptor.getPropertyType().getName();
+                map.put(propertyDescriptor.getName(), new PropertyInfo(typeName,
+                        propertyDescriptor.getReadMethod() != null,
+                        propertyDescriptor.getWriteMethod() != null));
             }
+            this.properties = Collections.unmodifiableMap(map);
+        }
+
+        boolean isCurrent(URL currentLocation, long currentLastModified) {
+            return currentLocation != null && currentLastModified > 0L
+                    && currentLocation.toExternalForm().equals(location)
+                    && currentLastModified == lastModified;
         }
+    }
+
+    private static class PropertyInfo {
+        private final String typeName;
+        private final boolean readable;
+        private final boolean writable;
 
-        return found;
+        PropertyInfo(String typeName, boolean readable, boolean writable) {
+            this.typeName = typeName;
+            this.readable = readable;
+            this.writable = writable;
+        }
     }
 }
@@ -0,0 +1,111 @@
+package org.mybatis.generator.codegen.mybatis3;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedIndex;
+import org.mybatis.generator.api.IntrospectedTable;
+
+/**
+ * A typed finder statement derived from an index of the table. The Java mapper generator and the XML
+ * mapper generator both calculate the finders with {@link #calculateIndexFinders(IntrospectedTable)},
+ * so the method names and the statement ids match.
+ *
+ * <ul>
+ * <li>every unique index gives a <code>selectByUniqueKeyXxx</code> finder that returns one record</li>
+ * <li>every single column unique index also gives a <code>batchSelectByUniqueKeyXxx</code> finder
+ * that takes a list of keys</li>
+ * <li>every leftmost prefix of an index gives a <code>selectByIndexXxx</code> finder that returns a
+ * list, unless the prefix is the primary key or a unique key</li>
+ * </ul>
+ */
+public class IndexFinder {
+
+    public enum Kind {
+        UNIQUE_KEY, BATCH_UNIQUE_KEY, INDEX
+    }
+
+    private final Kind kind;
+
+    private final String statementId;
+
+    private final List<IntrospectedColumn> columns;
+
+    private IndexFinder(Kind kind, String statementId, List<IntrospectedColumn> columns) {
+        super();
+        this.kind = kind;
+        this.statementId = statementId;
+        this.columns = columns;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the statement id, which is also the name of the mapper method.
+     *
+     * @return the statement id
+     */
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public List<IntrospectedColumn> getColumns() {
+        return columns;
+    }
+
+    public static List<IndexFinder> calculateIndexFinders(IntrospectedTable introspectedTable) {
+        List<IndexFinder> answer = new ArrayList<IndexFinder>();
+        Set<List<IntrospectedColumn>> uniqueKeys = new HashSet<List<IntrospectedColumn>>();
+        uniqueKeys.add(introspectedTable.getPrimaryKeyColumns());
+        Set<String> statementIds = new HashSet<String>();
+
+        for (IntrospectedIndex index : introspectedTable.getIndexes()) {
+            if (index.isUnique() && uniqueKeys.add(index.getColumns())) {
+                addFinder(answer, statementIds, Kind.UNIQUE_KEY, "selectByUniqueKey", //$NON-NLS-1$
+                        index.getColumns());
+                if (index.getColumns().size() == 1) {
+                    addFinder(answer, statementIds, Kind.BATCH_UNIQUE_KEY,
+                            "batchSelectByUniqueKey", index.getColumns()); //$NON-NLS-1$
+                }
+            }
+        }
+
+        for (IntrospectedIndex index : introspectedTable.getIndexes()) {
+            for (int i = 1; i <= index.getColumns().size(); i++) {
+                List<IntrospectedColumn> prefix = index.getColumns().subList(0, i);
+                if (!uniqueKeys.contains(prefix)) {
+                    addFinder(answer, statementIds, Kind.INDEX, "selectByIndex", //$NON-NLS-1$
+                            new ArrayList<IntrospectedColumn>(prefix));
+                }
+            }
+        }
+
+        return answer;
+    }
+
+    private static void addFinder(List<IndexFinder> finders, Set<String> statementIds, Kind kind,
+                                  String prefix, List<IntrospectedColumn> columns) {
+        StringBuilder sb = new StringBuilder(prefix);
+        boolean first = true;
+        for (IntrospectedColumn column : columns) {
+            if (first) {
+                first = false;
+            } else {
+                sb.append("And"); //$NON-NLS-1$
+            }
+            String property = column.getJavaProperty();
+            sb.append(Character.toUpperCase(property.charAt(0)));
+            sb.append(property, 1, property.length());
+        }
+
+        // two indexes on the same columns give the same finder
+        if (statementIds.add(sb.toString())) {
+            finders.add(new IndexFinder(kind, sb.toString(), columns));
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.mybatis.generator.codegen.mybatis3.javamapper.ServiceImplGenerator;
 import org.mybatis.generator.codegen.mybatis3.model.BaseRecordGenerator;
 import org.mybatis.generator.codegen.mybatis3.model.ExampleGenerator;
 import org.mybatis.generator.codegen.mybatis3.model.PrimaryKeyGenerator;
+import org.mybatis.generator.codegen.mybatis3.model.RecordMapperGenerator;
 import org.mybatis.generator.codegen.mybatis3.model.RecordWithBLOBsGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.XMLMapperGenerator;
 import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
@@ -203,6 +204,13 @@ public class IntrospectedTableMyBatis3Impl extends IntrospectedTable {
             this.initializeAbstractGenerator(javaGenerator, warnings, progressCallback);
             this.javaModelGenerators.add(javaGenerator);
         }
+
+        if (this.isGenerateRecordMapper()) {
+            AbstractJavaGenerator javaGenerator = new RecordMapperGenerator();
+            javaGenerator.setProject(javaModelGeneratorConfiguration.getProperty("recordProject"));
+            this.initializeAbstractGenerator(javaGenerator, warnings, progressCallback);
+            this.javaModelGenerators.add(javaGenerator);
+        }
     }
 
     protected void initializeAbstractGenerator(AbstractGenerator abstractGenerator,
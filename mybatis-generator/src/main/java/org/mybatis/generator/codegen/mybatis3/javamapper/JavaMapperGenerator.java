@@ -26,21 +26,26 @@ import org.mybatis.generator.api.dom.java.Interface;
 import org.mybatis.generator.api.dom.java.JavaVisibility;
 import org.mybatis.generator.codegen.AbstractJavaClientGenerator;
 import org.mybatis.generator.codegen.AbstractXmlGenerator;
+import org.mybatis.generator.codegen.mybatis3.IndexFinder;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.AbstractJavaMapperMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.CountByExampleMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.DeleteByExampleMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.DeleteByPrimaryKeyMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.IndexFinderMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.InsertMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.InsertSelectiveMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectBlobsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByExampleWithBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByExampleWithoutBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByPrimaryKeyMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectColumnsByExampleMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByExampleSelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByExampleWithBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByExampleWithoutBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByPrimaryKeySelectiveMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByPrimaryKeyWithBLOBsMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateByPrimaryKeyWithoutBLOBsMethodGenerator;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.UpdateChangedByPrimaryKeyMethodGenerator;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.XMLMapperGenerator;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.internal.CustomizationCommentGenerator;
@@ -109,6 +114,11 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
             interfaze.addSuperInterface(fqjt);
         }
 
+        this.addIndexFinderMethods(interfaze);
+        this.addSelectColumnsByExampleMethod(interfaze);
+        this.addSelectBlobsMethods(interfaze);
+        this.addUpdateChangedByPrimaryKeyMethod(interfaze);
+
         // this.addCountByExampleMethod(interfaze);
         // this.addDeleteByExampleMethod(interfaze);
         // this.addDeleteByPrimaryKeyMethod(interfaze);
@@ -137,6 +147,37 @@ public class JavaMapperGenerator extends AbstractJavaClientGenerator {
         return answer;
     }
 
+    protected void addIndexFinderMethods(Interface interfaze) {
+        for (IndexFinder indexFinder : IndexFinder.calculateIndexFinders(this.introspectedTable)) {
+            AbstractJavaMapperMethodGenerator methodGenerator = new IndexFinderMethodGenerator(indexFinder);
+            this.initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
+    protected void addSelectColumnsByExampleMethod(Interface interfaze) {
+        if (this.introspectedTable.getRules().generateSelectByExampleWithoutBLOBs()) {
+            AbstractJavaMapperMethodGenerator methodGenerator = new SelectColumnsByExampleMethodGenerator();
+            this.initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
+    protected void addSelectBlobsMethods(Interface interfaze) {
+        if (this.introspectedTable.isLazyLoadBlobs()) {
+            AbstractJavaMapperMethodGenerator methodGenerator = new SelectBlobsMethodGenerator(false);
+            this.initializeAndExecuteGenerator(methodGenerator, interfaze);
+            methodGenerator = new SelectBlobsMethodGenerator(true);
+            this.initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
+    protected void addUpdateChangedByPrimaryKeyMethod(Interface interfaze) {
+        if (this.introspectedTable.isTrackChanges()
+                && this.introspectedTable.getRules().generateUpdateByPrimaryKeySelective()) {
+            AbstractJavaMapperMethodGenerator methodGenerator = new UpdateChangedByPrimaryKeyMethodGenerator();
+            this.initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     protected void addCountByExampleMethod(Interface interfaze) {
         if (this.introspectedTable.getRules().generateCountByExample()) {
             AbstractJavaMapperMethodGenerator methodGenerator = new CountByExampleMethodGenerator();
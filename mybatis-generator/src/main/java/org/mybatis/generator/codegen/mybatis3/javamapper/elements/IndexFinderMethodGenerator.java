@@ -0,0 +1,88 @@
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.codegen.mybatis3.IndexFinder;
+
+/**
+ * Generates the mapper method of an {@link IndexFinder}. Unique key finders are passed to the
+ * clientSelectByPrimaryKeyMethodGenerated plugin hook, the other finders to
+ * clientSelectByExampleWithoutBLOBsMethodGenerated.
+ */
+public class IndexFinderMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+    private IndexFinder indexFinder;
+
+    public IndexFinderMethodGenerator(IndexFinder indexFinder) {
+        super();
+        this.indexFinder = indexFinder;
+    }
+
+    @Override
+    public void addInterfaceElements(Interface interfaze) {
+        Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+        importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setName(indexFinder.getStatementId());
+
+        FullyQualifiedJavaType recordType =
+                new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        importedTypes.add(recordType);
+        if (indexFinder.getKind() == IndexFinder.Kind.UNIQUE_KEY) {
+            method.setReturnType(recordType);
+        } else {
+            FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
+            returnType.addTypeArgument(recordType);
+            importedTypes.add(returnType);
+            method.setReturnType(returnType);
+        }
+
+        if (indexFinder.getKind() == IndexFinder.Kind.BATCH_UNIQUE_KEY) {
+            IntrospectedColumn introspectedColumn = indexFinder.getColumns().get(0);
+            FullyQualifiedJavaType type = FullyQualifiedJavaType.getNewListInstance();
+            if (introspectedColumn.getFullyQualifiedJavaType().isPrimitive()) {
+                type.addTypeArgument(
+                        introspectedColumn.getFullyQualifiedJavaType().getPrimitiveTypeWrapper());
+            } else {
+                type.addTypeArgument(introspectedColumn.getFullyQualifiedJavaType());
+            }
+            importedTypes.add(type);
+            Parameter parameter = new Parameter(type, "keys"); //$NON-NLS-1$
+            parameter.addAnnotation("@Param(\"keys\")"); //$NON-NLS-1$
+            method.addParameter(parameter);
+        } else {
+            for (IntrospectedColumn introspectedColumn : indexFinder.getColumns()) {
+                FullyQualifiedJavaType type = introspectedColumn.getFullyQualifiedJavaType();
+                importedTypes.add(type);
+                Parameter parameter = new Parameter(type, introspectedColumn.getJavaProperty());
+                parameter.addAnnotation("@Param(\"" //$NON-NLS-1$
+                        + introspectedColumn.getJavaProperty() + "\")"); //$NON-NLS-1$
+                method.addParameter(parameter);
+            }
+        }
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+        boolean rc;
+        if (indexFinder.getKind() == IndexFinder.Kind.UNIQUE_KEY) {
+            rc = context.getPlugins().clientSelectByPrimaryKeyMethodGenerated(method, interfaze,
+                    introspectedTable);
+        } else {
+            rc = context.getPlugins().clientSelectByExampleWithoutBLOBsMethodGenerated(method, interfaze,
+                    introspectedTable);
+        }
+        if (rc) {
+            interfaze.addImportedTypes(importedTypes);
+            interfaze.addMethod(method);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+
+/**
+ * Generates selectBlobsById or selectBlobsIn. The returned records have only the primary key and
+ * the BLOB properties set. selectBlobsById is passed to the clientSelectByPrimaryKeyMethodGenerated
+ * plugin hook, selectBlobsIn to clientSelectByExampleWithBLOBsMethodGenerated.
+ */
+public class SelectBlobsMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+    private boolean inRecords;
+
+    public SelectBlobsMethodGenerator(boolean inRecords) {
+        super();
+        this.inRecords = inRecords;
+    }
+
+    @Override
+    public void addInterfaceElements(Interface interfaze) {
+        Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+        importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+
+        FullyQualifiedJavaType recordType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        importedTypes.add(recordType);
+
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+
+        Parameter parameter;
+        if (inRecords) {
+            method.setName("selectBlobsIn"); //$NON-NLS-1$
+            FullyQualifiedJavaType listType = FullyQualifiedJavaType.getNewListInstance();
+            listType.addTypeArgument(recordType);
+            importedTypes.add(listType);
+            method.setReturnType(listType);
+            parameter = new Parameter(listType, "records"); //$NON-NLS-1$
+            parameter.addAnnotation("@Param(\"records\")"); //$NON-NLS-1$
+        } else {
+            method.setName("selectBlobsById"); //$NON-NLS-1$
+            method.setReturnType(recordType);
+            FullyQualifiedJavaType idType =
+                    introspectedTable.getPrimaryKeyColumns().get(0).getFullyQualifiedJavaType();
+            importedTypes.add(idType);
+            parameter = new Parameter(idType, "id"); //$NON-NLS-1$
+            parameter.addAnnotation("@Param(\"id\")"); //$NON-NLS-1$
+        }
+        method.addParameter(parameter);
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+        boolean rc;
+        if (inRecords) {
+            rc = context.getPlugins().clientSelectByExampleWithBLOBsMethodGenerated(method, interfaze,
+                    introspectedTable);
+        } else {
+            rc = context.getPlugins().clientSelectByPrimaryKeyMethodGenerated(method, interfaze,
+                    introspectedTable);
+        }
+        if (rc) {
+            interfaze.addImportedTypes(importedTypes);
+            interfaze.addMethod(method);
+        }
+    }
+}
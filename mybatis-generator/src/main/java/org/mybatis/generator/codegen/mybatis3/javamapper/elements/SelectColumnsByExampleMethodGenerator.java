@@ -0,0 +1,61 @@
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+
+/**
+ * Generates the selectColumnsByExample mapper method. Only the columns passed in are read, the
+ * other properties of the returned records stay <code>null</code>. The method is passed to the
+ * clientSelectByExampleWithoutBLOBsMethodGenerated plugin hook.
+ */
+public class SelectColumnsByExampleMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+    public SelectColumnsByExampleMethodGenerator() {
+        super();
+    }
+
+    @Override
+    public void addInterfaceElements(Interface interfaze) {
+        Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+        importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setName("selectColumnsByExample"); //$NON-NLS-1$
+
+        FullyQualifiedJavaType recordType = introspectedTable.getRules().calculateAllFieldsClass();
+        FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
+        returnType.addTypeArgument(recordType);
+        importedTypes.add(returnType);
+        importedTypes.add(recordType);
+        method.setReturnType(returnType);
+
+        FullyQualifiedJavaType exampleType = new FullyQualifiedJavaType(introspectedTable.getExampleType());
+        FullyQualifiedJavaType columnsType = new FullyQualifiedJavaType("java.util.Collection"); //$NON-NLS-1$
+        columnsType.addTypeArgument(new FullyQualifiedJavaType(
+                exampleType.getFullyQualifiedName() + ".Column")); //$NON-NLS-1$
+        importedTypes.add(columnsType);
+        importedTypes.add(exampleType);
+
+        Parameter parameter = new Parameter(columnsType, "columns"); //$NON-NLS-1$
+        parameter.addAnnotation("@Param(\"columns\")"); //$NON-NLS-1$
+        method.addParameter(parameter);
+        parameter = new Parameter(exampleType, "example"); //$NON-NLS-1$
+        parameter.addAnnotation("@Param(\"example\")"); //$NON-NLS-1$
+        method.addParameter(parameter);
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+        if (context.getPlugins().clientSelectByExampleWithoutBLOBsMethodGenerated(method, interfaze,
+                introspectedTable)) {
+            interfaze.addImportedTypes(importedTypes);
+            interfaze.addMethod(method);
+        }
+    }
+}
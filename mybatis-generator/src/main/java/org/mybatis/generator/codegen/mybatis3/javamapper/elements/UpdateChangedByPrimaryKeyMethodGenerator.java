@@ -0,0 +1,48 @@
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+
+/**
+ * Generates the updateChangedById mapper method, which writes the columns whose setters were
+ * called since the record was loaded. The method is passed to the
+ * clientUpdateByPrimaryKeySelectiveMethodGenerated plugin hook.
+ */
+public class UpdateChangedByPrimaryKeyMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+    public UpdateChangedByPrimaryKeyMethodGenerator() {
+        super();
+    }
+
+    @Override
+    public void addInterfaceElements(Interface interfaze) {
+        Set<FullyQualifiedJavaType> importedTypes = new TreeSet<FullyQualifiedJavaType>();
+        importedTypes.add(new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
+
+        FullyQualifiedJavaType recordType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        importedTypes.add(recordType);
+
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+        method.setName("updateChangedById"); //$NON-NLS-1$
+
+        Parameter parameter = new Parameter(recordType, "record"); //$NON-NLS-1$
+        parameter.addAnnotation("@Param(\"record\")"); //$NON-NLS-1$
+        method.addParameter(parameter);
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+        if (context.getPlugins().clientUpdateByPrimaryKeySelectiveMethodGenerated(method, interfaze,
+                introspectedTable)) {
+            interfaze.addImportedTypes(importedTypes);
+            interfaze.addMethod(method);
+        }
+    }
+}
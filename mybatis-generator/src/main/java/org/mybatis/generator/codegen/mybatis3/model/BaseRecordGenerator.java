@@ -13,7 +13,9 @@
  */
 package org.mybatis.generator.codegen.mybatis3.model;
 
+import static org.mybatis.generator.internal.util.JavaBeansUtil.getGetterMethodName;
 import static org.mybatis.generator.internal.util.JavaBeansUtil.getJavaBeansField;
+import static org.mybatis.generator.internal.util.JavaBeansUtil.getSetterMethodName;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.util.ArrayList;
@@ -41,6 +43,14 @@ import org.mybatis.generator.codegen.RootClassInfo;
  */
 public class BaseRecordGenerator extends AbstractJavaGenerator {
 
+    /** Implemented by models that track changes, base-mybatis clears their mask after loading. */
+    private static final String CHANGE_TRACKED_INTERFACE =
+            "ltd.pdx.commons.mybatis.tracking.ChangeTracked"; //$NON-NLS-1$
+
+    /** Implemented by models with a version column, base-mybatis increments it after an update. */
+    private static final String VERSIONED_INTERFACE =
+            "ltd.pdx.commons.mybatis.locking.Versioned"; //$NON-NLS-1$
+
     public BaseRecordGenerator() {
         super();
     }
@@ -121,6 +131,20 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
             // }
         }
 
+        if (this.introspectedTable.isLazyLoadBlobs()) {
+            this.addLazyBlobMembers(topLevelClass);
+        }
+
+        if (this.introspectedTable.isTrackChanges()) {
+            this.addChangeTrackingMembers(topLevelClass);
+        }
+
+        IntrospectedColumn versionColumn = this.introspectedTable.getVersionColumn();
+        if (versionColumn != null && !RootClassInfo.getInstance(rootClass, this.warnings)
+                .containsProperty(versionColumn)) {
+            this.addIncrementVersionMethod(topLevelClass, versionColumn);
+        }
+
         List<CompilationUnit> answer = new ArrayList<CompilationUnit>();
         if (this.context.getPlugins().modelBaseRecordClassGenerated(topLevelClass,
                 this.introspectedTable)) {
@@ -129,6 +153,199 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
         return answer;
     }
 
+    /**
+     * Adds the "blobs" holder that the base result map loads lazily, and BLOB getters that copy
+     * their value from the holder on first access. Lombok does not generate getters that already
+     * exist. The holder is itself a record with only the primary key and BLOB properties set, its
+     * own holder is null, so the getters stop there. The holder is kept out of the bean surface:
+     * its accessors are package private, which hides it from Jackson and still lets the lazy
+     * loading proxy intercept getBlobs(), and it is excluded from toString, equals and hashCode
+     * so they neither trigger the load nor compare the nested record.
+     */
+    private void addLazyBlobMembers(TopLevelClass topLevelClass) {
+        Plugin plugins = this.context.getPlugins();
+        String rootClass = this.getRootClass();
+
+        Field field = new Field();
+        field.setVisibility(JavaVisibility.PRIVATE);
+        field.setType(topLevelClass.getType());
+        field.setName("blobs"); //$NON-NLS-1$
+        field.addAnnotation("@Getter(AccessLevel.PACKAGE)"); //$NON-NLS-1$
+        field.addAnnotation("@Setter(AccessLevel.PACKAGE)"); //$NON-NLS-1$
+        field.addAnnotation("@ToString.Exclude"); //$NON-NLS-1$
+        field.addAnnotation("@EqualsAndHashCode.Exclude"); //$NON-NLS-1$
+        topLevelClass.addImportedType("lombok.Getter"); //$NON-NLS-1$
+        topLevelClass.addImportedType("lombok.Setter"); //$NON-NLS-1$
+        topLevelClass.addImportedType("lombok.ToString"); //$NON-NLS-1$
+        topLevelClass.addImportedType("lombok.EqualsAndHashCode"); //$NON-NLS-1$
+        this.context.getCommentGenerator().addFieldComment(field, this.introspectedTable);
+        topLevelClass.addField(field);
+
+        for (IntrospectedColumn introspectedColumn : this.introspectedTable.getLazyBlobColumns()) {
+            if (RootClassInfo.getInstance(rootClass, this.warnings)
+                    .containsProperty(introspectedColumn)) {
+                continue;
+            }
+
+            FullyQualifiedJavaType type = introspectedColumn.getFullyQualifiedJavaType();
+            String property = introspectedColumn.getJavaProperty();
+            String getterName = getGetterMethodName(property, type);
+
+            Method method = new Method();
+            method.setVisibility(JavaVisibility.PUBLIC);
+            method.setReturnType(type);
+            method.setName(getterName);
+            this.context.getCommentGenerator().addGetterComment(method, this.introspectedTable,
+                    introspectedColumn);
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("if ("); //$NON-NLS-1$
+            sb.append(property);
+            sb.append(" == null && getBlobs() != null) {"); //$NON-NLS-1$
+            method.addBodyLine(sb.toString());
+            sb.setLength(0);
+            sb.append(property);
+            sb.append(" = getBlobs()."); //$NON-NLS-1$
+            sb.append(getterName);
+            sb.append("();"); //$NON-NLS-1$
+            method.addBodyLine(sb.toString());
+            method.addBodyLine("}"); //$NON-NLS-1$
+            sb.setLength(0);
+            sb.append("return "); //$NON-NLS-1$
+            sb.append(property);
+            sb.append(';');
+            method.addBodyLine(sb.toString());
+
+            if (plugins.modelGetterMethodGenerated(method, topLevelClass, introspectedColumn,
+                    this.introspectedTable, Plugin.ModelClassType.BASE_RECORD)) {
+                topLevelClass.addMethod(method);
+            }
+        }
+    }
+
+    /**
+     * Adds the change mask and setters that mark their column in it. The bit of a column is its
+     * index in all columns, the same as the ordinal of the Column enum of the example class that
+     * renders the set clause of updateChangedById. Values set through the builder or the
+     * constructor are not marked. The mask is not a bean property: Lombok generates no accessors
+     * for it and ChangeTracked reads it through a method without the get prefix, so Jackson and
+     * toString do not see it.
+     */
+    private void addChangeTrackingMembers(TopLevelClass topLevelClass) {
+        Plugin plugins = this.context.getPlugins();
+        String rootClass = this.getRootClass();
+
+        FullyQualifiedJavaType changeTracked = new FullyQualifiedJavaType(CHANGE_TRACKED_INTERFACE);
+        topLevelClass.addSuperInterface(changeTracked);
+        topLevelClass.addImportedType(changeTracked);
+        FullyQualifiedJavaType bitSet = new FullyQualifiedJavaType("java.util.BitSet"); //$NON-NLS-1$
+        topLevelClass.addImportedType(bitSet);
+
+        Field field = new Field();
+        field.setVisibility(JavaVisibility.PRIVATE);
+        field.setTransient(true);
+        field.setType(bitSet);
+        field.setName("changedColumns"); //$NON-NLS-1$
+        field.addAnnotation("@Getter(AccessLevel.NONE)"); //$NON-NLS-1$
+        field.addAnnotation("@Setter(AccessLevel.NONE)"); //$NON-NLS-1$
+        field.addAnnotation("@ToString.Exclude"); //$NON-NLS-1$
+        topLevelClass.addImportedType("lombok.Getter"); //$NON-NLS-1$
+        topLevelClass.addImportedType("lombok.Setter"); //$NON-NLS-1$
+        topLevelClass.addImportedType("lombok.ToString"); //$NON-NLS-1$
+        this.context.getCommentGenerator().addFieldComment(field, this.introspectedTable);
+        topLevelClass.addField(field);
+
+        List<IntrospectedColumn> allColumns = this.introspectedTable.getAllColumns();
+        for (IntrospectedColumn introspectedColumn : this.introspectedTable.getChangeTrackedColumns()) {
+            if (RootClassInfo.getInstance(rootClass, this.warnings)
+                    .containsProperty(introspectedColumn)) {
+                continue;
+            }
+
+            String property = introspectedColumn.getJavaProperty();
+            Method method = new Method();
+            method.setVisibility(JavaVisibility.PUBLIC);
+            method.setName(getSetterMethodName(property));
+            method.addParameter(new Parameter(introspectedColumn.getFullyQualifiedJavaType(), property));
+            this.context.getCommentGenerator().addSetterComment(method, this.introspectedTable,
+                    introspectedColumn);
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("this."); //$NON-NLS-1$
+            sb.append(property);
+            sb.append(" = "); //$NON-NLS-1$
+            sb.append(property);
+            sb.append(';');
+            method.addBodyLine(sb.toString());
+            sb.setLength(0);
+            sb.append("markChanged("); //$NON-NLS-1$
+            sb.append(allColumns.indexOf(introspectedColumn));
+            sb.append(");"); //$NON-NLS-1$
+            method.addBodyLine(sb.toString());
+
+            if (plugins.modelSetterMethodGenerated(method, topLevelClass, introspectedColumn,
+                    this.introspectedTable, Plugin.ModelClassType.BASE_RECORD)) {
+                topLevelClass.addMethod(method);
+            }
+        }
+
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(bitSet);
+        method.setName("changedColumns"); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        method.addBodyLine("return changedColumns;"); //$NON-NLS-1$
+        topLevelClass.addMethod(method);
+
+        method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setName("clearChangedColumns"); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        method.addBodyLine("changedColumns = null;"); //$NON-NLS-1$
+        topLevelClass.addMethod(method);
+
+        method = new Method();
+        method.setVisibility(JavaVisibility.PRIVATE);
+        method.setName("markChanged"); //$NON-NLS-1$
+        method.addParameter(new Parameter(FullyQualifiedJavaType.getIntInstance(), "column")); //$NON-NLS-1$
+        method.addBodyLine("if (changedColumns == null) {"); //$NON-NLS-1$
+        method.addBodyLine("changedColumns = new BitSet();"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("changedColumns.set(column);"); //$NON-NLS-1$
+        topLevelClass.addMethod(method);
+    }
+
+    /**
+     * Adds incrementVersion. A successful update by primary key increments the version in the
+     * database, base-mybatis then calls this method so that the record can be updated again
+     * without reloading it. A record without a version was updated unconditionally and keeps its
+     * null version.
+     */
+    private void addIncrementVersionMethod(TopLevelClass topLevelClass,
+                                           IntrospectedColumn versionColumn) {
+        FullyQualifiedJavaType versioned = new FullyQualifiedJavaType(VERSIONED_INTERFACE);
+        topLevelClass.addSuperInterface(versioned);
+        topLevelClass.addImportedType(versioned);
+
+        String property = versionColumn.getJavaProperty();
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setName("incrementVersion"); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        StringBuilder sb = new StringBuilder();
+        sb.append("if ("); //$NON-NLS-1$
+        sb.append(property);
+        sb.append(" != null) {"); //$NON-NLS-1$
+        method.addBodyLine(sb.toString());
+        sb.setLength(0);
+        // ++ also works for Short, where property + 1 would need a cast
+        sb.append(property);
+        sb.append("++;"); //$NON-NLS-1$
+        method.addBodyLine(sb.toString());
+        method.addBodyLine("}"); //$NON-NLS-1$
+        topLevelClass.addMethod(method);
+    }
+
     private FullyQualifiedJavaType getSuperClass() {
         FullyQualifiedJavaType superClass;
         if (this.introspectedTable.getRules().generatePrimaryKeyClass()) {
@@ -14,6 +14,7 @@
 package org.mybatis.generator.codegen.mybatis3.model;
 
 import static org.mybatis.generator.internal.util.JavaBeansUtil.getGetterMethodName;
+import static org.mybatis.generator.internal.util.StringUtility.escapeStringForJava;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
@@ -29,6 +30,7 @@ import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
 import org.mybatis.generator.api.dom.java.InnerClass;
+import org.mybatis.generator.api.dom.java.InnerEnum;
 import org.mybatis.generator.api.dom.java.JavaVisibility;
 import org.mybatis.generator.api.dom.java.Method;
 import org.mybatis.generator.api.dom.java.Parameter;
@@ -198,6 +200,8 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
         topLevelClass.addInnerClass(this.getCriterionInnerClass());
 
+        topLevelClass.addInnerEnum(this.getColumnInnerEnum(topLevelClass));
+
         List<CompilationUnit> answer = new ArrayList<CompilationUnit>();
         if (this.context.getPlugins().modelExampleClassGenerated(topLevelClass,
                 this.introspectedTable)) {
@@ -206,6 +210,198 @@ public class ExampleGenerator extends AbstractJavaGenerator {
         return answer;
     }
 
+    /**
+     * The Column enum lists the columns of the table for selectColumnsByExample. The select list of
+     * a set of columns is built once and cached, so the mapper only substitutes a ready string.
+     * If the model tracks changes, the enum also renders the set clause of updateChangedById.
+     */
+    private InnerEnum getColumnInnerEnum(TopLevelClass topLevelClass) {
+        FullyQualifiedJavaType columnType = new FullyQualifiedJavaType("Column"); //$NON-NLS-1$
+        InnerEnum answer = new InnerEnum(columnType);
+        answer.setVisibility(JavaVisibility.PUBLIC);
+        this.context.getCommentGenerator().addEnumComment(answer, this.introspectedTable);
+
+        boolean trackChanges = this.introspectedTable.isTrackChanges();
+        List<IntrospectedColumn> trackedColumns = this.introspectedTable.getChangeTrackedColumns();
+        for (IntrospectedColumn introspectedColumn : this.introspectedTable.getAllColumns()) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(getColumnConstantName(introspectedColumn.getJavaProperty()));
+            sb.append("(\""); //$NON-NLS-1$
+            sb.append(escapeStringForJava(MyBatis3FormattingUtilities.getSelectListPhrase(introspectedColumn)));
+            sb.append('"');
+            if (trackChanges) {
+                sb.append(", "); //$NON-NLS-1$
+                if (trackedColumns.contains(introspectedColumn)) {
+                    sb.append('"');
+                    sb.append(escapeStringForJava(getAssignment(introspectedColumn)));
+                    sb.append('"');
+                } else {
+                    sb.append("null"); //$NON-NLS-1$
+                }
+            }
+            sb.append(')');
+            answer.addEnumConstant(sb.toString());
+        }
+
+        topLevelClass.addImportedType(new FullyQualifiedJavaType("java.util.Collection")); //$NON-NLS-1$
+        topLevelClass.addImportedType(new FullyQualifiedJavaType("java.util.EnumSet")); //$NON-NLS-1$
+        topLevelClass.addImportedType(new FullyQualifiedJavaType("java.util.Map")); //$NON-NLS-1$
+        topLevelClass.addImportedType(new FullyQualifiedJavaType("java.util.Set")); //$NON-NLS-1$
+        topLevelClass.addImportedType(
+                new FullyQualifiedJavaType("java.util.concurrent.ConcurrentHashMap")); //$NON-NLS-1$
+
+        // the constants are upper case, lower case member names can not clash with them
+        Field field = new Field();
+        field.setVisibility(JavaVisibility.PRIVATE);
+        field.setStatic(true);
+        field.setFinal(true);
+        field.setType(new FullyQualifiedJavaType("java.util.Map<java.util.Set<Column>, String>")); //$NON-NLS-1$
+        field.setName("projections"); //$NON-NLS-1$
+        field.setInitializationString("new ConcurrentHashMap<Set<Column>, String>()"); //$NON-NLS-1$
+        answer.addField(field);
+
+        if (trackChanges) {
+            topLevelClass.addImportedType(new FullyQualifiedJavaType("java.util.BitSet")); //$NON-NLS-1$
+
+            field = new Field();
+            field.setVisibility(JavaVisibility.PRIVATE);
+            field.setStatic(true);
+            field.setFinal(true);
+            field.setType(new FullyQualifiedJavaType("java.util.Map<java.util.BitSet, String>")); //$NON-NLS-1$
+            field.setName("setClauses"); //$NON-NLS-1$
+            field.setInitializationString("new ConcurrentHashMap<BitSet, String>()"); //$NON-NLS-1$
+            answer.addField(field);
+        }
+
+        field = new Field();
+        field.setVisibility(JavaVisibility.PRIVATE);
+        field.setFinal(true);
+        field.setType(FullyQualifiedJavaType.getStringInstance());
+        field.setName("columnName"); //$NON-NLS-1$
+        answer.addField(field);
+
+        if (trackChanges) {
+            field = new Field();
+            field.setVisibility(JavaVisibility.PRIVATE);
+            field.setFinal(true);
+            field.setType(FullyQualifiedJavaType.getStringInstance());
+            field.setName("assignment"); //$NON-NLS-1$
+            answer.addField(field);
+        }
+
+        Method method = new Method();
+        method.setConstructor(true);
+        method.setName("Column"); //$NON-NLS-1$
+        method.addParameter(new Parameter(FullyQualifiedJavaType.getStringInstance(), "columnName")); //$NON-NLS-1$
+        method.addBodyLine("this.columnName = columnName;"); //$NON-NLS-1$
+        if (trackChanges) {
+            method.addParameter(new Parameter(FullyQualifiedJavaType.getStringInstance(), "assignment")); //$NON-NLS-1$
+            method.addBodyLine("this.assignment = assignment;"); //$NON-NLS-1$
+        }
+        answer.addMethod(method);
+
+        method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(FullyQualifiedJavaType.getStringInstance());
+        method.setName("getColumnName"); //$NON-NLS-1$
+        method.addBodyLine("return columnName;"); //$NON-NLS-1$
+        answer.addMethod(method);
+
+        method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setStatic(true);
+        method.setReturnType(FullyQualifiedJavaType.getStringInstance());
+        method.setName("projection"); //$NON-NLS-1$
+        method.addParameter(new Parameter(
+                new FullyQualifiedJavaType("java.util.Collection<Column>"), "columns")); //$NON-NLS-1$ //$NON-NLS-2$
+        method.addBodyLine("Set<Column> key = columns == null || columns.isEmpty()"); //$NON-NLS-1$
+        method.addBodyLine("        ? EnumSet.allOf(Column.class) : EnumSet.copyOf(columns);"); //$NON-NLS-1$
+        method.addBodyLine("String projection = projections.get(key);"); //$NON-NLS-1$
+        method.addBodyLine("if (projection == null) {"); //$NON-NLS-1$
+        method.addBodyLine("StringBuilder sb = new StringBuilder();"); //$NON-NLS-1$
+        method.addBodyLine("for (Column column : key) {"); //$NON-NLS-1$
+        method.addBodyLine("if (sb.length() > 0) {"); //$NON-NLS-1$
+        method.addBodyLine("sb.append(\", \");"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("sb.append(column.columnName);"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("projection = sb.toString();"); //$NON-NLS-1$
+        method.addBodyLine("projections.put(key, projection);"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("return projection;"); //$NON-NLS-1$
+        answer.addMethod(method);
+
+        if (trackChanges) {
+            answer.addMethod(this.getSetClauseMethod());
+        }
+
+        return answer;
+    }
+
+    /**
+     * The set clause of a change mask, cached per mask so every update with the same changed
+     * columns sends the same statement. An empty mask assigns the primary key to itself.
+     */
+    private Method getSetClauseMethod() {
+        IntrospectedColumn primaryKeyColumn = this.introspectedTable.getPrimaryKeyColumns().get(0);
+        String primaryKey = MyBatis3FormattingUtilities.getEscapedColumnName(primaryKeyColumn);
+
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setStatic(true);
+        method.setReturnType(FullyQualifiedJavaType.getStringInstance());
+        method.setName("setClause"); //$NON-NLS-1$
+        method.addParameter(new Parameter(
+                new FullyQualifiedJavaType("java.util.BitSet"), "changedColumns")); //$NON-NLS-1$ //$NON-NLS-2$
+        method.addBodyLine("BitSet key = changedColumns == null"); //$NON-NLS-1$
+        method.addBodyLine("        ? new BitSet() : (BitSet) changedColumns.clone();"); //$NON-NLS-1$
+        method.addBodyLine("String setClause = setClauses.get(key);"); //$NON-NLS-1$
+        method.addBodyLine("if (setClause == null) {"); //$NON-NLS-1$
+        method.addBodyLine("StringBuilder sb = new StringBuilder();"); //$NON-NLS-1$
+        method.addBodyLine("Column[] columns = values();"); //$NON-NLS-1$
+        method.addBodyLine("for (int i = key.nextSetBit(0); i >= 0; i = key.nextSetBit(i + 1)) {"); //$NON-NLS-1$
+        method.addBodyLine("if (columns[i].assignment == null) {"); //$NON-NLS-1$
+        method.addBodyLine("continue;"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("if (sb.length() > 0) {"); //$NON-NLS-1$
+        method.addBodyLine("sb.append(\", \");"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("sb.append(columns[i].assignment);"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("if (sb.length() == 0) {"); //$NON-NLS-1$
+        String selfAssignment = escapeStringForJava(primaryKey + " = " + primaryKey); //$NON-NLS-1$
+        method.addBodyLine("sb.append(\"" + selfAssignment + "\");"); //$NON-NLS-1$ //$NON-NLS-2$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("setClause = sb.toString();"); //$NON-NLS-1$
+        method.addBodyLine("setClauses.put(key, setClause);"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("return setClause;"); //$NON-NLS-1$
+        return method;
+    }
+
+    private static String getAssignment(IntrospectedColumn introspectedColumn) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+        sb.append(" = "); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "record.")); //$NON-NLS-1$
+        return sb.toString();
+    }
+
+    /**
+     * Converts a property name to an enum constant name, "userId" to "USER_ID".
+     */
+    private static String getColumnConstantName(String property) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < property.length(); i++) {
+            char c = property.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(property.charAt(i - 1))) {
+                sb.append('_');
+            }
+            sb.append(Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+
     private InnerClass getCriterionInnerClass() {
         InnerClass answer = new InnerClass(new FullyQualifiedJavaType("Criterion")); //$NON-NLS-1$
         answer.setVisibility(JavaVisibility.PUBLIC);
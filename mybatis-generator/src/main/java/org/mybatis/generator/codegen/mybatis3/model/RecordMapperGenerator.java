@@ -0,0 +1,294 @@
+package org.mybatis.generator.codegen.mybatis3.model;
+
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getEscapedColumnName;
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getRenamedColumnNameForResultMap;
+import static org.mybatis.generator.internal.util.JavaBeansUtil.getGetterMethodName;
+import static org.mybatis.generator.internal.util.JavaBeansUtil.getSetterMethodName;
+import static org.mybatis.generator.internal.util.StringUtility.escapeStringForJava;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.generator.api.CommentGenerator;
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.CompilationUnit;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.codegen.AbstractJavaGenerator;
+
+/**
+ * Generates the record mapper of a table, named like the model with the suffix "RecordMapper".
+ * It reads the columns of a result row into a new model through the setters, and returns the
+ * value of a model property by name. The record mapper plugin of base-mybatis finds the class
+ * by its name and uses it instead of the reflection based result and parameter mapping of
+ * MyBatis.
+ *
+ * <p>Columns are matched by their label, like the generated result maps, so the class works for
+ * every select list. The column indexes are resolved once per result set.
+ *
+ * <p>The class also lists the insert columns and values of a model in the order of the batch
+ * insert, which the bulk loader of base-mybatis serializes for LOAD DATA.
+ */
+public class RecordMapperGenerator extends AbstractJavaGenerator {
+
+    /** The suffix that base-mybatis appends to the model type to find the record mapper. */
+    public static final String RECORD_MAPPER_SUFFIX = "RecordMapper"; //$NON-NLS-1$
+
+    private static final String ABSTRACT_RECORD_MAPPER =
+            "ltd.pdx.commons.mybatis.mapping.AbstractRecordMapper"; //$NON-NLS-1$
+
+    /** Java type to the AbstractRecordMapper method that reads it. */
+    private static final Map<String, String> READ_METHODS = new HashMap<String, String>();
+
+    static {
+        READ_METHODS.put("java.lang.String", "getString"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.lang.Integer", "getInteger"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.lang.Long", "getLong"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.lang.Short", "getShort"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.lang.Byte", "getByte"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.lang.Boolean", "getBoolean"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.lang.Double", "getDouble"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.lang.Float", "getFloat"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.math.BigDecimal", "getBigDecimal"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("byte[]", "getBytes"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.util.Date", "getDate"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.sql.Date", "getSqlDate"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.sql.Time", "getTime"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.sql.Timestamp", "getTimestamp"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.time.LocalDate", "getLocalDate"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.time.LocalTime", "getLocalTime"); //$NON-NLS-1$ //$NON-NLS-2$
+        READ_METHODS.put("java.time.LocalDateTime", "getLocalDateTime"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    public RecordMapperGenerator() {
+        super();
+    }
+
+    @Override
+    public List<CompilationUnit> getCompilationUnits() {
+        FullyQualifiedTable table = this.introspectedTable.getFullyQualifiedTable();
+        this.progressCallback.startTask(getString("Progress.22", table.toString())); //$NON-NLS-1$
+        CommentGenerator commentGenerator = this.context.getCommentGenerator();
+
+        List<CompilationUnit> answer = new ArrayList<CompilationUnit>();
+        List<IntrospectedColumn> introspectedColumns = this.introspectedTable.getAllColumns();
+        for (IntrospectedColumn introspectedColumn : introspectedColumns) {
+            if (introspectedColumn.getTypeHandler() != null || !READ_METHODS.containsKey(
+                    introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName())) {
+                this.warnings.add(getString("Warning.32", //$NON-NLS-1$
+                        introspectedColumn.getActualColumnName(), table.toString(),
+                        introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName()));
+                return answer;
+            }
+        }
+
+        FullyQualifiedJavaType recordType =
+                new FullyQualifiedJavaType(this.introspectedTable.getBaseRecordType());
+        TopLevelClass topLevelClass = new TopLevelClass(
+                this.introspectedTable.getBaseRecordType() + RECORD_MAPPER_SUFFIX);
+        topLevelClass.setVisibility(JavaVisibility.PUBLIC);
+        // the model is in the same package
+        topLevelClass.addImportedType(ABSTRACT_RECORD_MAPPER);
+        FullyQualifiedJavaType superClass = new FullyQualifiedJavaType(ABSTRACT_RECORD_MAPPER);
+        superClass.addTypeArgument(recordType);
+        topLevelClass.setSuperClass(superClass);
+        commentGenerator.addJavaFileComment(topLevelClass);
+        commentGenerator.addClassComment(topLevelClass, this.introspectedTable);
+
+        topLevelClass.addMethod(this.getConstructor(topLevelClass, recordType, introspectedColumns));
+        topLevelClass.addMethod(this.getMapRowMethod(topLevelClass, recordType, introspectedColumns));
+        topLevelClass.addMethod(this.getGetValueMethod(recordType, introspectedColumns));
+
+        List<IntrospectedColumn> insertColumns = this.getInsertColumns();
+        topLevelClass.addMethod(this.getTableNameMethod());
+        topLevelClass.addMethod(this.getInsertColumnsMethod(insertColumns));
+        topLevelClass.addMethod(this.getInsertValuesMethod(recordType, insertColumns));
+
+        answer.add(topLevelClass);
+        return answer;
+    }
+
+    /**
+     * The column labels are passed in the order of the column indexes used by mapRow.
+     */
+    private Method getConstructor(TopLevelClass topLevelClass, FullyQualifiedJavaType recordType,
+                                  List<IntrospectedColumn> introspectedColumns) {
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setConstructor(true);
+        method.setName(topLevelClass.getType().getShortName());
+        this.context.getCommentGenerator().addGeneralMethodComment(method, this.introspectedTable);
+
+        method.addBodyLine("super(" + recordType.getShortName() //$NON-NLS-1$
+                + ".class, new String[] {"); //$NON-NLS-1$
+        for (int i = 0; i < introspectedColumns.size(); i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append('"');
+            sb.append(getRenamedColumnNameForResultMap(introspectedColumns.get(i)));
+            sb.append('"');
+            if (i + 1 < introspectedColumns.size()) {
+                sb.append(',');
+            }
+            method.addBodyLine(sb.toString());
+        }
+        method.addBodyLine("});"); //$NON-NLS-1$
+        return method;
+    }
+
+    private Method getMapRowMethod(TopLevelClass topLevelClass, FullyQualifiedJavaType recordType,
+                                   List<IntrospectedColumn> introspectedColumns) {
+        FullyQualifiedJavaType resultSetType = new FullyQualifiedJavaType("java.sql.ResultSet"); //$NON-NLS-1$
+        FullyQualifiedJavaType exceptionType = new FullyQualifiedJavaType("java.sql.SQLException"); //$NON-NLS-1$
+        topLevelClass.addImportedType(resultSetType);
+        topLevelClass.addImportedType(exceptionType);
+
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PROTECTED);
+        method.setReturnType(recordType);
+        method.setName("mapRow"); //$NON-NLS-1$
+        method.addParameter(new Parameter(resultSetType, "rs")); //$NON-NLS-1$
+        method.addParameter(new Parameter(new FullyQualifiedJavaType("int[]"), "columns")); //$NON-NLS-1$ //$NON-NLS-2$
+        method.addException(exceptionType);
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        this.context.getCommentGenerator().addGeneralMethodComment(method, this.introspectedTable);
+
+        method.addBodyLine(recordType.getShortName() + " record = new " //$NON-NLS-1$
+                + recordType.getShortName() + "();"); //$NON-NLS-1$
+        for (int i = 0; i < introspectedColumns.size(); i++) {
+            IntrospectedColumn introspectedColumn = introspectedColumns.get(i);
+            method.addBodyLine("if (columns[" + i + "] > 0) {"); //$NON-NLS-1$ //$NON-NLS-2$
+            StringBuilder sb = new StringBuilder();
+            sb.append("record."); //$NON-NLS-1$
+            sb.append(getSetterMethodName(introspectedColumn.getJavaProperty()));
+            sb.append('(');
+            sb.append(READ_METHODS.get(introspectedColumn.getFullyQualifiedJavaType().getFullyQualifiedName()));
+            sb.append("(rs, columns["); //$NON-NLS-1$
+            sb.append(i);
+            sb.append("]));"); //$NON-NLS-1$
+            method.addBodyLine(sb.toString());
+            method.addBodyLine("}"); //$NON-NLS-1$
+        }
+        if (this.introspectedTable.isTrackChanges()) {
+            // loading is not a change
+            method.addBodyLine("record.clearChangedColumns();"); //$NON-NLS-1$
+        }
+        method.addBodyLine("return record;"); //$NON-NLS-1$
+        return method;
+    }
+
+    private Method getGetValueMethod(FullyQualifiedJavaType recordType,
+                                     List<IntrospectedColumn> introspectedColumns) {
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(FullyQualifiedJavaType.getObjectInstance());
+        method.setName("getValue"); //$NON-NLS-1$
+        method.addParameter(new Parameter(recordType, "record")); //$NON-NLS-1$
+        method.addParameter(new Parameter(FullyQualifiedJavaType.getStringInstance(), "property")); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        this.context.getCommentGenerator().addGeneralMethodComment(method, this.introspectedTable);
+
+        method.addBodyLine("Object value;"); //$NON-NLS-1$
+        method.addBodyLine("switch (property) {"); //$NON-NLS-1$
+        for (IntrospectedColumn introspectedColumn : introspectedColumns) {
+            method.addBodyLine("case \"" + introspectedColumn.getJavaProperty() + "\":"); //$NON-NLS-1$ //$NON-NLS-2$
+            method.addBodyLine("value = record." //$NON-NLS-1$
+                    + getGetterMethodName(introspectedColumn.getJavaProperty(),
+                    introspectedColumn.getFullyQualifiedJavaType()) + "();"); //$NON-NLS-1$
+            method.addBodyLine("break;"); //$NON-NLS-1$
+        }
+        method.addBodyLine("default:"); //$NON-NLS-1$
+        method.addBodyLine("value = UNKNOWN_PROPERTY;"); //$NON-NLS-1$
+        method.addBodyLine("break;"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("return value;"); //$NON-NLS-1$
+        return method;
+    }
+
+    /**
+     * The columns of the batch insert: all columns, without the primary key if it is a single auto
+     * increment column (see Base_Column_List_Without_Id).
+     */
+    private List<IntrospectedColumn> getInsertColumns() {
+        List<IntrospectedColumn> primaryKeyColumns = this.introspectedTable.getPrimaryKeyColumns();
+        boolean excludeId = primaryKeyColumns.size() == 1 && primaryKeyColumns.get(0).isAutoIncrement();
+
+        List<IntrospectedColumn> answer = new ArrayList<IntrospectedColumn>();
+        for (IntrospectedColumn introspectedColumn : this.introspectedTable.getAllColumns()) {
+            if (!excludeId || !primaryKeyColumns.contains(introspectedColumn)) {
+                answer.add(introspectedColumn);
+            }
+        }
+        return answer;
+    }
+
+    private Method getTableNameMethod() {
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(FullyQualifiedJavaType.getStringInstance());
+        method.setName("getTableName"); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        this.context.getCommentGenerator().addGeneralMethodComment(method, this.introspectedTable);
+
+        method.addBodyLine("return \"" //$NON-NLS-1$
+                + escapeStringForJava(this.introspectedTable.getFullyQualifiedTableNameAtRuntime())
+                + "\";"); //$NON-NLS-1$
+        return method;
+    }
+
+    private Method getInsertColumnsMethod(List<IntrospectedColumn> insertColumns) {
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(new FullyQualifiedJavaType("String[]")); //$NON-NLS-1$
+        method.setName("getInsertColumns"); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        this.context.getCommentGenerator().addGeneralMethodComment(method, this.introspectedTable);
+
+        method.addBodyLine("return new String[] {"); //$NON-NLS-1$
+        for (int i = 0; i < insertColumns.size(); i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append('"');
+            sb.append(escapeStringForJava(getEscapedColumnName(insertColumns.get(i))));
+            sb.append('"');
+            if (i + 1 < insertColumns.size()) {
+                sb.append(',');
+            }
+            method.addBodyLine(sb.toString());
+        }
+        method.addBodyLine("};"); //$NON-NLS-1$
+        return method;
+    }
+
+    private Method getInsertValuesMethod(FullyQualifiedJavaType recordType,
+                                         List<IntrospectedColumn> insertColumns) {
+        Method method = new Method();
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(new FullyQualifiedJavaType("Object[]")); //$NON-NLS-1$
+        method.setName("getInsertValues"); //$NON-NLS-1$
+        method.addParameter(new Parameter(recordType, "record")); //$NON-NLS-1$
+        method.addAnnotation("@Override"); //$NON-NLS-1$
+        this.context.getCommentGenerator().addGeneralMethodComment(method, this.introspectedTable);
+
+        method.addBodyLine("return new Object[] {"); //$NON-NLS-1$
+        for (int i = 0; i < insertColumns.size(); i++) {
+            IntrospectedColumn introspectedColumn = insertColumns.get(i);
+            StringBuilder sb = new StringBuilder();
+            sb.append("record."); //$NON-NLS-1$
+            sb.append(getGetterMethodName(introspectedColumn.getJavaProperty(),
+                    introspectedColumn.getFullyQualifiedJavaType()));
+            sb.append("()"); //$NON-NLS-1$
+            if (i + 1 < insertColumns.size()) {
+                sb.append(',');
+            }
+            method.addBodyLine(sb.toString());
+        }
+        method.addBodyLine("};"); //$NON-NLS-1$
+        return method;
+    }
+}
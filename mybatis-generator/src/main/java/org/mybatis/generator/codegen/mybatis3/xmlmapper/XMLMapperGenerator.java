@@ -15,12 +15,23 @@ package org.mybatis.generator.codegen.mybatis3.xmlmapper;
 
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.Element;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.codegen.AbstractXmlGenerator;
 import org.mybatis.generator.codegen.XmlConstants;
+import org.mybatis.generator.codegen.mybatis3.IndexFinder;
+import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.*;
 
 /**
@@ -30,6 +41,18 @@ import org.mybatis.generator.codegen.mybatis3.xmlmapper.elements.*;
  */
 public class XMLMapperGenerator extends AbstractXmlGenerator {
 
+    /** Statement element name to the attributes that can be configured for it. */
+    private static final Map<String, List<String>> STATEMENT_ATTRIBUTES = new HashMap<String, List<String>>();
+
+    static {
+        List<String> updateAttributes = Arrays.asList("timeout", "statementType", "flushCache"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        STATEMENT_ATTRIBUTES.put("select", Arrays.asList("fetchSize", "timeout", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                "statementType", "useCache", "flushCache", "resultSetType")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        STATEMENT_ATTRIBUTES.put("insert", updateAttributes); //$NON-NLS-1$
+        STATEMENT_ATTRIBUTES.put("update", updateAttributes); //$NON-NLS-1$
+        STATEMENT_ATTRIBUTES.put("delete", updateAttributes); //$NON-NLS-1$
+    }
+
     public XMLMapperGenerator() {
         super();
     }
@@ -37,6 +60,11 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
     protected XmlElement getSqlMapElement() {
         FullyQualifiedTable table = this.introspectedTable.getFullyQualifiedTable();
         this.progressCallback.startTask(getString("Progress.12", table.toString())); //$NON-NLS-1$
+        String versionColumn = this.introspectedTable
+                .getTableConfigurationProperty(PropertyRegistry.TABLE_VERSION_COLUMN);
+        if (versionColumn != null && this.introspectedTable.getVersionColumn() == null) {
+            this.warnings.add(getString("Warning.33", versionColumn, table.toString())); //$NON-NLS-1$
+        }
         XmlElement answer = new XmlElement("mapper"); //$NON-NLS-1$
         String namespace = this.introspectedTable.getMyBatis3SqlMapNamespace();
         answer.addAttribute(new Attribute("namespace", //$NON-NLS-1$
@@ -46,6 +74,7 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
 
         this.addResultMapWithoutBLOBsElement(answer);
         this.addResultMapWithBLOBsElement(answer);
+        this.addBlobResultMapElement(answer);
         this.addExampleWhereClauseElement(answer);
         // this.addMyBatis3UpdateByExampleWhereClauseElement(answer);
 
@@ -53,6 +82,7 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
         this.addTableNameElement(answer);
         this.addBaseColumnListWithoutIdElementElement(answer);
         this.addBaseColumnListElement(answer);
+        this.addBaseColumnListWithoutBlobsElement(answer);
         this.addBlobColumnListElement(answer);
         this.addInsertColumnListElement(answer);
         this.addInsertValueListElement(answer);
@@ -67,30 +97,164 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
 
         this.addDeleteByPrimaryKeyElement(answer);
         this.addDeleteByExampleElement(answer);
+        this.addDeleteByExampleLimitElement(answer);
         this.addDeleteInElement(answer);
 
         this.addUpdateByPrimaryKeyWithoutBLOBsElement(answer);
         this.addUpdateByPrimaryKeyWithBLOBsElement(answer);
         // this.addUpdateByExampleSelectiveElement(answer);
         this.addUpdateByExampleWithoutBLOBsElement(answer);
+        this.addUpdateByExampleLimitElement(answer);
         this.addUpdateByExampleWithBLOBsElement(answer);
         // this.addUpdateByPrimaryKeySelectiveElement(answer);
         this.addBatchUpdateElement(answer);
+        this.addUpdateChangedByPrimaryKeyElement(answer);
 
         this.addSelectByPrimaryKeyElement(answer);
         this.addSelectByExampleWithoutBLOBsElement(answer);
         this.addSelectByExampleWithBLOBsElement(answer);
         this.addSelectOneByExampleWithoutBLOBsElement(answer);
         this.addSelectInWithoutBLOBsElement(answer);
+        this.addIndexFinderElements(answer);
+        this.addSelectColumnsByExampleElement(answer);
+        this.addSelectBlobsElements(answer);
 
         this.addCountByExampleElement(answer);
+        this.addExistsByExampleElement(answer);
+        this.addExistsByPrimaryKeyElement(answer);
     this.addCountByPagerElement(answer);
 
     this.addSelectByPagerWithoutBLOBsElement(answer);
 
+        this.addStatementAttributes(answer);
+
         return answer;
     }
 
+    /**
+     * Adds the configured statement attributes to the select, insert, update and delete elements.
+     * A property named <code>statement.attribute</code> sets the attribute on one statement, for
+     * example <code>selectByExample.fetchSize</code>, and a property named
+     * <code>family.attribute</code> sets it on all statements of a family, for example
+     * <code>select.timeout</code>. The properties of the table override the properties of the sql
+     * map generator, and a statement property overrides a family property from the same place.
+     *
+     * @param parentElement the mapper element
+     */
+    protected void addStatementAttributes(XmlElement parentElement) {
+        Properties tableProperties = this.introspectedTable.getTableConfiguration().getProperties();
+        Properties generatorProperties = this.context.getSqlMapGeneratorConfiguration().getProperties();
+        Set<String> usedTableProperties = new HashSet<String>();
+
+        for (Element element : parentElement.getElements()) {
+            if (!(element instanceof XmlElement)) {
+                continue;
+            }
+            XmlElement statement = (XmlElement) element;
+            String family = statement.getName();
+            String id = getAttributeValue(statement, "id"); //$NON-NLS-1$
+            if (id == null || !STATEMENT_ATTRIBUTES.containsKey(family)) {
+                continue;
+            }
+
+            for (String attribute : STATEMENT_ATTRIBUTES.get(family)) {
+                String name = null;
+                String value = null;
+                for (Properties properties : Arrays.asList(tableProperties, generatorProperties)) {
+                    for (String target : Arrays.asList(id, family)) {
+                        if (name == null && properties.getProperty(target + '.' + attribute) != null) {
+                            name = target + '.' + attribute;
+                            value = properties.getProperty(name).trim();
+                            if (properties == tableProperties) {
+                                usedTableProperties.add(name);
+                            }
+                        }
+                    }
+                }
+                if (value == null || getAttributeValue(statement, attribute) != null) {
+                    continue;
+                }
+                if (isValidStatementAttribute(attribute, value)) {
+                    statement.addAttribute(new Attribute(attribute, value));
+                } else {
+                    this.warnings.add(getString("Warning.34", value, name, //$NON-NLS-1$
+                            this.introspectedTable.getFullyQualifiedTable().toString()));
+                }
+            }
+        }
+
+        for (String name : tableProperties.stringPropertyNames()) {
+            String attribute = name.substring(name.lastIndexOf('.') + 1);
+            if (name.indexOf('.') > 0 && STATEMENT_ATTRIBUTES.get("select").contains(attribute) //$NON-NLS-1$
+                    && !usedTableProperties.contains(name)) {
+                this.warnings.add(getString("Warning.35", name, //$NON-NLS-1$
+                        this.introspectedTable.getFullyQualifiedTable().toString()));
+            }
+        }
+    }
+
+    private static String getAttributeValue(XmlElement element, String name) {
+        for (Attribute attribute : element.getAttributes()) {
+            if (attribute.getName().equals(name)) {
+                return attribute.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isValidStatementAttribute(String attribute, String value) {
+        if ("fetchSize".equals(attribute) || "timeout".equals(attribute)) { //$NON-NLS-1$ //$NON-NLS-2$
+            try {
+                int number = Integer.parseInt(value);
+                // MySQL streams the rows with a fetch size of Integer.MIN_VALUE, other negative
+                // values are rejected by the drivers
+                return number >= 0
+                        || number == Integer.MIN_VALUE && "fetchSize".equals(attribute); //$NON-NLS-1$
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        if ("useCache".equals(attribute) || "flushCache".equals(attribute)) { //$NON-NLS-1$ //$NON-NLS-2$
+            return "true".equals(value) || "false".equals(value); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if ("statementType".equals(attribute)) { //$NON-NLS-1$
+            return Arrays.asList("STATEMENT", "PREPARED", "CALLABLE").contains(value); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+        // MyBatis 3.4.6, which base-mybatis uses, has no DEFAULT result set type
+        return Arrays.asList("FORWARD_ONLY", "SCROLL_INSENSITIVE", "SCROLL_SENSITIVE") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                .contains(value);
+    }
+
+    protected void addIndexFinderElements(XmlElement parentElement) {
+        for (IndexFinder indexFinder : IndexFinder.calculateIndexFinders(this.introspectedTable)) {
+            AbstractXmlElementGenerator elementGenerator = new IndexFinderElementGenerator(indexFinder);
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
+    protected void addSelectColumnsByExampleElement(XmlElement parentElement) {
+        if (this.introspectedTable.getRules().generateSelectByExampleWithoutBLOBs()) {
+            AbstractXmlElementGenerator elementGenerator = new SelectColumnsByExampleElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
+    protected void addBlobResultMapElement(XmlElement parentElement) {
+        if (this.introspectedTable.isLazyLoadBlobs()) {
+            AbstractXmlElementGenerator elementGenerator = new BlobResultMapElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
+    protected void addSelectBlobsElements(XmlElement parentElement) {
+        if (this.introspectedTable.isLazyLoadBlobs()) {
+            AbstractXmlElementGenerator elementGenerator = new SelectBlobsElementGenerator(false);
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+            elementGenerator = new SelectBlobsElementGenerator(true);
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
     protected void addResultMapWithoutBLOBsElement(XmlElement parentElement) {
         if (this.introspectedTable.getRules().generateBaseResultMap()) {
             AbstractXmlElementGenerator elementGenerator =
@@ -141,6 +305,13 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
         }
     }
 
+    protected void addBaseColumnListWithoutBlobsElement(XmlElement parentElement) {
+        if (this.introspectedTable.isLazyLoadBlobs()) {
+            AbstractXmlElementGenerator elementGenerator = new BaseColumnListWithoutBlobsElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
     protected void addBlobColumnListElement(XmlElement parentElement) {
         if (this.introspectedTable.getRules().generateBlobColumnList()) {
             AbstractXmlElementGenerator elementGenerator = new BlobColumnListElementGenerator();
@@ -235,6 +406,14 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
         }
     }
 
+    protected void addDeleteByExampleLimitElement(XmlElement parentElement) {
+        if (this.introspectedTable.getRules().generateDeleteByExample()
+                && this.introspectedTable.hasPrimaryKeyColumns()) {
+            AbstractXmlElementGenerator elementGenerator = new DeleteByExampleLimitElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
     protected void addDeleteInElement(XmlElement parentElement) {
         if (this.introspectedTable.getRules().generateDeleteByPrimaryKey()) {
             AbstractXmlElementGenerator elementGenerator = new DeleteInElementGenerator();
@@ -278,6 +457,20 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
         }
     }
 
+    protected void addExistsByExampleElement(XmlElement parentElement) {
+        if (this.introspectedTable.getRules().generateCountByExample()) {
+            AbstractXmlElementGenerator elementGenerator = new ExistsByExampleElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
+    protected void addExistsByPrimaryKeyElement(XmlElement parentElement) {
+        if (this.introspectedTable.getRules().generateSelectByPrimaryKey()) {
+            AbstractXmlElementGenerator elementGenerator = new ExistsByPrimaryKeyElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
   protected void addCountByPagerElement(XmlElement parentElement) {
     if (this.introspectedTable.getRules().generateCountByExample()) {
       AbstractXmlElementGenerator elementGenerator = new CountByPagerElementGenerator();
@@ -307,6 +500,14 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
         }
     }
 
+    protected void addUpdateChangedByPrimaryKeyElement(XmlElement parentElement) {
+        if (this.introspectedTable.isTrackChanges()
+                && this.introspectedTable.getRules().generateUpdateByPrimaryKeySelective()) {
+            AbstractXmlElementGenerator elementGenerator = new UpdateChangedByPrimaryKeyElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
     protected void addBatchUpdateElement(XmlElement parentElement) {
         if (this.introspectedTable.getRules().generateUpdateByExampleWithoutBLOBs()) {
             AbstractXmlElementGenerator elementGenerator = new BatchUpdateElementGenerator();
@@ -322,6 +523,14 @@ public class XMLMapperGenerator extends AbstractXmlGenerator {
         }
     }
 
+    protected void addUpdateByExampleLimitElement(XmlElement parentElement) {
+        if (this.introspectedTable.getRules().generateUpdateByExampleWithoutBLOBs()
+                && this.introspectedTable.hasPrimaryKeyColumns()) {
+            AbstractXmlElementGenerator elementGenerator = new UpdateByExampleLimitElementGenerator();
+            this.initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
     protected void addUpdateByPrimaryKeySelectiveElement(XmlElement parentElement) {
         if (this.introspectedTable.getRules().generateUpdateByPrimaryKeySelective()) {
             AbstractXmlElementGenerator elementGenerator =
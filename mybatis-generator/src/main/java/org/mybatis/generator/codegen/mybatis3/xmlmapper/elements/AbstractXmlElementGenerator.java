@@ -18,6 +18,7 @@ import org.mybatis.generator.api.dom.xml.Attribute;
 import org.mybatis.generator.api.dom.xml.TextElement;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.codegen.AbstractGenerator;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
 import org.mybatis.generator.config.GeneratedKey;
 
 /**
@@ -57,8 +58,11 @@ public abstract class AbstractXmlElementGenerator extends AbstractGenerator {
 
     protected XmlElement getBaseColumnListElement() {
         XmlElement answer = new XmlElement("include"); //$NON-NLS-1$
-        answer.addAttribute(new Attribute("refid", //$NON-NLS-1$
-                this.introspectedTable.getBaseColumnListId()));
+        // lazily loaded BLOB columns are read by selectBlobsById instead
+        String refid = this.introspectedTable.isLazyLoadBlobs()
+                ? this.introspectedTable.getBaseColumnListId() + "_Without_Blobs" //$NON-NLS-1$
+                : this.introspectedTable.getBaseColumnListId();
+        answer.addAttribute(new Attribute("refid", refid)); //$NON-NLS-1$
         return answer;
     }
 
@@ -89,6 +93,53 @@ public abstract class AbstractXmlElementGenerator extends AbstractGenerator {
         return ifElement;
     }
 
+    /**
+     * Returns the clause that limits a statement to the first rows in primary key order, so a
+     * statement can be repeated in chunks of <code>limit</code> rows.
+     *
+     * @return the order by and limit clause
+     */
+    protected TextElement getPrimaryKeyOrderLimitElement() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("order by "); //$NON-NLS-1$
+        boolean comma = false;
+        for (IntrospectedColumn introspectedColumn : this.introspectedTable.getPrimaryKeyColumns()) {
+            if (comma) {
+                sb.append(", "); //$NON-NLS-1$
+            } else {
+                comma = true;
+            }
+            sb.append(MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+        }
+        sb.append(" limit #{limit}"); //$NON-NLS-1$
+        return new TextElement(sb.toString());
+    }
+
+    /**
+     * Returns the condition on the version column that is appended to the where clause of the
+     * updates by primary key. A record without a version is updated without the check.
+     *
+     * @return the condition, or <code>null</code> if the table has no version column
+     */
+    protected XmlElement getVersionConditionElement() {
+        IntrospectedColumn versionColumn = this.introspectedTable.getVersionColumn();
+        if (versionColumn == null) {
+            return null;
+        }
+
+        XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
+        ifElement.addAttribute(new Attribute("test", //$NON-NLS-1$
+                "record." + versionColumn.getJavaProperty() + " != null")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  and "); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getEscapedColumnName(versionColumn));
+        sb.append(" = "); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getParameterClause(versionColumn, "record.")); //$NON-NLS-1$
+        ifElement.addElement(new TextElement(sb.toString()));
+        return ifElement;
+    }
+
     protected XmlElement getUpdateByExampleIncludeElement() {
         XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
         ifElement.addAttribute(new Attribute("test", "_parameter != null")); //$NON-NLS-1$ //$NON-NLS-2$
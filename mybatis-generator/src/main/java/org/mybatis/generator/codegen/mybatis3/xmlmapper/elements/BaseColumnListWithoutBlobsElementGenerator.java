@@ -0,0 +1,62 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+/**
+ * Generates the select list of a table whose BLOB columns are loaded lazily: the base column list
+ * without the BLOB columns. Base_Column_List itself is left complete because the batch inserts use
+ * it as their column list. The element is passed to the sqlMapBaseColumnListElementGenerated
+ * plugin hook.
+ */
+public class BaseColumnListWithoutBlobsElementGenerator extends AbstractXmlElementGenerator {
+
+    public BaseColumnListWithoutBlobsElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("sql"); //$NON-NLS-1$
+
+        answer.addAttribute(new Attribute("id", //$NON-NLS-1$
+                this.introspectedTable.getBaseColumnListId() + "_Without_Blobs")); //$NON-NLS-1$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        List<IntrospectedColumn> columns =
+                new ArrayList<IntrospectedColumn>(this.introspectedTable.getNonBLOBColumns());
+        columns.removeAll(this.introspectedTable.getLazyBlobColumns());
+
+        StringBuilder sb = new StringBuilder();
+        Iterator<IntrospectedColumn> iter = columns.iterator();
+        while (iter.hasNext()) {
+            sb.append(MyBatis3FormattingUtilities.getSelectListPhrase(iter.next()));
+
+            if (iter.hasNext()) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+
+            if (sb.length() > 80) {
+                answer.addElement(new TextElement(sb.toString()));
+                sb.setLength(0);
+            }
+        }
+
+        if (sb.length() > 0) {
+            answer.addElement(new TextElement(sb.toString()));
+        }
+
+        if (this.context.getPlugins().sqlMapBaseColumnListElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+}
@@ -61,6 +61,11 @@ public class BatchUpdateElementGenerator extends AbstractXmlElementGenerator {
             sb.setLength(0);
         }
 
+        XmlElement versionElement = this.getVersionConditionElement();
+        if (versionElement != null) {
+            foreachElement.addElement(versionElement);
+        }
+
         answer.addElement(foreachElement);
 
         if (this.context.getPlugins().sqlMapUpdateByExampleWithoutBLOBsElementGenerated(answer,
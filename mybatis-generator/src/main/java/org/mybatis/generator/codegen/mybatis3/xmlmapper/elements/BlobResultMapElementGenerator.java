@@ -0,0 +1,61 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+/**
+ * Generates the result map of selectBlobsById and selectBlobsIn. It maps the primary key and the
+ * BLOB columns only and, unlike the base result map, has no lazy association, so a loaded BLOB
+ * holder does not load itself again. The element is passed to the
+ * sqlMapResultMapWithBLOBsElementGenerated plugin hook.
+ */
+public class BlobResultMapElementGenerator extends AbstractXmlElementGenerator {
+
+    public BlobResultMapElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("resultMap"); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("id", "BlobResultMap")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("type", //$NON-NLS-1$
+                this.introspectedTable.getBaseRecordType()));
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        List<IntrospectedColumn> columns = new ArrayList<IntrospectedColumn>();
+        columns.addAll(this.introspectedTable.getPrimaryKeyColumns());
+        columns.addAll(this.introspectedTable.getLazyBlobColumns());
+        boolean primaryKey = true;
+        for (IntrospectedColumn introspectedColumn : columns) {
+            // the primary key column comes first
+            XmlElement resultElement = new XmlElement(primaryKey ? "id" : "result"); //$NON-NLS-1$ //$NON-NLS-2$
+            primaryKey = false;
+
+            resultElement.addAttribute(new Attribute("column", //$NON-NLS-1$
+                    MyBatis3FormattingUtilities.getRenamedColumnNameForResultMap(introspectedColumn)));
+            resultElement.addAttribute(new Attribute("property", introspectedColumn.getJavaProperty())); //$NON-NLS-1$
+            resultElement.addAttribute(new Attribute("jdbcType", introspectedColumn.getJdbcTypeName())); //$NON-NLS-1$
+
+            if (stringHasValue(introspectedColumn.getTypeHandler())) {
+                resultElement
+                        .addAttribute(new Attribute("typeHandler", introspectedColumn.getTypeHandler())); //$NON-NLS-1$
+            }
+
+            answer.addElement(resultElement);
+        }
+
+        if (this.context.getPlugins().sqlMapResultMapWithBLOBsElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Generates the deleteByExampleLimit element: deleteByExample restricted to the first
+ * <code>limit</code> rows in primary key order. Repeating it until fewer rows are deleted removes
+ * a large set of rows in short statements instead of one long lock hold. The element is passed to
+ * the sqlMapDeleteByExampleElementGenerated plugin hook.
+ */
+public class DeleteByExampleLimitElementGenerator extends AbstractXmlElementGenerator {
+
+    public DeleteByExampleLimitElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("delete"); //$NON-NLS-1$
+
+        answer.addAttribute(new Attribute("id", "deleteByExampleLimit")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("delete from")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+        answer.addElement(this.getExampleIncludeElement());
+        answer.addElement(this.getPrimaryKeyOrderLimitElement());
+
+        if (this.context.getPlugins().sqlMapDeleteByExampleElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Generates the existsByExample element. Unlike countByExample the statement stops at the first
+ * matching row, so the result is 1 if a row exists and <code>null</code> otherwise. The element
+ * is passed to the sqlMapCountByExampleElementGenerated plugin hook.
+ */
+public class ExistsByExampleElementGenerator extends AbstractXmlElementGenerator {
+
+    public ExistsByExampleElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
+
+        answer.addAttribute(new Attribute("id", "existsByExample")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("resultType", "java.lang.Integer")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("select 1 from")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+        answer.addElement(this.getExampleIncludeElement());
+        answer.addElement(new TextElement("limit 1")); //$NON-NLS-1$
+
+        if (this.context.getPlugins().sqlMapCountByExampleElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+/**
+ * Generates the existsById element. The statement reads no columns, so it can be answered from
+ * the primary key index alone; the result is 1 if the row exists and <code>null</code> otherwise.
+ * The element is passed to the sqlMapSelectByPrimaryKeyElementGenerated plugin hook.
+ */
+public class ExistsByPrimaryKeyElementGenerator extends AbstractXmlElementGenerator {
+
+    public ExistsByPrimaryKeyElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
+
+        answer.addAttribute(new Attribute("id", "existsById")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("resultType", "java.lang.Integer")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("select 1 from")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+
+        StringBuilder sb = new StringBuilder();
+        boolean and = false;
+        for (IntrospectedColumn introspectedColumn : this.introspectedTable.getPrimaryKeyColumns()) {
+            sb.setLength(0);
+            if (and) {
+                sb.append("  and "); //$NON-NLS-1$
+            } else {
+                sb.append("where "); //$NON-NLS-1$
+                and = true;
+            }
+
+            sb.append(MyBatis3FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn));
+            sb.append(" = "); //$NON-NLS-1$
+            sb.append(this.getParameterClause(introspectedColumn));
+            answer.addElement(new TextElement(sb.toString()));
+        }
+        answer.addElement(new TextElement("limit 1")); //$NON-NLS-1$
+
+        if (this.context.getPlugins().sqlMapSelectByPrimaryKeyElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+
+    private String getParameterClause(IntrospectedColumn introspectedColumn) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("#{id,jdbcType="); //$NON-NLS-1$
+        sb.append(introspectedColumn.getJdbcTypeName());
+
+        if (stringHasValue(introspectedColumn.getTypeHandler())) {
+            sb.append(",typeHandler="); //$NON-NLS-1$
+            sb.append(introspectedColumn.getTypeHandler());
+        }
+
+        sb.append('}');
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.IndexFinder;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+/**
+ * Generates the select element of an {@link IndexFinder}. The SQL has a fixed where clause on the
+ * index columns instead of the Example clause, so the statement text is the same for every call.
+ * Unique key finders are passed to the sqlMapSelectByPrimaryKeyElementGenerated plugin hook, the
+ * other finders to sqlMapSelectByExampleWithoutBLOBsElementGenerated.
+ */
+public class IndexFinderElementGenerator extends AbstractXmlElementGenerator {
+
+    private IndexFinder indexFinder;
+
+    public IndexFinderElementGenerator(IndexFinder indexFinder) {
+        super();
+        this.indexFinder = indexFinder;
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
+
+        answer.addAttribute(new Attribute("id", indexFinder.getStatementId())); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("resultMap", //$NON-NLS-1$
+                this.introspectedTable.getBaseResultMapId()));
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("select")); //$NON-NLS-1$
+        answer.addElement(this.getBaseColumnListElement());
+        answer.addElement(new TextElement("from")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+
+        StringBuilder sb = new StringBuilder();
+        if (indexFinder.getKind() == IndexFinder.Kind.BATCH_UNIQUE_KEY) {
+            IntrospectedColumn introspectedColumn = indexFinder.getColumns().get(0);
+            sb.append("where "); //$NON-NLS-1$
+            sb.append(MyBatis3FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn));
+            sb.append(" in"); //$NON-NLS-1$
+            answer.addElement(new TextElement(sb.toString()));
+
+            XmlElement foreachElement = new XmlElement("foreach"); //$NON-NLS-1$
+            foreachElement.addAttribute(new Attribute("collection", "keys")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("item", "key")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("open", "(")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("separator", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("close", ")")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addElement(new TextElement(getItemParameterClause(introspectedColumn)));
+            answer.addElement(foreachElement);
+        } else {
+            boolean and = false;
+            for (IntrospectedColumn introspectedColumn : indexFinder.getColumns()) {
+                sb.setLength(0);
+                if (and) {
+                    sb.append("  and "); //$NON-NLS-1$
+                } else {
+                    sb.append("where "); //$NON-NLS-1$
+                    and = true;
+                }
+
+                sb.append(MyBatis3FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn));
+                sb.append(" = "); //$NON-NLS-1$
+                sb.append(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn));
+                answer.addElement(new TextElement(sb.toString()));
+            }
+        }
+
+        boolean rc;
+        if (indexFinder.getKind() == IndexFinder.Kind.UNIQUE_KEY) {
+            rc = this.context.getPlugins().sqlMapSelectByPrimaryKeyElementGenerated(answer,
+                    this.introspectedTable);
+        } else {
+            rc = this.context.getPlugins().sqlMapSelectByExampleWithoutBLOBsElementGenerated(answer,
+                    this.introspectedTable);
+        }
+        if (rc) {
+            parentElement.addElement(answer);
+        }
+    }
+
+    /**
+     * The foreach item "key" is the key value itself, so the parameter is #{key} rather than a
+     * property of it.
+     */
+    private String getItemParameterClause(IntrospectedColumn introspectedColumn) {
+        String clause = MyBatis3FormattingUtilities.getParameterClause(introspectedColumn);
+        return "#{key" + clause.substring(clause.indexOf(',')); //$NON-NLS-1$
+    }
+}
@@ -111,6 +111,30 @@ public class ResultMapWithoutBLOBsElementGenerator extends AbstractXmlElementGen
 
             answer.addElement(resultElement);
         }
+
+        if (!this.isSimple && this.introspectedTable.isLazyLoadBlobs()) {
+            answer.addElement(this.getLazyBlobsAssociationElement());
+        }
+    }
+
+    /**
+     * The BLOB columns are read by selectBlobsById the first time the "blobs" property is
+     * accessed, the primary key column of the row is passed as the id parameter.
+     */
+    private XmlElement getLazyBlobsAssociationElement() {
+        IntrospectedColumn introspectedColumn = this.introspectedTable.getPrimaryKeyColumns().get(0);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{id="); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getRenamedColumnNameForResultMap(introspectedColumn));
+        sb.append('}');
+
+        XmlElement answer = new XmlElement("association"); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("property", "blobs")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("column", sb.toString())); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("select", "selectBlobsById")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("fetchType", "lazy")); //$NON-NLS-1$ //$NON-NLS-2$
+        return answer;
     }
 
     private void addResultMapConstructorElements(XmlElement answer) {
@@ -0,0 +1,88 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+/**
+ * Generates selectBlobsById, which the lazy association of the base result map runs for a single
+ * row, or selectBlobsIn, which reads the BLOB columns of a list of records in one statement. Both
+ * select the primary key and the BLOB columns only. selectBlobsById is passed to the
+ * sqlMapSelectByPrimaryKeyElementGenerated plugin hook, selectBlobsIn to
+ * sqlMapSelectByExampleWithBLOBsElementGenerated.
+ */
+public class SelectBlobsElementGenerator extends AbstractXmlElementGenerator {
+
+    private boolean inRecords;
+
+    public SelectBlobsElementGenerator(boolean inRecords) {
+        super();
+        this.inRecords = inRecords;
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        IntrospectedColumn introspectedColumn = this.introspectedTable.getPrimaryKeyColumns().get(0);
+
+        XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("id", //$NON-NLS-1$
+                this.inRecords ? "selectBlobsIn" : "selectBlobsById")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("resultMap", "BlobResultMap")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("select "); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getSelectListPhrase(introspectedColumn));
+        for (IntrospectedColumn blobColumn : this.introspectedTable.getLazyBlobColumns()) {
+            sb.append(", "); //$NON-NLS-1$
+            sb.append(MyBatis3FormattingUtilities.getSelectListPhrase(blobColumn));
+        }
+        answer.addElement(new TextElement(sb.toString()));
+        answer.addElement(new TextElement("from")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+
+        sb.setLength(0);
+        sb.append("where "); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn));
+        boolean rc;
+        if (this.inRecords) {
+            sb.append(" in"); //$NON-NLS-1$
+            answer.addElement(new TextElement(sb.toString()));
+
+            XmlElement foreachElement = new XmlElement("foreach"); //$NON-NLS-1$
+            foreachElement.addAttribute(new Attribute("collection", "records")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("item", "record")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("open", "(")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("separator", ",")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("close", ")")); //$NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addElement(new TextElement(
+                    MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "record."))); //$NON-NLS-1$
+            answer.addElement(foreachElement);
+
+            rc = this.context.getPlugins().sqlMapSelectByExampleWithBLOBsElementGenerated(answer,
+                    this.introspectedTable);
+        } else {
+            sb.append(" = #{id,jdbcType="); //$NON-NLS-1$
+            sb.append(introspectedColumn.getJdbcTypeName());
+            if (stringHasValue(introspectedColumn.getTypeHandler())) {
+                sb.append(",typeHandler="); //$NON-NLS-1$
+                sb.append(introspectedColumn.getTypeHandler());
+            }
+            sb.append('}');
+            answer.addElement(new TextElement(sb.toString()));
+
+            rc = this.context.getPlugins().sqlMapSelectByPrimaryKeyElementGenerated(answer,
+                    this.introspectedTable);
+        }
+
+        if (rc) {
+            parentElement.addElement(answer);
+        }
+    }
+}
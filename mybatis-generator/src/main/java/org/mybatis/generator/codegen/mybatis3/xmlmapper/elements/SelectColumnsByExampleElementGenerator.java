@@ -0,0 +1,60 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Generates the selectColumnsByExample element. The select list is taken from the Column enum of
+ * the example class, which caches the list for every set of columns it has seen; the result map
+ * leaves the properties of the columns that are not selected <code>null</code>. The element is
+ * passed to the sqlMapSelectByExampleWithoutBLOBsElementGenerated plugin hook.
+ */
+public class SelectColumnsByExampleElementGenerator extends AbstractXmlElementGenerator {
+
+    public SelectColumnsByExampleElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
+
+        String resultMap = this.introspectedTable.getRules().generateResultMapWithBLOBs()
+                ? this.introspectedTable.getResultMapWithBLOBsId()
+                : this.introspectedTable.getBaseResultMapId();
+        answer.addAttribute(new Attribute("id", "selectColumnsByExample")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("resultMap", resultMap)); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("select")); //$NON-NLS-1$
+        XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
+        ifElement.addAttribute(new Attribute("test", "example != null and example.distinct")); //$NON-NLS-1$ //$NON-NLS-2$
+        ifElement.addElement(new TextElement("distinct")); //$NON-NLS-1$
+        answer.addElement(ifElement);
+
+        // OGNL needs the binary name of the nested enum
+        StringBuilder sb = new StringBuilder();
+        sb.append("${@"); //$NON-NLS-1$
+        sb.append(this.introspectedTable.getExampleType());
+        sb.append("$Column@projection(columns)}"); //$NON-NLS-1$
+        answer.addElement(new TextElement(sb.toString()));
+
+        answer.addElement(new TextElement("from")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+        answer.addElement(this.getExampleIncludeElement());
+
+        ifElement = new XmlElement("if"); //$NON-NLS-1$
+        ifElement.addAttribute(
+                new Attribute("test", "example != null and example.orderByClause != null")); //$NON-NLS-1$ //$NON-NLS-2$
+        ifElement.addElement(new TextElement("order by ${example.orderByClause}")); //$NON-NLS-1$
+        answer.addElement(ifElement);
+
+        if (this.context.getPlugins().sqlMapSelectByExampleWithoutBLOBsElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+}
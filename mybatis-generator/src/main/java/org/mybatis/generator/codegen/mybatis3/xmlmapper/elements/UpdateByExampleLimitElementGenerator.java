@@ -0,0 +1,45 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Generates the updateByExampleLimit element: updateByExample restricted to the first
+ * <code>limit</code> rows in primary key order. It can only be repeated in chunks if the update
+ * makes the rows stop matching the example. The element is passed to the
+ * sqlMapUpdateByExampleWithoutBLOBsElementGenerated plugin hook.
+ */
+public class UpdateByExampleLimitElementGenerator extends AbstractXmlElementGenerator {
+
+    public UpdateByExampleLimitElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("update"); //$NON-NLS-1$
+
+        answer.addAttribute(new Attribute("id", "updateByExampleLimit")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("update")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+
+        XmlElement setElement = new XmlElement("set"); //$NON-NLS-1$
+        XmlElement includeElement = new XmlElement("include"); //$NON-NLS-1$
+        includeElement.addAttribute(new Attribute("refid", "Update_Set_From_Bean")); //$NON-NLS-1$ //$NON-NLS-2$
+        setElement.addElement(includeElement);
+        answer.addElement(setElement);
+
+        answer.addElement(this.getExampleIncludeElement());
+        answer.addElement(this.getPrimaryKeyOrderLimitElement());
+
+        if (this.context.getPlugins().sqlMapUpdateByExampleWithoutBLOBsElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+}
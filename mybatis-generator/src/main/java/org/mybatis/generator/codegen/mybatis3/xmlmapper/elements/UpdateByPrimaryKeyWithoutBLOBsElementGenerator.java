@@ -75,6 +75,11 @@ public class UpdateByPrimaryKeyWithoutBLOBsElementGenerator extends AbstractXmlE
             answer.addElement(new TextElement(sb.toString()));
         }
 
+        XmlElement versionElement = this.getVersionConditionElement();
+        if (versionElement != null) {
+            answer.addElement(versionElement);
+        }
+
         if (this.context.getPlugins().sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(answer,
                 this.introspectedTable)) {
             // add comment
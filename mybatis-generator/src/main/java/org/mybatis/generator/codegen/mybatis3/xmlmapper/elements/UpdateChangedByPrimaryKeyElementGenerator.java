@@ -0,0 +1,70 @@
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+/**
+ * Generates updateChangedById. The set clause is rendered by the Column enum of the example class
+ * from the change mask of the record and cached per mask, so there is no per column test and the
+ * statement text only depends on which columns changed. A changed column is written even if the
+ * new value is <code>null</code>. A version column is incremented and checked like in updateById.
+ * The element is passed to the
+ * sqlMapUpdateByPrimaryKeySelectiveElementGenerated plugin hook.
+ */
+public class UpdateChangedByPrimaryKeyElementGenerator extends AbstractXmlElementGenerator {
+
+    public UpdateChangedByPrimaryKeyElementGenerator() {
+        super();
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("update"); //$NON-NLS-1$
+
+        answer.addAttribute(new Attribute("id", "updateChangedById")); //$NON-NLS-1$ //$NON-NLS-2$
+        answer.addAttribute(new Attribute("parameterType", "java.util.Map")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        this.context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("update")); //$NON-NLS-1$
+        answer.addElement(this.getTableNameIncludeElement());
+
+        // the returned clause contains #{} parameters, they are bound after the substitution
+        StringBuilder sb = new StringBuilder();
+        sb.append("set ${@"); //$NON-NLS-1$
+        sb.append(this.introspectedTable.getExampleType());
+        sb.append("$Column@setClause(record.changedColumns())}"); //$NON-NLS-1$
+        IntrospectedColumn versionColumn = this.introspectedTable.getVersionColumn();
+        if (versionColumn != null) {
+            // the set clause is never empty, it falls back to assigning the primary key to itself
+            String column = MyBatis3FormattingUtilities.getEscapedColumnName(versionColumn);
+            sb.append(", "); //$NON-NLS-1$
+            sb.append(column);
+            sb.append(" = "); //$NON-NLS-1$
+            sb.append(column);
+            sb.append(" + 1"); //$NON-NLS-1$
+        }
+        answer.addElement(new TextElement(sb.toString()));
+
+        IntrospectedColumn introspectedColumn = this.introspectedTable.getPrimaryKeyColumns().get(0);
+        sb.setLength(0);
+        sb.append("where "); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getEscapedColumnName(introspectedColumn));
+        sb.append(" = "); //$NON-NLS-1$
+        sb.append(MyBatis3FormattingUtilities.getParameterClause(introspectedColumn, "record.")); //$NON-NLS-1$
+        answer.addElement(new TextElement(sb.toString()));
+
+        XmlElement versionElement = this.getVersionConditionElement();
+        if (versionElement != null) {
+            answer.addElement(versionElement);
+        }
+
+        if (this.context.getPlugins().sqlMapUpdateByPrimaryKeySelectiveElementGenerated(answer,
+                this.introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+}
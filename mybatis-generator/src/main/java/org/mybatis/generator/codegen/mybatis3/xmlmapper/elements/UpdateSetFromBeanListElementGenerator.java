@@ -25,12 +25,13 @@ public class UpdateSetFromBeanListElementGenerator extends AbstractXmlElementGen
 
         List<IntrospectedColumn> columns = ListUtilities
                 .removeIdentityAndGeneratedAlwaysColumns(this.introspectedTable.getAllColumns());
+        IntrospectedColumn versionColumn = this.introspectedTable.getVersionColumn();
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < columns.size(); i++) {
             IntrospectedColumn introspectedColumn = columns.get(i);
             String column = introspectedColumn.getActualColumnName();
-            // without id
-            if ("id".equalsIgnoreCase(column)) {
+            // without id and version, every update increments the version
+            if ("id".equalsIgnoreCase(column) || introspectedColumn == versionColumn) {
                 continue;
             }
             XmlElement ifElement = new XmlElement("if");
@@ -48,6 +49,11 @@ public class UpdateSetFromBeanListElementGenerator extends AbstractXmlElementGen
             answer.addElement(ifElement);
         }
 
+        if (versionColumn != null) {
+            String column = MyBatis3FormattingUtilities.getEscapedColumnName(versionColumn);
+            answer.addElement(new TextElement(column + " = " + column + " + 1,")); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
         if (this.context.getPlugins().sqlMapBaseColumnListElementGenerated(answer,
                 this.introspectedTable)) {
             parentElement.addElement(answer);
@@ -23,7 +23,9 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.mybatis.generator.api.CommentGenerator;
@@ -478,6 +480,45 @@ public class Context extends PropertyHolder {
         }
     }
 
+    /**
+     * Calculates a schema marker for every table in this context with enabled statements. The
+     * markers are compared by watch mode to find the tables whose structure changed since the
+     * last generation.
+     *
+     * @param warnings
+     *            any warning generated from this method will be added to the
+     *            List
+     * @return the schema markers keyed by fully qualified table name, in the
+     *         same form as accepted by {@link #introspectTables}
+     * @throws SQLException
+     *             if some error arises while reading the database metadata
+     */
+    public Map<String, String> calculateSchemaMarkers(List<String> warnings)
+            throws SQLException {
+        Map<String, String> answer = new LinkedHashMap<String, String>();
+        Connection connection = null;
+
+        try {
+            connection = getConnection();
+
+            DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(
+                    this, connection.getMetaData(),
+                    ObjectFactory.createJavaTypeResolver(this, warnings), warnings);
+
+            for (TableConfiguration tc : tableConfigurations) {
+                if (tc.areAnyStatementsEnabled()) {
+                    String tableName = composeFullyQualifiedTableName(tc.getCatalog(), tc
+                            .getSchema(), tc.getTableName(), '.');
+                    answer.put(tableName, databaseIntrospector.calculateSchemaMarker(tc));
+                }
+            }
+        } finally {
+            closeConnection(connection);
+        }
+
+        return answer;
+    }
+
     public int getGenerationSteps() {
         int steps = 0;
 
@@ -506,6 +547,7 @@ public class Context extends PropertyHolder {
                         pluginConfiguration.getConfigurationType(), id));
             }
         }
+        pluginAggregator.compileHooks();
 
         if (introspectedTables != null) {
             for (IntrospectedTable introspectedTable : introspectedTables) {
@@ -32,11 +32,15 @@ public class PropertyRegistry {
     public static final String ANY_ROOT_CLASS = "rootClass"; //$NON-NLS-1$
     public static final String ANY_IMMUTABLE = "immutable"; //$NON-NLS-1$
     public static final String ANY_CONSTRUCTOR_BASED = "constructorBased"; //$NON-NLS-1$
+    public static final String ANY_TRACK_CHANGES = "trackChanges"; //$NON-NLS-1$
+    public static final String ANY_GENERATE_RECORD_MAPPER = "generateRecordMapper"; //$NON-NLS-1$
 
     /**
      * recognized by table and java client generator
      */
     public static final String ANY_ROOT_INTERFACE = "rootInterface"; //$NON-NLS-1$
+    public static final String ANY_GENERATE_INDEX_FINDERS = "generateIndexFinders"; //$NON-NLS-1$
+    public static final String ANY_LAZY_LOAD_BLOBS = "lazyLoadBlobs"; //$NON-NLS-1$
 
     public static final String TABLE_USE_COLUMN_INDEXES = "useColumnIndexes"; //$NON-NLS-1$
     public static final String TABLE_USE_ACTUAL_COLUMN_NAMES = "useActualColumnNames"; //$NON-NLS-1$
@@ -47,6 +51,7 @@ public class PropertyRegistry {
     public static final String TABLE_RUNTIME_TABLE_NAME = "runtimeTableName"; //$NON-NLS-1$
     public static final String TABLE_MODEL_ONLY = "modelOnly"; //$NON-NLS-1$
     public static final String TABLE_SELECT_ALL_ORDER_BY_CLAUSE = "selectAllOrderByClause"; //$NON-NLS-1$
+    public static final String TABLE_VERSION_COLUMN = "versionColumn"; //$NON-NLS-1$
 
     public static final String CONTEXT_BEGINNING_DELIMITER = "beginningDelimiter"; //$NON-NLS-1$
     public static final String CONTEXT_ENDING_DELIMITER = "endingDelimiter"; //$NON-NLS-1$
@@ -31,14 +31,30 @@ public class DefaultShellCallback implements ShellCallback {
     /** The overwrite. */
     private boolean overwrite;
 
+    /** The merge. */
+    private boolean merge;
+
     /**
      * Instantiates a new default shell callback.
      *
      * @param overwrite the overwrite
      */
     public DefaultShellCallback(boolean overwrite) {
+        this(overwrite, false);
+    }
+
+    /**
+     * Instantiates a new default shell callback.
+     *
+     * @param overwrite the overwrite
+     * @param merge if true, existing Java files are merged with {@link JavaFileMerger}. Only
+     *        members tagged by the comment generator are replaced, so this should not be enabled
+     *        when comments are suppressed.
+     */
+    public DefaultShellCallback(boolean overwrite, boolean merge) {
         super();
         this.overwrite = overwrite;
+        this.merge = merge;
     }
 
     /*
@@ -97,7 +113,7 @@ public class DefaultShellCallback implements ShellCallback {
      */
     @Override
     public boolean isMergeSupported() {
-        return false;
+        return merge;
     }
 
     /*
@@ -119,6 +135,6 @@ public class DefaultShellCallback implements ShellCallback {
     @Override
     public String mergeJavaFile(String newFileSource, File existingFile, String[] javadocTags,
                                 String fileEncoding) throws ShellException {
-        throw new UnsupportedOperationException();
+        return JavaFileMerger.getMergedSource(newFileSource, existingFile, javadocTags, fileEncoding);
     }
 }
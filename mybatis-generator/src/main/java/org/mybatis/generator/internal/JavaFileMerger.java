@@ -0,0 +1,750 @@
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.StringUtility.sha1Hex;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mybatis.generator.exception.ShellException;
+
+/**
+ * This class handles the task of merging a newly generated Java file into an existing one.
+ *
+ * <p>
+ * The sources are split into members of the top level type by a small scanner that understands
+ * comments, string and character literals and brace nesting, which is all the merge needs. The
+ * merge follows the steps described in
+ * {@link org.mybatis.generator.api.ShellCallback#mergeJavaFile(String, File, String[], String)}:
+ * <ol>
+ * <li>members of the existing file whose leading javadoc contains one of the tags are dropped</li>
+ * <li>all members of the new file are added, unless the existing file still holds a member with
+ * the same signature (user code wins)</li>
+ * <li>missing imports are added to the existing imports</li>
+ * <li>the type declaration is taken from the new file, keeping the existing super interfaces</li>
+ * </ol>
+ * Everything else in the existing file (file comments, type javadoc and annotations, user members
+ * and their formatting) is kept as is.
+ *
+ * <p>
+ * Parsed existing files are cached by path and content hash, so regenerating a project whose
+ * files did not change since the last run does not scan them again.
+ */
+public class JavaFileMerger {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator"); //$NON-NLS-1$
+
+    private static final int MAX_CACHED_FILES = 1024;
+
+    private static final Map<String, ParsedSource> PARSED_FILES =
+            new LinkedHashMap<String, ParsedSource>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParsedSource> eldest) {
+                    return size() > MAX_CACHED_FILES;
+                }
+            };
+
+    /**
+     * Utility class - no instances allowed
+     */
+    private JavaFileMerger() {
+        super();
+    }
+
+    public static String getMergedSource(String newFileSource, File existingFile,
+                                         String[] javadocTags, String fileEncoding)
+            throws ShellException {
+        ParsedSource existing;
+        try {
+            existing = getParsedFile(existingFile, fileEncoding);
+        } catch (IOException e) {
+            throw new ShellException(getString("Warning.29", //$NON-NLS-1$
+                    existingFile.getName()), e);
+        }
+
+        ParsedSource generated = parse(newFileSource);
+        if (existing == null || generated == null || !existing.kind.equals(generated.kind)) {
+            throw new ShellException(getString("Warning.30", //$NON-NLS-1$
+                    existingFile.getName()));
+        }
+
+        return merge(generated, existing, javadocTags);
+    }
+
+    /**
+     * Clears the cache of parsed existing files.
+     */
+    public static void reset() {
+        synchronized (PARSED_FILES) {
+            PARSED_FILES.clear();
+        }
+    }
+
+    private static ParsedSource getParsedFile(File file, String fileEncoding) throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        String key = file.getCanonicalPath();
+        String hash = sha1Hex(bytes);
+
+        synchronized (PARSED_FILES) {
+            ParsedSource cached = PARSED_FILES.get(key);
+            if (cached != null && cached.hash.equals(hash)) {
+                return cached;
+            }
+        }
+
+        Charset charset = fileEncoding == null ? Charset.defaultCharset() : Charset.forName(fileEncoding);
+        ParsedSource parsed = parse(new String(bytes, charset));
+        if (parsed != null) {
+            parsed.hash = hash;
+            synchronized (PARSED_FILES) {
+                PARSED_FILES.put(key, parsed);
+            }
+        }
+
+        return parsed;
+    }
+
+    private static String merge(ParsedSource generated, ParsedSource existing, String[] javadocTags) {
+        StringBuilder sb = new StringBuilder();
+
+        // header: the existing header plus any missing imports
+        sb.append(existing.source, 0, existing.lastImportEnd);
+        boolean firstImport = existing.imports.isEmpty();
+        for (String importLine : generated.imports) {
+            if (!existing.imports.contains(importLine)) {
+                if (firstImport && existing.lastImportEnd > 0) {
+                    // after the package statement
+                    sb.append(LINE_SEPARATOR);
+                }
+                if (sb.length() > 0) {
+                    sb.append(LINE_SEPARATOR);
+                }
+                sb.append(importLine);
+                firstImport = false;
+            }
+        }
+        if (existing.lastImportEnd == 0 && sb.length() > 0) {
+            sb.append(LINE_SEPARATOR);
+        }
+        sb.append(existing.source, existing.lastImportEnd, existing.declarationStart);
+
+        // declaration: existing javadoc and annotations, new signature
+        sb.append(existing.source, existing.declarationStart, existing.signatureStart);
+        sb.append(mergeSignature(generated, existing));
+
+        // body: the new members, then the existing user members
+        Set<String> keptSignatures = new HashSet<String>();
+        List<Member> keptMembers = new ArrayList<Member>();
+        for (Member member : existing.members) {
+            if (!member.hasTag(javadocTags)) {
+                keptMembers.add(member);
+                keptSignatures.add(member.signature);
+            }
+        }
+
+        for (Member member : generated.members) {
+            if (!keptSignatures.contains(member.signature)) {
+                sb.append(member.text);
+            }
+        }
+
+        for (Member member : keptMembers) {
+            sb.append(member.text);
+        }
+
+        sb.append(existing.source, existing.bodyTailStart, existing.source.length());
+
+        return sb.toString();
+    }
+
+    /**
+     * Takes the signature of the new type and adds the super interfaces only the existing type has.
+     */
+    private static String mergeSignature(ParsedSource generated, ParsedSource existing) {
+        List<String> newInterfaces = generated.getSuperInterfaces();
+        List<String> missing = new ArrayList<String>();
+        for (String superInterface : existing.getSuperInterfaces()) {
+            if (!newInterfaces.contains(superInterface)) {
+                missing.add(superInterface);
+            }
+        }
+
+        String signature = generated.source.substring(generated.signatureStart, generated.bodyStart);
+        if (missing.isEmpty()) {
+            return signature;
+        }
+
+        // the signature ends with the opening brace of the body
+        int brace = signature.lastIndexOf('{');
+        String head = signature.substring(0, brace);
+        int trimmedEnd = head.length();
+        while (trimmedEnd > 0 && Character.isWhitespace(head.charAt(trimmedEnd - 1))) {
+            trimmedEnd--;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(head, 0, trimmedEnd);
+        sb.append(newInterfaces.isEmpty() ? generated.getSuperInterfacesKeyword() : ","); //$NON-NLS-1$
+        for (int i = 0; i < missing.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(' ');
+            sb.append(missing.get(i));
+        }
+        sb.append(head, trimmedEnd, head.length());
+        sb.append(signature, brace, signature.length());
+
+        return sb.toString();
+    }
+
+    /**
+     * Parses the source, or returns null if no top level type can be found.
+     */
+    static ParsedSource parse(String source) {
+        ParsedSource parsed = new ParsedSource(source);
+        Scanner scanner = new Scanner(source);
+
+        // header: package and imports end with ';' at the top level
+        int statementStart = 0;
+        int declarationStart = -1;
+        while (scanner.hasNext()) {
+            int start = scanner.skipWhiteSpaceAndComments();
+            if (!scanner.hasNext()) {
+                break;
+            }
+
+            if (source.startsWith("import", start) //$NON-NLS-1$
+                    || source.startsWith("package", start)) { //$NON-NLS-1$
+                int end = scanner.skipTo(';');
+                if (source.startsWith("import", start)) { //$NON-NLS-1$
+                    parsed.imports.add(normalize(source.substring(start, end)));
+                }
+                parsed.lastImportEnd = end;
+                statementStart = end;
+            } else if (source.charAt(start) == ';') {
+                scanner.next();
+                statementStart = scanner.position();
+            } else {
+                declarationStart = statementStart;
+                break;
+            }
+        }
+
+        if (declarationStart < 0) {
+            return null;
+        }
+
+        parsed.declarationStart = declarationStart;
+        parsed.signatureStart = findCodeStart(source, declarationStart, source.length(), true);
+
+        // the type keyword and the opening brace of the body
+        scanner.reset(parsed.signatureStart);
+        while (scanner.hasNext() && source.charAt(scanner.position()) != '{') {
+            int start = scanner.skipWhiteSpaceAndComments();
+            if (!scanner.hasNext()) {
+                break;
+            }
+            if (source.charAt(start) == '{') {
+                break;
+            }
+            String word = scanner.nextWord();
+            if (parsed.kind == null && ("class".equals(word) || "interface".equals(word) //$NON-NLS-1$ //$NON-NLS-2$
+                    || "enum".equals(word))) { //$NON-NLS-1$
+                parsed.kind = word;
+            }
+        }
+
+        if (parsed.kind == null || !scanner.hasNext()) {
+            return null;
+        }
+
+        scanner.next();
+        parsed.bodyStart = scanner.position();
+
+        // members of the body
+        int memberStart = parsed.bodyStart;
+        while (scanner.hasNext()) {
+            int start = scanner.skipWhiteSpaceAndComments();
+            if (!scanner.hasNext()) {
+                return null;
+            }
+
+            if (source.charAt(start) == '}') {
+                parsed.bodyTailStart = memberStart;
+                return parsed;
+            }
+
+            int end = skipTrailingComment(source, scanner.skipMember());
+            scanner.reset(end);
+            parsed.members.add(new Member(source.substring(memberStart, end),
+                    memberStart, start, end));
+            memberStart = end;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the end of the line if only white space and comments follow the position on that
+     * line, so a trailing comment stays with the member before it. Otherwise returns the position.
+     */
+    private static int skipTrailingComment(String source, int position) {
+        int i = position;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return i;
+            } else if (c == ' ' || c == '\t') {
+                i++;
+            } else if (source.startsWith("//", i)) { //$NON-NLS-1$
+                while (i < source.length() && source.charAt(i) != '\n' && source.charAt(i) != '\r') {
+                    i++;
+                }
+                return i;
+            } else if (source.startsWith("/*", i)) { //$NON-NLS-1$
+                int close = source.indexOf("*/", i + 2); //$NON-NLS-1$
+                // a comment running over the line belongs to the next member
+                if (close < 0 || source.substring(i, close).indexOf('\n') >= 0) {
+                    return position;
+                }
+                i = close + 2;
+            } else {
+                return position;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Returns the position of the first code after the leading comments and, if requested, the
+     * leading annotations.
+     */
+    private static int findCodeStart(String source, int start, int end, boolean skipAnnotations) {
+        Scanner scanner = new Scanner(source);
+        scanner.reset(start);
+        while (scanner.position() < end) {
+            int position = scanner.skipWhiteSpaceAndComments();
+            if (position >= end || !skipAnnotations || source.charAt(position) != '@'
+                    || source.startsWith("@interface", position)) { //$NON-NLS-1$
+                return position;
+            }
+
+            // an annotation, with optional arguments
+            scanner.next();
+            scanner.nextWord();
+            while (scanner.hasNext() && source.charAt(scanner.position()) == '.') {
+                scanner.next();
+                scanner.nextWord();
+            }
+            int afterName = scanner.position();
+            if (scanner.skipWhiteSpaceAndComments() < end
+                    && scanner.hasNext() && source.charAt(scanner.position()) == '(') {
+                scanner.skipBalanced();
+            } else {
+                scanner.reset(afterName);
+            }
+        }
+
+        return end;
+    }
+
+    private static String normalize(String code) {
+        StringBuilder sb = new StringBuilder();
+        boolean space = false;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static class ParsedSource {
+        final String source;
+        final Set<String> imports = new LinkedHashSet<String>();
+        final List<Member> members = new ArrayList<Member>();
+        String hash;
+        String kind;
+        int lastImportEnd;
+        int declarationStart;
+        int signatureStart;
+        int bodyStart;
+        int bodyTailStart;
+
+        ParsedSource(String source) {
+            this.source = source;
+        }
+
+        String getSuperInterfacesKeyword() {
+            return "interface".equals(kind) ? " extends" : " implements"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        /**
+         * Returns the normalized super interfaces (the extends list for interfaces).
+         */
+        List<String> getSuperInterfaces() {
+            List<String> answer = new ArrayList<String>();
+            String signature = source.substring(signatureStart, bodyStart - 1);
+            String keyword = getSuperInterfacesKeyword().trim();
+            Scanner scanner = new Scanner(signature);
+            int listStart = -1;
+            while (scanner.hasNext() && listStart < 0) {
+                int start = scanner.skipWhiteSpaceAndComments();
+                if (!scanner.hasNext()) {
+                    break;
+                }
+                char c = signature.charAt(start);
+                if (c == '<') {
+                    // type parameters may contain the keyword as a bound
+                    scanner.skipBalanced();
+                } else if (Character.isJavaIdentifierStart(c)) {
+                    if (keyword.equals(scanner.nextWord())) {
+                        listStart = scanner.position();
+                    }
+                } else {
+                    scanner.next();
+                }
+            }
+
+            if (listStart >= 0) {
+                for (String type : splitTopLevel(signature.substring(listStart), ',')) {
+                    String normalized = normalize(type);
+                    if (normalized.length() > 0) {
+                        answer.add(normalized);
+                    }
+                }
+            }
+
+            return answer;
+        }
+    }
+
+    static class Member {
+        final String text;
+        final String signature;
+        private final String leadingComments;
+
+        Member(String text, int textStart, int codeStart, int end) {
+            this.text = text;
+            this.leadingComments = text.substring(0, codeStart - textStart);
+            this.signature = calculateSignature(text, codeStart - textStart);
+        }
+
+        boolean hasTag(String[] javadocTags) {
+            for (String tag : javadocTags) {
+                if (leadingComments.contains(tag)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Calculates a key for the member: the name and parameter types for methods, the name for
+         * fields and types. Annotations, modifiers, parameter names and package qualifiers are
+         * ignored.
+         */
+        private static String calculateSignature(String text, int codeStart) {
+            int start = findCodeStart(text, codeStart, text.length(), true);
+            Scanner scanner = new Scanner(text);
+            scanner.reset(start);
+
+            String lastWord = null;
+            String typeKeyword = null;
+            while (scanner.hasNext()) {
+                int position = scanner.skipWhiteSpaceAndComments();
+                if (!scanner.hasNext()) {
+                    break;
+                }
+                char c = text.charAt(position);
+                if (Character.isJavaIdentifierStart(c)) {
+                    String word = scanner.nextWord();
+                    if (typeKeyword != null) {
+                        return typeKeyword + ' ' + word;
+                    }
+                    if ("class".equals(word) || "interface".equals(word) //$NON-NLS-1$ //$NON-NLS-2$
+                            || "enum".equals(word)) { //$NON-NLS-1$
+                        typeKeyword = word;
+                    }
+                    lastWord = word;
+                } else if (c == '(') {
+                    int parametersStart = scanner.position() + 1;
+                    int parametersEnd = scanner.skipBalanced() - 1;
+                    StringBuilder sb = new StringBuilder();
+                    sb.append(lastWord);
+                    sb.append('(');
+                    boolean comma = false;
+                    for (String parameter : splitTopLevel(
+                            text.substring(parametersStart, parametersEnd), ',')) {
+                        if (comma) {
+                            sb.append(',');
+                        }
+                        sb.append(getParameterType(parameter));
+                        comma = true;
+                    }
+                    sb.append(')');
+                    return sb.toString();
+                } else if (c == '{' && (lastWord == null || "static".equals(lastWord))) { //$NON-NLS-1$
+                    // initializer blocks have no name, so the whole block is the key
+                    return normalize(text.substring(start));
+                } else if (c == '=' || c == ';' || c == '{' || c == ',') {
+                    break;
+                } else if (c == '<') {
+                    scanner.skipBalanced();
+                } else {
+                    scanner.next();
+                }
+            }
+
+            return lastWord == null ? normalize(text.substring(start)) : lastWord;
+        }
+
+        private static String getParameterType(String parameter) {
+            String declaration = parameter.substring(findCodeStart(parameter, 0, parameter.length(), true));
+            declaration = normalize(declaration).replace("...", "[]"); //$NON-NLS-1$ //$NON-NLS-2$
+            if (declaration.startsWith("final ")) { //$NON-NLS-1$
+                declaration = declaration.substring("final ".length()); //$NON-NLS-1$
+            }
+
+            // drop the parameter name
+            int lastSpace = declaration.lastIndexOf(' ');
+            if (lastSpace > 0) {
+                declaration = declaration.substring(0, lastSpace);
+            }
+
+            // drop package qualifiers and white space
+            StringBuilder sb = new StringBuilder();
+            int segmentStart = 0;
+            for (int i = 0; i < declaration.length(); i++) {
+                char c = declaration.charAt(i);
+                if (c == '.') {
+                    sb.setLength(segmentStart);
+                } else if (!Character.isJavaIdentifierPart(c)) {
+                    if (c != ' ') {
+                        sb.append(c);
+                    }
+                    segmentStart = sb.length();
+                } else {
+                    sb.append(c);
+                }
+            }
+
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Splits on the separator where it is not nested in brackets.
+     */
+    private static List<String> splitTopLevel(String s, char separator) {
+        List<String> answer = new ArrayList<String>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '<' || c == '(' || c == '[' || c == '{') {
+                depth++;
+            } else if (c == '>' || c == ')' || c == ']' || c == '}') {
+                depth--;
+            } else if (c == separator && depth == 0) {
+                answer.add(s.substring(start, i));
+                start = i + 1;
+            }
+        }
+
+        if (s.substring(start).trim().length() > 0) {
+            answer.add(s.substring(start));
+        }
+
+        return answer;
+    }
+
+    /**
+     * A minimal scanner over Java source that skips comments and literals.
+     */
+    private static class Scanner {
+        private final String source;
+        private int position;
+
+        Scanner(String source) {
+            this.source = source;
+        }
+
+        void reset(int position) {
+            this.position = position;
+        }
+
+        int position() {
+            return position;
+        }
+
+        boolean hasNext() {
+            return position < source.length();
+        }
+
+        void next() {
+            position++;
+        }
+
+        /**
+         * Skips white space and comments and returns the new position.
+         */
+        int skipWhiteSpaceAndComments() {
+            while (hasNext()) {
+                char c = source.charAt(position);
+                if (Character.isWhitespace(c)) {
+                    position++;
+                } else if (source.startsWith("//", position)) { //$NON-NLS-1$
+                    int end = source.indexOf('\n', position);
+                    position = end < 0 ? source.length() : end + 1;
+                } else if (source.startsWith("/*", position)) { //$NON-NLS-1$
+                    int end = source.indexOf("*/", position + 2); //$NON-NLS-1$
+                    position = end < 0 ? source.length() : end + 2;
+                } else {
+                    break;
+                }
+            }
+
+            return position;
+        }
+
+        String nextWord() {
+            int start = position;
+            while (hasNext() && Character.isJavaIdentifierPart(source.charAt(position))) {
+                position++;
+            }
+            if (position == start) {
+                position++;
+            }
+            return source.substring(start, position);
+        }
+
+        /**
+         * Skips a single token: a comment, a literal or one character.
+         */
+        void skipToken() {
+            char c = source.charAt(position);
+            if (c == '"' || c == '\'') {
+                position++;
+                while (hasNext() && source.charAt(position) != c) {
+                    if (source.charAt(position) == '\\') {
+                        position++;
+                    }
+                    position++;
+                }
+                position++;
+            } else if (source.startsWith("//", position) || source.startsWith("/*", position)) { //$NON-NLS-1$ //$NON-NLS-2$
+                skipWhiteSpaceAndComments();
+            } else {
+                position++;
+            }
+        }
+
+        /**
+         * Skips to just after the next top level occurrence of the character and returns the new
+         * position.
+         */
+        int skipTo(char target) {
+            while (hasNext()) {
+                char c = source.charAt(position);
+                if (c == target) {
+                    position++;
+                    break;
+                } else if (c == '(' || c == '{' || c == '[') {
+                    skipBalanced();
+                } else {
+                    skipToken();
+                }
+            }
+
+            return position;
+        }
+
+        /**
+         * Skips from an opening bracket to just after the matching closing bracket and returns the new
+         * position. Only brackets of the same kind are counted, so a comparison inside parentheses
+         * does not end them early.
+         */
+        int skipBalanced() {
+            char open = source.charAt(position);
+            char close = open == '(' ? ')' : open == '[' ? ']' : open == '{' ? '}' : '>';
+            int depth = 0;
+            while (hasNext()) {
+                char c = source.charAt(position);
+                if (c == open) {
+                    depth++;
+                    position++;
+                } else if (c == close) {
+                    depth--;
+                    position++;
+                    if (depth == 0) {
+                        break;
+                    }
+                } else if (open == '<' && c == '-' && source.startsWith("->", position)) { //$NON-NLS-1$
+                    position += 2;
+                } else {
+                    skipToken();
+                }
+            }
+
+            return position;
+        }
+
+        /**
+         * Skips one member of a type body: a field, a method, an initializer or a nested type. A
+         * member ends with a top level ';', or with a top level block that is not followed by more
+         * of the same declaration (as in a field initialized with an anonymous class).
+         */
+        int skipMember() {
+            while (hasNext()) {
+                char c = source.charAt(position);
+                if (c == ';') {
+                    position++;
+                    return position;
+                } else if (c == '}') {
+                    // the end of the type body without a terminator (enum constants)
+                    return position;
+                } else if (c == '{') {
+                    skipBalanced();
+                    int afterBlock = position;
+                    int next = skipWhiteSpaceAndComments();
+                    if (next < source.length()) {
+                        char following = source.charAt(next);
+                        if (following == ';' || following == ',' || following == '.'
+                                || following == ')') {
+                            continue;
+                        }
+                    }
+                    position = afterBlock;
+                    return position;
+                } else if (c == '(' || c == '[') {
+                    skipBalanced();
+                } else {
+                    skipToken();
+                }
+            }
+
+            return position;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.PluginAdapter;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.Interface;
 import org.mybatis.generator.api.dom.java.Method;
@@ -42,14 +43,308 @@ import org.mybatis.generator.config.Context;
  *
  */
 public final class PluginAggregator implements Plugin {
+
+    /** The hook methods of the Plugin interface, indexed by the hook constants below. */
+    private static final List<java.lang.reflect.Method> HOOKS = new ArrayList<java.lang.reflect.Method>();
+
+    private static final int MODEL_BASE_RECORD_CLASS_GENERATED =
+            hook("modelBaseRecordClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED =
+            hook("modelRecordWithBLOBsClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED =
+            hook("sqlMapCountByExampleElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED =
+            hook("sqlMapDeleteByExampleElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED =
+            hook("sqlMapDeleteByPrimaryKeyElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int MODEL_EXAMPLE_CLASS_GENERATED =
+            hook("modelExampleClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_TABLE =
+            hook("contextGenerateAdditionalJavaFiles", IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES =
+            hook("contextGenerateAdditionalJavaFiles"); //$NON-NLS-1$
+
+    private static final int CONTEXT_GENERATE_ADDITIONAL_XML_FILES_TABLE =
+            hook("contextGenerateAdditionalXmlFiles", IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CONTEXT_GENERATE_ADDITIONAL_XML_FILES =
+            hook("contextGenerateAdditionalXmlFiles"); //$NON-NLS-1$
+
+    private static final int MODEL_PRIMARY_KEY_CLASS_GENERATED =
+            hook("modelPrimaryKeyClassGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapResultMapWithoutBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED =
+            hook("sqlMapExampleWhereClauseElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_INSERT_ELEMENT_GENERATED =
+            hook("sqlMapInsertElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapResultMapWithBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapSelectByExampleWithoutBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapSelectByExampleWithBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED =
+            hook("sqlMapSelectByPrimaryKeyElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_GENERATED =
+            hook("sqlMapGenerated", GeneratedXmlFile.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED =
+            hook("sqlMapUpdateByExampleSelectiveElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapUpdateByExampleWithBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapUpdateByExampleWithoutBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED =
+            hook("sqlMapUpdateByPrimaryKeySelectiveElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED =
+            hook("sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED_INTERFACE =
+            hook("clientCountByExampleMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED_CLASS =
+            hook("clientCountByExampleMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED_INTERFACE =
+            hook("clientDeleteByExampleMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED_CLASS =
+            hook("clientDeleteByExampleMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_INTERFACE =
+            hook("clientDeleteByPrimaryKeyMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_CLASS =
+            hook("clientDeleteByPrimaryKeyMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_INSERT_METHOD_GENERATED_INTERFACE =
+            hook("clientInsertMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_INSERT_METHOD_GENERATED_CLASS =
+            hook("clientInsertMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_GENERATED =
+            hook("clientGenerated", Interface.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_ALL_METHOD_GENERATED_CLASS =
+            hook("clientSelectAllMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_ALL_METHOD_GENERATED_INTERFACE =
+            hook("clientSelectAllMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_INTERFACE =
+            hook("clientSelectByExampleWithBLOBsMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_CLASS =
+            hook("clientSelectByExampleWithBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_INTERFACE =
+            hook("clientSelectByExampleWithoutBLOBsMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_CLASS =
+            hook("clientSelectByExampleWithoutBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_INTERFACE =
+            hook("clientSelectByPrimaryKeyMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_CLASS =
+            hook("clientSelectByPrimaryKeyMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED_INTERFACE =
+            hook("clientUpdateByExampleSelectiveMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED_CLASS =
+            hook("clientUpdateByExampleSelectiveMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_INTERFACE =
+            hook("clientUpdateByExampleWithBLOBsMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_CLASS =
+            hook("clientUpdateByExampleWithBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_INTERFACE =
+            hook("clientUpdateByExampleWithoutBLOBsMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_CLASS =
+            hook("clientUpdateByExampleWithoutBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_INTERFACE =
+            hook("clientUpdateByPrimaryKeySelectiveMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_CLASS =
+            hook("clientUpdateByPrimaryKeySelectiveMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED_INTERFACE =
+            hook("clientUpdateByPrimaryKeyWithBLOBsMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED_CLASS =
+            hook("clientUpdateByPrimaryKeyWithBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED_INTERFACE =
+            hook("clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED_CLASS =
+            hook("clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_DOCUMENT_GENERATED =
+            hook("sqlMapDocumentGenerated", Document.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int MODEL_FIELD_GENERATED =
+            hook("modelFieldGenerated", Field.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class, Plugin.ModelClassType.class); //$NON-NLS-1$
+
+    private static final int MODEL_GETTER_METHOD_GENERATED =
+            hook("modelGetterMethodGenerated", Method.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class, Plugin.ModelClassType.class); //$NON-NLS-1$
+
+    private static final int MODEL_SETTER_METHOD_GENERATED =
+            hook("modelSetterMethodGenerated", Method.class, TopLevelClass.class, IntrospectedColumn.class, IntrospectedTable.class, Plugin.ModelClassType.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED =
+            hook("sqlMapInsertSelectiveElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_INTERFACE =
+            hook("clientInsertSelectiveMethodGenerated", Method.class, Interface.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_CLASS =
+            hook("clientInsertSelectiveMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int INITIALIZED = hook("initialized", IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED =
+            hook("sqlMapBaseColumnListElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED =
+            hook("sqlMapBlobColumnListElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_GENERATED =
+            hook("providerGenerated", TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_APPLY_WHERE_METHOD_GENERATED =
+            hook("providerApplyWhereMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED =
+            hook("providerCountByExampleMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED =
+            hook("providerDeleteByExampleMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED =
+            hook("providerInsertSelectiveMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED =
+            hook("providerSelectByExampleWithBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED =
+            hook("providerSelectByExampleWithoutBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED =
+            hook("providerUpdateByExampleSelectiveMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED =
+            hook("providerUpdateByExampleWithBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED =
+            hook("providerUpdateByExampleWithoutBLOBsMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED =
+            hook("providerUpdateByPrimaryKeySelectiveMethodGenerated", Method.class, TopLevelClass.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final int SQL_MAP_SELECT_ALL_ELEMENT_GENERATED =
+            hook("sqlMapSelectAllElementGenerated", XmlElement.class, IntrospectedTable.class); //$NON-NLS-1$
+
+    private static final Plugin[] NO_PLUGINS = new Plugin[0];
+
     private List<Plugin> plugins;
 
+    /**
+     * The plugins to call for each hook, indexed by the hook constants. Plugins that inherit a hook
+     * from PluginAdapter are left out, so hooks that no plugin implements cost nothing.
+     */
+    private Plugin[][] dispatch;
+
     public PluginAggregator() {
         plugins = new ArrayList<Plugin>();
     }
 
     public void addPlugin(Plugin plugin) {
         plugins.add(plugin);
+        dispatch = null;
+    }
+
+    /**
+     * Builds the per hook dispatch lists. This is done when the first hook is called after a plugin
+     * was added, but should be called once all plugins are added so that the reflection is not part
+     * of the first table's generation.
+     */
+    public void compileHooks() {
+        Plugin[][] newDispatch = new Plugin[HOOKS.size()][];
+        for (int i = 0; i < newDispatch.length; i++) {
+            List<Plugin> hookPlugins = new ArrayList<Plugin>();
+            for (Plugin plugin : plugins) {
+                if (implementsHook(plugin, HOOKS.get(i))) {
+                    hookPlugins.add(plugin);
+                }
+            }
+            newDispatch[i] = hookPlugins.isEmpty() ? NO_PLUGINS
+                    : hookPlugins.toArray(new Plugin[hookPlugins.size()]);
+        }
+        dispatch = newDispatch;
+    }
+
+    private Plugin[] getPlugins(int hook) {
+        if (dispatch == null) {
+            compileHooks();
+        }
+        return dispatch[hook];
+    }
+
+    /**
+     * Returns false if the plugin inherits the hook from PluginAdapter, whose hooks do nothing and
+     * return true or null.
+     */
+    private static boolean implementsHook(Plugin plugin, java.lang.reflect.Method hook) {
+        if (!(plugin instanceof PluginAdapter)) {
+            return true;
+        }
+
+        try {
+            java.lang.reflect.Method implementation =
+                    plugin.getClass().getMethod(hook.getName(), hook.getParameterTypes());
+            return implementation.getDeclaringClass() != PluginAdapter.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static int hook(String name, Class<?>... parameterTypes) {
+        try {
+            HOOKS.add(Plugin.class.getMethod(name, parameterTypes));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        return HOOKS.size() - 1;
     }
 
     @Override
@@ -72,7 +367,7 @@ public final class PluginAggregator implements Plugin {
                                                  IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(MODEL_BASE_RECORD_CLASS_GENERATED)) {
             if (!plugin.modelBaseRecordClassGenerated(tlc, introspectedTable)) {
                 rc = false;
                 break;
@@ -87,7 +382,7 @@ public final class PluginAggregator implements Plugin {
                                                       IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED)) {
             if (!plugin.modelRecordWithBLOBsClassGenerated(tlc, introspectedTable)) {
                 rc = false;
                 break;
@@ -101,7 +396,7 @@ public final class PluginAggregator implements Plugin {
     public boolean sqlMapCountByExampleElementGenerated(XmlElement element, IntrospectedTable table) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapCountByExampleElementGenerated(element, table)) {
                 rc = false;
                 break;
@@ -116,7 +411,7 @@ public final class PluginAggregator implements Plugin {
                                                          IntrospectedTable table) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapDeleteByExampleElementGenerated(element, table)) {
                 rc = false;
                 break;
@@ -131,7 +426,7 @@ public final class PluginAggregator implements Plugin {
                                                             IntrospectedTable table) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapDeleteByPrimaryKeyElementGenerated(element, table)) {
                 rc = false;
                 break;
@@ -146,7 +441,7 @@ public final class PluginAggregator implements Plugin {
                                               IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(MODEL_EXAMPLE_CLASS_GENERATED)) {
             if (!plugin.modelExampleClassGenerated(tlc, introspectedTable)) {
                 rc = false;
                 break;
@@ -160,7 +455,7 @@ public final class PluginAggregator implements Plugin {
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles(
             IntrospectedTable introspectedTable) {
         List<GeneratedJavaFile> answer = new ArrayList<GeneratedJavaFile>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_TABLE)) {
             List<GeneratedJavaFile> temp = plugin.contextGenerateAdditionalJavaFiles(introspectedTable);
             if (temp != null) {
                 answer.addAll(temp);
@@ -172,7 +467,7 @@ public final class PluginAggregator implements Plugin {
     @Override
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles() {
         List<GeneratedJavaFile> answer = new ArrayList<GeneratedJavaFile>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES)) {
             List<GeneratedJavaFile> temp = plugin.contextGenerateAdditionalJavaFiles();
             if (temp != null) {
                 answer.addAll(temp);
@@ -185,7 +480,7 @@ public final class PluginAggregator implements Plugin {
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles(
             IntrospectedTable introspectedTable) {
         List<GeneratedXmlFile> answer = new ArrayList<GeneratedXmlFile>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CONTEXT_GENERATE_ADDITIONAL_XML_FILES_TABLE)) {
             List<GeneratedXmlFile> temp = plugin.contextGenerateAdditionalXmlFiles(introspectedTable);
             if (temp != null) {
                 answer.addAll(temp);
@@ -197,7 +492,7 @@ public final class PluginAggregator implements Plugin {
     @Override
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles() {
         List<GeneratedXmlFile> answer = new ArrayList<GeneratedXmlFile>();
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CONTEXT_GENERATE_ADDITIONAL_XML_FILES)) {
             List<GeneratedXmlFile> temp = plugin.contextGenerateAdditionalXmlFiles();
             if (temp != null) {
                 answer.addAll(temp);
@@ -211,7 +506,7 @@ public final class PluginAggregator implements Plugin {
                                                  IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(MODEL_PRIMARY_KEY_CLASS_GENERATED)) {
             if (!plugin.modelPrimaryKeyClassGenerated(tlc, introspectedTable)) {
                 rc = false;
                 break;
@@ -226,7 +521,7 @@ public final class PluginAggregator implements Plugin {
                                                                IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -241,7 +536,7 @@ public final class PluginAggregator implements Plugin {
                                                             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapExampleWhereClauseElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -256,7 +551,7 @@ public final class PluginAggregator implements Plugin {
                                                 IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_INSERT_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapInsertElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -271,7 +566,7 @@ public final class PluginAggregator implements Plugin {
                                                             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithBLOBsElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -286,7 +581,7 @@ public final class PluginAggregator implements Plugin {
                                                                      IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -301,7 +596,7 @@ public final class PluginAggregator implements Plugin {
                                                                   IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithBLOBsElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -316,7 +611,7 @@ public final class PluginAggregator implements Plugin {
                                                             IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByPrimaryKeyElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -330,7 +625,7 @@ public final class PluginAggregator implements Plugin {
     public boolean sqlMapGenerated(GeneratedXmlFile sqlMap, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_GENERATED)) {
             if (!plugin.sqlMapGenerated(sqlMap, introspectedTable)) {
                 rc = false;
                 break;
@@ -345,7 +640,7 @@ public final class PluginAggregator implements Plugin {
                                                                   IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleSelectiveElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -360,7 +655,7 @@ public final class PluginAggregator implements Plugin {
                                                                   IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithBLOBsElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -375,7 +670,7 @@ public final class PluginAggregator implements Plugin {
                                                                      IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -390,7 +685,7 @@ public final class PluginAggregator implements Plugin {
                                                                      IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeySelectiveElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -405,7 +700,7 @@ public final class PluginAggregator implements Plugin {
                                                                      IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -420,7 +715,7 @@ public final class PluginAggregator implements Plugin {
                                                                         IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(element,
                     introspectedTable)) {
                 rc = false;
@@ -436,7 +731,7 @@ public final class PluginAggregator implements Plugin {
                                                        IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientCountByExampleMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -451,7 +746,7 @@ public final class PluginAggregator implements Plugin {
                                                        IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientCountByExampleMethodGenerated(method, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -466,7 +761,7 @@ public final class PluginAggregator implements Plugin {
                                                         IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientDeleteByExampleMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -481,7 +776,7 @@ public final class PluginAggregator implements Plugin {
                                                         IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientDeleteByExampleMethodGenerated(method, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -496,7 +791,7 @@ public final class PluginAggregator implements Plugin {
                                                            IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -511,7 +806,7 @@ public final class PluginAggregator implements Plugin {
                                                            IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -527,7 +822,7 @@ public final class PluginAggregator implements Plugin {
                                                IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_INSERT_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientInsertMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -542,7 +837,7 @@ public final class PluginAggregator implements Plugin {
                                                IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_INSERT_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientInsertMethodGenerated(method, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -557,7 +852,7 @@ public final class PluginAggregator implements Plugin {
                                    IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_GENERATED)) {
             if (!plugin.clientGenerated(interfaze, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -572,7 +867,7 @@ public final class PluginAggregator implements Plugin {
                                                   IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_ALL_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientSelectAllMethodGenerated(method, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -587,7 +882,7 @@ public final class PluginAggregator implements Plugin {
                                                   IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_ALL_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientSelectAllMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -602,7 +897,7 @@ public final class PluginAggregator implements Plugin {
                                                                  IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientSelectByExampleWithBLOBsMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -618,7 +913,7 @@ public final class PluginAggregator implements Plugin {
                                                                  TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientSelectByExampleWithBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -634,7 +929,7 @@ public final class PluginAggregator implements Plugin {
                                                                     Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientSelectByExampleWithoutBLOBsMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -650,7 +945,7 @@ public final class PluginAggregator implements Plugin {
                                                                     TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientSelectByExampleWithoutBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -666,7 +961,7 @@ public final class PluginAggregator implements Plugin {
                                                            IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientSelectByPrimaryKeyMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -681,7 +976,7 @@ public final class PluginAggregator implements Plugin {
                                                            IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientSelectByPrimaryKeyMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -697,7 +992,7 @@ public final class PluginAggregator implements Plugin {
                                                                  IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientUpdateByExampleSelectiveMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -713,7 +1008,7 @@ public final class PluginAggregator implements Plugin {
                                                                  TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientUpdateByExampleSelectiveMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -729,7 +1024,7 @@ public final class PluginAggregator implements Plugin {
                                                                  IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientUpdateByExampleWithBLOBsMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -745,7 +1040,7 @@ public final class PluginAggregator implements Plugin {
                                                                  TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientUpdateByExampleWithBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -761,7 +1056,7 @@ public final class PluginAggregator implements Plugin {
                                                                     Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientUpdateByExampleWithoutBLOBsMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -777,7 +1072,7 @@ public final class PluginAggregator implements Plugin {
                                                                     TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientUpdateByExampleWithoutBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -793,7 +1088,7 @@ public final class PluginAggregator implements Plugin {
                                                                     Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -809,7 +1104,7 @@ public final class PluginAggregator implements Plugin {
                                                                     TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -825,7 +1120,7 @@ public final class PluginAggregator implements Plugin {
                                                                     Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -841,7 +1136,7 @@ public final class PluginAggregator implements Plugin {
                                                                     TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -857,7 +1152,7 @@ public final class PluginAggregator implements Plugin {
                                                                        Interface interfaze, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(method, interfaze,
                     introspectedTable)) {
                 rc = false;
@@ -873,7 +1168,7 @@ public final class PluginAggregator implements Plugin {
                                                                        TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -888,7 +1183,7 @@ public final class PluginAggregator implements Plugin {
     public boolean sqlMapDocumentGenerated(Document document, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_DOCUMENT_GENERATED)) {
             if (!plugin.sqlMapDocumentGenerated(document, introspectedTable)) {
                 rc = false;
                 break;
@@ -904,7 +1199,7 @@ public final class PluginAggregator implements Plugin {
                                        Plugin.ModelClassType modelClassType) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(MODEL_FIELD_GENERATED)) {
             if (!plugin.modelFieldGenerated(field, topLevelClass, introspectedColumn, introspectedTable,
                     modelClassType)) {
                 rc = false;
@@ -921,7 +1216,7 @@ public final class PluginAggregator implements Plugin {
                                               Plugin.ModelClassType modelClassType) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(MODEL_GETTER_METHOD_GENERATED)) {
             if (!plugin.modelGetterMethodGenerated(method, topLevelClass, introspectedColumn,
                     introspectedTable, modelClassType)) {
                 rc = false;
@@ -938,7 +1233,7 @@ public final class PluginAggregator implements Plugin {
                                               Plugin.ModelClassType modelClassType) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(MODEL_SETTER_METHOD_GENERATED)) {
             if (!plugin.modelSetterMethodGenerated(method, topLevelClass, introspectedColumn,
                     introspectedTable, modelClassType)) {
                 rc = false;
@@ -954,7 +1249,7 @@ public final class PluginAggregator implements Plugin {
                                                          IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapInsertSelectiveElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -969,7 +1264,7 @@ public final class PluginAggregator implements Plugin {
                                                         IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_INTERFACE)) {
             if (!plugin.clientInsertSelectiveMethodGenerated(method, interfaze, introspectedTable)) {
                 rc = false;
                 break;
@@ -984,7 +1279,7 @@ public final class PluginAggregator implements Plugin {
                                                         IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_CLASS)) {
             if (!plugin.clientInsertSelectiveMethodGenerated(method, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -996,7 +1291,7 @@ public final class PluginAggregator implements Plugin {
 
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(INITIALIZED)) {
             plugin.initialized(introspectedTable);
         }
     }
@@ -1006,7 +1301,7 @@ public final class PluginAggregator implements Plugin {
                                                         IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBaseColumnListElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -1021,7 +1316,7 @@ public final class PluginAggregator implements Plugin {
                                                         IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBlobColumnListElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -1036,7 +1331,7 @@ public final class PluginAggregator implements Plugin {
                                      IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_GENERATED)) {
             if (!plugin.providerGenerated(topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -1051,7 +1346,7 @@ public final class PluginAggregator implements Plugin {
                                                      IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_APPLY_WHERE_METHOD_GENERATED)) {
             if (!plugin.providerApplyWhereMethodGenerated(method, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -1066,7 +1361,7 @@ public final class PluginAggregator implements Plugin {
                                                          IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerCountByExampleMethodGenerated(method, topLevelClass, introspectedTable)) {
                 rc = false;
                 break;
@@ -1081,7 +1376,7 @@ public final class PluginAggregator implements Plugin {
                                                           IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerDeleteByExampleMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1097,7 +1392,7 @@ public final class PluginAggregator implements Plugin {
                                                           IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerInsertSelectiveMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1113,7 +1408,7 @@ public final class PluginAggregator implements Plugin {
                                                                    TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1129,7 +1424,7 @@ public final class PluginAggregator implements Plugin {
                                                                       TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithoutBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1145,7 +1440,7 @@ public final class PluginAggregator implements Plugin {
                                                                    TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleSelectiveMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1161,7 +1456,7 @@ public final class PluginAggregator implements Plugin {
                                                                    TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1177,7 +1472,7 @@ public final class PluginAggregator implements Plugin {
                                                                       TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithoutBLOBsMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1193,7 +1488,7 @@ public final class PluginAggregator implements Plugin {
                                                                       TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByPrimaryKeySelectiveMethodGenerated(method, topLevelClass,
                     introspectedTable)) {
                 rc = false;
@@ -1209,7 +1504,7 @@ public final class PluginAggregator implements Plugin {
                                                    IntrospectedTable introspectedTable) {
         boolean rc = true;
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : getPlugins(SQL_MAP_SELECT_ALL_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectAllElementGenerated(element, introspectedTable)) {
                 rc = false;
                 break;
@@ -0,0 +1,470 @@
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.api.dom.OutputUtilities;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.Element;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.exception.ShellException;
+
+/**
+ * This class handles the task of merging changes into an existing XML file without building a DOM.
+ *
+ * <p>
+ * The generated elements are written straight from the in-memory
+ * {@link org.mybatis.generator.api.dom.xml.Document}. The existing file is scanned once with a
+ * StAX reader, and only the children of the root element that were not generated (see
+ * {@link MergeConstants}) are copied after them. The rules for recognizing generated elements and
+ * the whitespace around them are the same as in {@link XmlFileMergerJaxp}.
+ *
+ * <p>
+ * Files rendered by a custom {@link org.mybatis.generator.api.XmlFormatter} are handed to
+ * {@link XmlFileMergerJaxp}, because their content may differ from the in-memory document.
+ */
+public class XmlFileMergerStax {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator"); //$NON-NLS-1$
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private static class NullXmlResolver implements XMLResolver {
+        /**
+         * returns an empty stream. This is done so that the parser doesn't attempt to read a DTD. We
+         * don't need that support for the merge and it can cause problems on systems that aren't
+         * Internet connected.
+         */
+        @Override
+        public Object resolveEntity(String publicId, String systemId, String baseUri,
+                                    String namespace) throws XMLStreamException {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+    }
+
+    /**
+     * Utility class - no instances allowed
+     */
+    private XmlFileMergerStax() {
+        super();
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+        factory.setXMLResolver(new NullXmlResolver());
+        // the JDK parser reports CDATA sections as plain characters unless asked otherwise
+        String reportCdata = "http://java.sun.com/xml/stream/properties/report-cdata-event"; //$NON-NLS-1$
+        if (factory.isPropertySupported(reportCdata)) {
+            factory.setProperty(reportCdata, Boolean.TRUE);
+        }
+        return factory;
+    }
+
+    public static String getMergedSource(GeneratedXmlFile generatedXmlFile, File existingFile)
+            throws ShellException {
+        if (generatedXmlFile.getXmlFormatter() == null
+                || generatedXmlFile.getXmlFormatter().getClass() != DefaultXmlFormatter.class) {
+            return XmlFileMergerJaxp.getMergedSource(generatedXmlFile, existingFile);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        Reader reader = null;
+        XMLStreamReader xmlReader = null;
+        try {
+            reader = new InputStreamReader(new FileInputStream(existingFile), "UTF-8"); //$NON-NLS-1$
+            xmlReader = INPUT_FACTORY.createXMLStreamReader(reader);
+            merge(generatedXmlFile.getDocument(), xmlReader, sb, existingFile.getName());
+        } catch (IOException e) {
+            throw new ShellException(getString("Warning.13", //$NON-NLS-1$
+                    existingFile.getName()), e);
+        } catch (XMLStreamException e) {
+            throw new ShellException(getString("Warning.13", //$NON-NLS-1$
+                    existingFile.getName()), e);
+        } finally {
+            close(xmlReader, reader);
+        }
+
+        return sb.toString();
+    }
+
+    private static void merge(Document newDocument, XMLStreamReader existing, StringBuilder sb,
+                              String existingFileName)
+            throws XMLStreamException, IOException, ShellException {
+        XmlElement newRootElement = newDocument.getRootElement();
+
+        // skip the prolog of the existing file, remembering its document type
+        String existingDocTypeName = null;
+        while (existing.hasNext()) {
+            int event = existing.next();
+            if (event == XMLStreamConstants.DTD) {
+                existingDocTypeName = getDocTypeName(existing.getText());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                break;
+            }
+        }
+
+        if (existing.getEventType() != XMLStreamConstants.START_ELEMENT
+                || !newRootElement.getName().equals(existingDocTypeName)) {
+            throw new ShellException(getString("Warning.12", //$NON-NLS-1$
+                    existingFileName));
+        }
+
+        // the root element attributes are always taken from the new document
+        newDocument.writeFormattedHeader(sb);
+        OutputUtilities.newLine(sb);
+        sb.append('<');
+        sb.append(newRootElement.getName());
+        for (Attribute attribute : newRootElement.getAttributes()) {
+            sb.append(' ');
+            sb.append(attribute.getName());
+            sb.append("=\""); //$NON-NLS-1$
+            sb.append(attribute.getValue());
+            sb.append('"');
+        }
+        sb.append('>');
+
+        // add the new generated elements
+        for (Element element : newRootElement.getElements()) {
+            OutputUtilities.newLine(sb);
+            element.writeFormattedContent(sb, 1);
+        }
+
+        copyExistingNodes(existing, sb);
+
+        sb.append("</"); //$NON-NLS-1$
+        sb.append(newRootElement.getName());
+        sb.append('>');
+    }
+
+    /**
+     * Copies the children of the existing root element, except the old generated elements and any
+     * white space before them. Each child element is buffered until its end tag, because whether it
+     * was generated may depend on the comments at the start of its content.
+     */
+    private static void copyExistingNodes(XMLStreamReader existing, StringBuilder sb)
+            throws XMLStreamException {
+        StringBuilder pendingText = new StringBuilder();
+        boolean pendingWhiteSpace = true;
+        StringBuilder node = new StringBuilder();
+        boolean generated = false;
+        boolean checkingComments = false;
+        boolean startTagOpen = false;
+        int depth = 0;
+
+        while (existing.hasNext()) {
+            int event = existing.next();
+
+            if (startTagOpen && event != XMLStreamConstants.END_ELEMENT) {
+                node.append('>');
+                startTagOpen = false;
+            }
+
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if (depth == 0) {
+                        node.setLength(0);
+                        generated = hasGeneratedId(existing.getAttributeValue(null, "id")); //$NON-NLS-1$
+                        checkingComments = !generated;
+                    } else if (depth == 1) {
+                        checkingComments = false;
+                    }
+                    writeStartTag(existing, node);
+                    startTagOpen = true;
+                    depth++;
+                    break;
+
+                case XMLStreamConstants.END_ELEMENT:
+                    if (depth == 0) {
+                        // end of the root element
+                        sb.append(pendingText);
+                        return;
+                    }
+
+                    depth--;
+                    if (startTagOpen) {
+                        node.append(" />"); //$NON-NLS-1$
+                        startTagOpen = false;
+                    } else {
+                        node.append("</"); //$NON-NLS-1$
+                        node.append(getQualifiedName(existing));
+                        node.append('>');
+                    }
+
+                    if (depth == 0) {
+                        if (!generated || !pendingWhiteSpace) {
+                            sb.append(pendingText);
+                        }
+                        if (!generated) {
+                            sb.append(node);
+                        }
+                        pendingText.setLength(0);
+                        pendingWhiteSpace = true;
+                    }
+                    break;
+
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    if (depth == 0) {
+                        pendingWhiteSpace &= existing.isWhiteSpace();
+                        appendText(existing.getText(), false, pendingText);
+                    } else {
+                        if (depth == 1 && !existing.isWhiteSpace()) {
+                            checkingComments = false;
+                        }
+                        appendText(existing.getText(), false, node);
+                    }
+                    break;
+
+                case XMLStreamConstants.COMMENT:
+                    if (depth == 0) {
+                        flush(pendingText, sb);
+                        pendingWhiteSpace = true;
+                        appendComment(existing.getText(), sb);
+                    } else {
+                        if (depth == 1 && checkingComments && hasGeneratedTag(existing.getText())) {
+                            generated = true;
+                            checkingComments = false;
+                        }
+                        appendComment(existing.getText(), node);
+                    }
+                    break;
+
+                case XMLStreamConstants.CDATA:
+                    if (depth == 0) {
+                        flush(pendingText, sb);
+                        pendingWhiteSpace = true;
+                        appendCdata(existing.getText(), sb);
+                    } else {
+                        if (depth == 1) {
+                            checkingComments = false;
+                        }
+                        appendCdata(existing.getText(), node);
+                    }
+                    break;
+
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    if (depth == 0) {
+                        flush(pendingText, sb);
+                        pendingWhiteSpace = true;
+                        appendEntityReference(existing.getLocalName(), sb);
+                    } else {
+                        if (depth == 1) {
+                            checkingComments = false;
+                        }
+                        appendEntityReference(existing.getLocalName(), node);
+                    }
+                    break;
+
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    if (depth == 0) {
+                        flush(pendingText, sb);
+                        pendingWhiteSpace = true;
+                        appendProcessingInstruction(existing, sb);
+                    } else {
+                        if (depth == 1) {
+                            checkingComments = false;
+                        }
+                        appendProcessingInstruction(existing, node);
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static void flush(StringBuilder pendingText, StringBuilder sb) {
+        sb.append(pendingText);
+        pendingText.setLength(0);
+    }
+
+    private static boolean hasGeneratedId(String id) {
+        if (id != null) {
+            for (String prefix : MergeConstants.OLD_XML_ELEMENT_PREFIXES) {
+                if (id.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasGeneratedTag(String comment) {
+        for (String tag : MergeConstants.OLD_ELEMENT_TAGS) {
+            if (comment.contains(tag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String getDocTypeName(String docTypeDeclaration) {
+        // <!DOCTYPE name PUBLIC "..." "...">
+        String s = docTypeDeclaration.substring("<!DOCTYPE".length()).trim(); //$NON-NLS-1$
+        int end = 0;
+        while (end < s.length() && !Character.isWhitespace(s.charAt(end))
+                && s.charAt(end) != '[' && s.charAt(end) != '>') {
+            end++;
+        }
+
+        return s.substring(0, end);
+    }
+
+    private static String getQualifiedName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        if (prefix == null || prefix.length() == 0) {
+            return reader.getLocalName();
+        }
+
+        return prefix + ':' + reader.getLocalName();
+    }
+
+    private static void writeStartTag(XMLStreamReader reader, StringBuilder sb) {
+        sb.append('<');
+        sb.append(getQualifiedName(reader));
+
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            sb.append(" xmlns"); //$NON-NLS-1$
+            if (prefix != null && prefix.length() > 0) {
+                sb.append(':');
+                sb.append(prefix);
+            }
+            sb.append("=\""); //$NON-NLS-1$
+            appendText(reader.getNamespaceURI(i), true, sb);
+            sb.append('"');
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            sb.append(' ');
+            String prefix = reader.getAttributePrefix(i);
+            if (prefix != null && prefix.length() > 0) {
+                sb.append(prefix);
+                sb.append(':');
+            }
+            sb.append(reader.getAttributeLocalName(i));
+            sb.append("=\""); //$NON-NLS-1$
+            appendText(reader.getAttributeValue(i), true, sb);
+            sb.append('"');
+        }
+    }
+
+    /**
+     * Appends character data with the same escaping the {@link DomWriter} uses.
+     */
+    private static void appendText(String s, boolean isAttValue, StringBuilder sb) {
+        int len = (s != null) ? s.length() : 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '<':
+                    sb.append("&lt;"); //$NON-NLS-1$
+                    break;
+                case '>':
+                    sb.append("&gt;"); //$NON-NLS-1$
+                    break;
+                case '&':
+                    sb.append("&amp;"); //$NON-NLS-1$
+                    break;
+                case '"':
+                    sb.append(isAttValue ? "&quot;" : "\""); //$NON-NLS-1$ //$NON-NLS-2$
+                    break;
+                case '\r':
+                    sb.append("&#xD;"); //$NON-NLS-1$
+                    break;
+                case '\n':
+                    sb.append(isAttValue ? "&#xA;" : LINE_SEPARATOR); //$NON-NLS-1$
+                    break;
+                case '\t':
+                    sb.append(isAttValue ? "&#x9;" : "\t"); //$NON-NLS-1$ //$NON-NLS-2$
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    private static void appendComment(String comment, StringBuilder sb) {
+        sb.append("<!--"); //$NON-NLS-1$
+        appendWithLineSeparators(comment, sb);
+        sb.append("-->"); //$NON-NLS-1$
+    }
+
+    private static void appendCdata(String data, StringBuilder sb) {
+        sb.append("<![CDATA["); //$NON-NLS-1$
+        appendWithLineSeparators(data, sb);
+        sb.append("]]>"); //$NON-NLS-1$
+    }
+
+    private static void appendEntityReference(String name, StringBuilder sb) {
+        sb.append('&');
+        sb.append(name);
+        sb.append(';');
+    }
+
+    private static void appendProcessingInstruction(XMLStreamReader reader, StringBuilder sb) {
+        sb.append("<?"); //$NON-NLS-1$
+        sb.append(reader.getPITarget());
+        String data = reader.getPIData();
+        if (data != null && data.length() > 0) {
+            sb.append(' ');
+            sb.append(data);
+        }
+        sb.append("?>"); //$NON-NLS-1$
+    }
+
+    /**
+     * XML parsers normalize line endings to '\n'. We write them out with the system line separator
+     * to avoid whitespace commits on some version control systems.
+     */
+    private static void appendWithLineSeparators(String s, StringBuilder sb) {
+        int len = (s != null) ? s.length() : 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c == '\n') {
+                sb.append(LINE_SEPARATOR);
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+
+    private static void close(XMLStreamReader xmlReader, Reader reader) {
+        if (xmlReader != null) {
+            try {
+                xmlReader.close();
+            } catch (XMLStreamException e) {
+                // ignore
+            }
+        }
+
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
@@ -38,6 +39,7 @@ import java.util.regex.Pattern;
 
 import org.mybatis.generator.api.FullyQualifiedTable;
 import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedIndex;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.JavaTypeResolver;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
@@ -107,6 +109,70 @@ public class DatabaseIntrospector {
         }
     }
 
+    /**
+     * Reads the unique and non-unique indexes of the table. Statistics rows, indexes that contain an
+     * expression or a column that was not introspected, and the index of the primary key are
+     * skipped.
+     */
+    private void calculateIndexes(FullyQualifiedTable table, IntrospectedTable introspectedTable) {
+        ResultSet rs = null;
+
+        // index name to key sequence to column name, in the order the driver returns the indexes
+        Map<String, Map<Short, String>> indexColumns = new LinkedHashMap<String, Map<Short, String>>();
+        Map<String, Boolean> uniqueIndexes = new HashMap<String, Boolean>();
+        try {
+            rs = this.databaseMetaData.getIndexInfo(table.getIntrospectedCatalog(),
+                    table.getIntrospectedSchema(), table.getIntrospectedTableName(), false, true);
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME"); //$NON-NLS-1$
+                short type = rs.getShort("TYPE"); //$NON-NLS-1$
+                if (indexName == null || type == DatabaseMetaData.tableIndexStatistic) {
+                    continue;
+                }
+
+                Map<Short, String> columns = indexColumns.get(indexName);
+                if (columns == null) {
+                    columns = new TreeMap<Short, String>();
+                    indexColumns.put(indexName, columns);
+                    uniqueIndexes.put(indexName, !rs.getBoolean("NON_UNIQUE")); //$NON-NLS-1$
+                }
+                // an expression index has no column name, keep the null so the index is skipped
+                columns.put(rs.getShort("ORDINAL_POSITION"), rs.getString("COLUMN_NAME")); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        } catch (SQLException e) {
+            this.warnings.add(getString("Warning.31", table.toString(), e.getMessage())); //$NON-NLS-1$
+            return;
+        } finally {
+            this.closeResultSet(rs);
+        }
+
+        for (Map.Entry<String, Map<Short, String>> entry : indexColumns.entrySet()) {
+            IntrospectedIndex index =
+                    new IntrospectedIndex(entry.getKey(), uniqueIndexes.get(entry.getKey()));
+            for (String columnName : entry.getValue().values()) {
+                IntrospectedColumn column = introspectedTable.getColumn(columnName);
+                if (column == null) {
+                    index = null;
+                    break;
+                }
+                index.addColumn(column);
+            }
+
+            if (index != null && !index.getColumns().equals(introspectedTable.getPrimaryKeyColumns())) {
+                introspectedTable.addIndex(index);
+            }
+        }
+    }
+
+    private boolean isGenerateIndexFinders(TableConfiguration tc) {
+        String property = tc.getProperty(PropertyRegistry.ANY_GENERATE_INDEX_FINDERS);
+        if (property == null && this.context.getJavaClientGeneratorConfiguration() != null) {
+            property = this.context.getJavaClientGeneratorConfiguration()
+                    .getProperty(PropertyRegistry.ANY_GENERATE_INDEX_FINDERS);
+        }
+        return isTrue(property);
+    }
+
     private void closeResultSet(ResultSet rs) {
         if (rs != null) {
             try {
@@ -212,6 +278,73 @@ public class DatabaseIntrospector {
         return introspectedTables;
     }
 
+    /**
+     * Calculates a marker describing the current database structure of the tables matched by a
+     * table configuration. The marker covers the raw column metadata and the primary key of every
+     * matched table, so it changes whenever a DDL statement changes anything that introspection
+     * depends on. It is much cheaper to calculate than a full introspection because no Java types
+     * are resolved and no overrides are applied.
+     *
+     * @param tc the table configuration
+     * @return the schema marker, or an empty string if no table matches the configuration
+     * @throws SQLException if any errors reading the database metadata
+     */
+    public String calculateSchemaMarker(TableConfiguration tc) throws SQLException {
+        Map<ActualTableName, List<IntrospectedColumn>> columns = this.getColumns(tc);
+
+        // the metadata map is unordered, sort the tables so the marker is stable
+        Map<String, ActualTableName> tables = new TreeMap<String, ActualTableName>();
+        for (ActualTableName atn : columns.keySet()) {
+            tables.put(atn.toString(), atn);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (ActualTableName atn : tables.values()) {
+            sb.append(atn.toString());
+            sb.append('(');
+            for (IntrospectedColumn column : columns.get(atn)) {
+                sb.append(column.getActualColumnName());
+                sb.append(' ');
+                sb.append(column.getJdbcType());
+                sb.append(' ');
+                sb.append(column.getLength());
+                sb.append(',');
+                sb.append(column.getScale());
+                sb.append(column.isNullable() ? " null" : " not null"); //$NON-NLS-1$ //$NON-NLS-2$
+                if (column.isAutoIncrement()) {
+                    sb.append(" auto"); //$NON-NLS-1$
+                }
+                if (column.isGeneratedColumn()) {
+                    sb.append(" generated"); //$NON-NLS-1$
+                }
+                sb.append(" default "); //$NON-NLS-1$
+                sb.append(column.getDefaultValue());
+                sb.append(" remarks "); //$NON-NLS-1$
+                sb.append(column.getRemarks());
+                sb.append(';');
+            }
+            sb.append(") key("); //$NON-NLS-1$
+
+            ResultSet rs = this.databaseMetaData.getPrimaryKeys(atn.getCatalog(),
+                    atn.getSchema(), atn.getTableName());
+            try {
+                Map<Short, String> keyColumns = new TreeMap<Short, String>();
+                while (rs.next()) {
+                    keyColumns.put(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME")); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+                for (String columnName : keyColumns.values()) {
+                    sb.append(columnName);
+                    sb.append(';');
+                }
+            } finally {
+                this.closeResultSet(rs);
+            }
+            sb.append(')');
+        }
+
+        return sb.toString();
+    }
+
     private void removeIgnoredColumns(TableConfiguration tc,
                                       Map<ActualTableName, List<IntrospectedColumn>> columns) {
         for (Map.Entry<ActualTableName, List<IntrospectedColumn>> entry : columns.entrySet()) {
@@ -565,6 +698,10 @@ public class DatabaseIntrospector {
 
             this.calculatePrimaryKey(table, introspectedTable);
 
+            if (this.isGenerateIndexFinders(tc)) {
+                this.calculateIndexes(table, introspectedTable);
+            }
+
             this.enhanceIntrospectedTable(introspectedTable);
 
             answer.add(introspectedTable);
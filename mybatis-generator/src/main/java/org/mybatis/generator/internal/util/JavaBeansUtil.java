@@ -17,6 +17,8 @@ import static org.mybatis.generator.internal.util.StringUtility.isTrue;
 
 import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.IntrospectedTable;
@@ -34,6 +36,30 @@ import org.mybatis.generator.config.TableConfiguration;
  */
 public class JavaBeansUtil {
 
+    /**
+     * The name transforms below are called for every column many times per run, so their results
+     * are cached. A cache is cleared when it grows beyond this size.
+     */
+    private static final int MAX_CACHED_NAMES = 10000;
+
+    private static final ConcurrentMap<String, String> getterMethodNames =
+            new ConcurrentHashMap<String, String>();
+
+    private static final ConcurrentMap<String, String> booleanGetterMethodNames =
+            new ConcurrentHashMap<String, String>();
+
+    private static final ConcurrentMap<String, String> setterMethodNames =
+            new ConcurrentHashMap<String, String>();
+
+    private static final ConcurrentMap<String, String> upperCamelCaseNames =
+            new ConcurrentHashMap<String, String>();
+
+    private static final ConcurrentMap<String, String> lowerCamelCaseNames =
+            new ConcurrentHashMap<String, String>();
+
+    private static final ConcurrentMap<String, String> validPropertyNames =
+            new ConcurrentHashMap<String, String>();
+
     private JavaBeansUtil() {
         super();
     }
@@ -48,6 +74,18 @@ public class JavaBeansUtil {
      */
     public static String getGetterMethodName(String property,
                                              FullyQualifiedJavaType fullyQualifiedJavaType) {
+        boolean isBoolean =
+                fullyQualifiedJavaType.equals(FullyQualifiedJavaType.getBooleanPrimitiveInstance());
+        ConcurrentMap<String, String> cache = isBoolean ? booleanGetterMethodNames : getterMethodNames;
+        String answer = cache.get(property);
+        if (answer == null) {
+            answer = cacheName(cache, property, calculateGetterMethodName(property, isBoolean));
+        }
+
+        return answer;
+    }
+
+    private static String calculateGetterMethodName(String property, boolean isBoolean) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(property);
@@ -57,7 +95,7 @@ public class JavaBeansUtil {
             }
         }
 
-        if (fullyQualifiedJavaType.equals(FullyQualifiedJavaType.getBooleanPrimitiveInstance())) {
+        if (isBoolean) {
             sb.insert(0, "is"); //$NON-NLS-1$
         } else {
             sb.insert(0, "get"); //$NON-NLS-1$
@@ -74,6 +112,15 @@ public class JavaBeansUtil {
      * @return the setter method name
      */
     public static String getSetterMethodName(String property) {
+        String answer = setterMethodNames.get(property);
+        if (answer == null) {
+            answer = cacheName(setterMethodNames, property, calculateSetterMethodName(property));
+        }
+
+        return answer;
+    }
+
+    private static String calculateSetterMethodName(String property) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(property);
@@ -89,6 +136,19 @@ public class JavaBeansUtil {
     }
 
     public static String getCamelCaseString(String inputString, boolean firstCharacterUppercase) {
+        ConcurrentMap<String, String> cache =
+                firstCharacterUppercase ? upperCamelCaseNames : lowerCamelCaseNames;
+        String answer = cache.get(inputString);
+        if (answer == null) {
+            answer = cacheName(cache, inputString,
+                    calculateCamelCaseString(inputString, firstCharacterUppercase));
+        }
+
+        return answer;
+    }
+
+    private static String calculateCamelCaseString(String inputString,
+                                                   boolean firstCharacterUppercase) {
         StringBuilder sb = new StringBuilder();
 
         boolean nextUpperCase = false;
@@ -157,11 +217,22 @@ public class JavaBeansUtil {
      * @return the valid property name
      */
     public static String getValidPropertyName(String inputString) {
+        if (inputString == null) {
+            return null;
+        }
+
+        String answer = validPropertyNames.get(inputString);
+        if (answer == null) {
+            answer = cacheName(validPropertyNames, inputString, calculateValidPropertyName(inputString));
+        }
+
+        return answer;
+    }
+
+    private static String calculateValidPropertyName(String inputString) {
         String answer;
 
-        if (inputString == null) {
-            answer = null;
-        } else if (inputString.length() < 2) {
+        if (inputString.length() < 2) {
             answer = inputString.toLowerCase(Locale.US);
         } else {
             if (Character.isUpperCase(inputString.charAt(0))
@@ -175,6 +246,14 @@ public class JavaBeansUtil {
         return answer;
     }
 
+    private static String cacheName(ConcurrentMap<String, String> cache, String key, String name) {
+        if (cache.size() >= MAX_CACHED_NAMES) {
+            cache.clear();
+        }
+        cache.put(key, name);
+        return name;
+    }
+
     public static Method getJavaBeansGetter(IntrospectedColumn introspectedColumn, Context context,
                                             IntrospectedTable introspectedTable) {
         FullyQualifiedJavaType fqjt = introspectedColumn.getFullyQualifiedJavaType();
@@ -13,6 +13,8 @@
  */
 package org.mybatis.generator.internal.util;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.StringTokenizer;
 
 /**
@@ -28,6 +30,27 @@ public class StringUtility {
         super();
     }
 
+    /**
+     * Returns the SHA-1 digest of the bytes as a lower case hex string.
+     *
+     * @param bytes the bytes to digest
+     * @return the hex digest
+     */
+    public static String sha1Hex(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest(bytes)) {
+                sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+                sb.append(Character.forDigit(b & 0xf, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static boolean stringHasValue(String s) {
         return s != null && s.length() > 0;
     }
@@ -60,6 +83,11 @@ public class StringUtility {
     }
 
     public static String escapeStringForJava(String s) {
+        if (s.indexOf('"') == -1) {
+            // nothing to escape - most strings
+            return s;
+        }
+
         StringTokenizer st = new StringTokenizer(s, "\"", true); //$NON-NLS-1$
         StringBuilder sb = new StringBuilder();
         while (st.hasMoreTokens()) {
@@ -75,6 +103,11 @@ public class StringUtility {
     }
 
     public static String escapeStringForXml(String s) {
+        if (s.indexOf('"') == -1) {
+            // nothing to escape - most strings
+            return s;
+        }
+
         StringTokenizer st = new StringTokenizer(s, "\"", true); //$NON-NLS-1$
         StringBuilder sb = new StringBuilder();
         while (st.hasMoreTokens()) {
@@ -0,0 +1,201 @@
+package org.mybatis.generator.ui;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.generator.api.VerboseProgressCallback;
+import org.mybatis.generator.ui.bridge.MybatisGeneratorBridge;
+import org.mybatis.generator.ui.model.BatchJob;
+import org.mybatis.generator.ui.model.DatabaseConfig;
+import org.mybatis.generator.ui.model.GeneratorConfig;
+import org.mybatis.generator.ui.util.ConfigHelper;
+import org.mybatis.generator.ui.util.DbUtils;
+import org.mybatis.generator.ui.util.FilenameUtils;
+import org.mybatis.generator.ui.util.StringUtils;
+
+import com.alibaba.fastjson.JSON;
+
+/**
+ * 命令行入口, 不加载JavaFX, 可以在CI中运行. 每个任务的全部表在一个Context中生成, 共用一个连接.
+ *
+ * <pre>
+ * 使用界面中保存的连接和生成配置:
+ *   java -cp mybatis-generator.jar org.mybatis.generator.ui.BatchGenerator -connection local -config demo [-tables a,b]
+ * 使用JSON任务文件(一个任务对象或任务数组, 字段见BatchJob):
+ *   java -cp mybatis-generator.jar org.mybatis.generator.ui.BatchGenerator -file jobs.json
+ * </pre>
+ *
+ * <p>在Maven构建中可以通过exec-maven-plugin的java目标调用, mainClass配置为本类, arguments同上.
+ */
+public class BatchGenerator {
+    private static final String FILE = "-file";
+    private static final String CONNECTION = "-connection";
+    private static final String CONFIG = "-config";
+    private static final String TABLES = "-tables";
+    private static final String VERBOSE = "-verbose";
+
+    public static void main(String[] args) {
+        Map<String, String> arguments = parseCommandLine(args);
+        if (arguments == null) {
+            usage();
+            System.exit(-1);
+            return;
+        }
+
+        int failed = 0;
+        try {
+            new AppProperties().init();
+            List<BatchJob> jobs = loadJobs(arguments);
+            for (BatchJob job : jobs) {
+                if (!run(job, arguments.containsKey(VERBOSE))) {
+                    failed++;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("批量生成失败: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(-1);
+            return;
+        }
+        System.exit(failed == 0 ? 0 : -1);
+    }
+
+    private static List<BatchJob> loadJobs(Map<String, String> arguments) throws Exception {
+        if (arguments.containsKey(FILE)) {
+            String text = new String(Files.readAllBytes(new File(arguments.get(FILE)).toPath()),
+                    StandardCharsets.UTF_8).trim();
+            if (text.startsWith("[")) {
+                return JSON.parseArray(text, BatchJob.class);
+            }
+            return Collections.singletonList(JSON.parseObject(text, BatchJob.class));
+        }
+        BatchJob job = new BatchJob();
+        job.setConnectionName(arguments.get(CONNECTION));
+        job.setConfigName(arguments.get(CONFIG));
+        if (arguments.containsKey(TABLES)) {
+            job.setTables(Arrays.asList(arguments.get(TABLES).split("\\s*,\\s*")));
+        }
+        return Collections.singletonList(job);
+    }
+
+    private static boolean run(BatchJob job, boolean verbose) throws Exception {
+        DatabaseConfig databaseConfig = job.getConnection();
+        if (databaseConfig == null && job.getConnectionName() != null) {
+            ConfigHelper.init();
+            for (DatabaseConfig config : ConfigHelper.loadDatabaseConfig()) {
+                if (config.getName().equals(job.getConnectionName())) {
+                    databaseConfig = config;
+                }
+            }
+        }
+        GeneratorConfig generatorConfig = job.getConfig();
+        if (generatorConfig == null && job.getConfigName() != null) {
+            ConfigHelper.init();
+            // 缓存中的配置是共享对象, 复制后再修改表名, 不影响后续使用同一配置的任务
+            GeneratorConfig savedConfig = ConfigHelper.loadGeneratorConfig(job.getConfigName());
+            if (savedConfig != null) {
+                generatorConfig = JSON.parseObject(JSON.toJSONString(savedConfig), GeneratorConfig.class);
+            }
+        }
+        if (databaseConfig == null || generatorConfig == null) {
+            System.err.println("连接配置或生成配置不存在: connection=" + job.getConnectionName()
+                    + ", config=" + job.getConfigName());
+            return false;
+        }
+
+        List<String> tables = job.getTables();
+        if (tables == null || tables.isEmpty()) {
+            tables = StringUtils.isEmpty(generatorConfig.getTableName())
+                    ? DbUtils.getTableNames(databaseConfig)
+                    : Collections.singletonList(generatorConfig.getTableName());
+        }
+        if (tables.isEmpty()) {
+            System.err.println("没有要生成的表: " + databaseConfig.getSchema());
+            return false;
+        }
+        generatorConfig.setTableName(tables.get(0));
+        createDirs(generatorConfig);
+
+        MybatisGeneratorBridge bridge = new MybatisGeneratorBridge();
+        bridge.setGeneratorConfig(generatorConfig);
+        bridge.setDatabaseConfig(databaseConfig);
+        bridge.setTableNames(tables);
+        if (verbose) {
+            bridge.setProgressCallback(new VerboseProgressCallback());
+        }
+        bridge.generate();
+        for (String warning : bridge.getWarnings()) {
+            System.out.println(warning);
+        }
+        System.out.println("生成完成, 共" + tables.size() + "张表: " + databaseConfig.getSchema());
+        return true;
+    }
+
+    /**
+     * 界面中会提示创建不存在的目录, 命令行直接创建
+     */
+    private static void createDirs(GeneratorConfig config) throws Exception {
+        List<String> folders = new ArrayList<>();
+        folders.add("");
+        if (config.isBuildModel()) {
+            folders.add(config.getModelFolder());
+        }
+        if (config.isBuildExample()) {
+            folders.add(config.getExampleFolder());
+        }
+        if (config.isBuildMapper()) {
+            folders.add(config.getMapperFolder());
+        }
+        if (config.isBuildXML()) {
+            folders.add(config.getXmlFolder());
+        }
+        if (config.isBuildService()) {
+            folders.add(config.getServiceFolder());
+        }
+        if (config.isBuildServiceImpl()) {
+            folders.add(config.getServiceImplFolder());
+        }
+        for (String folder : folders) {
+            String path = StringUtils.isEmpty(folder) ? config.getProjectFolder()
+                    : config.getProjectFolder().concat(File.separator).concat(folder);
+            File dir = new File(FilenameUtils.normalize(path));
+            if (!dir.exists()) {
+                FilenameUtils.forceMkdir(dir);
+            }
+        }
+    }
+
+    private static Map<String, String> parseCommandLine(String[] args) {
+        Map<String, String> arguments = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (VERBOSE.equalsIgnoreCase(arg)) {
+                arguments.put(VERBOSE, "Y");
+            } else if ((FILE.equalsIgnoreCase(arg) || CONNECTION.equalsIgnoreCase(arg)
+                    || CONFIG.equalsIgnoreCase(arg) || TABLES.equalsIgnoreCase(arg)) && i + 1 < args.length) {
+                arguments.put(arg.toLowerCase(), args[++i]);
+            } else {
+                System.err.println("无法识别的参数: " + arg);
+                return null;
+            }
+        }
+        if (!arguments.containsKey(FILE)
+                && !(arguments.containsKey(CONNECTION) && arguments.containsKey(CONFIG))) {
+            return null;
+        }
+        return arguments;
+    }
+
+    private static void usage() {
+        System.out.println("Usage:");
+        System.out.println("  BatchGenerator -connection name -config name [-tables table1,table2] [-verbose]");
+        System.out.println("  BatchGenerator -file jobs.json [-verbose]");
+    }
+}
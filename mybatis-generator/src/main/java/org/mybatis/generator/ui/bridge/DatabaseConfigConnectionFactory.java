@@ -0,0 +1,44 @@
+package org.mybatis.generator.ui.bridge;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import org.mybatis.generator.api.ConnectionFactory;
+import org.mybatis.generator.ui.model.DatabaseConfig;
+import org.mybatis.generator.ui.util.DbUtils;
+
+/**
+ * 代码生成使用的连接工厂, 从DbUtils的连接池借出连接, 和浏览表共用连接;
+ * 生成器关闭连接时连接归还到池中
+ */
+public class DatabaseConfigConnectionFactory implements ConnectionFactory {
+    public static final String HOST = "host";
+    public static final String PORT = "port";
+    public static final String SCHEMA = "schema";
+    public static final String USERNAME = "username";
+    public static final String PASSWORD = "password";
+
+    private DatabaseConfig databaseConfig;
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return DbUtils.getConnection(this.databaseConfig);
+        } catch (SQLException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void addConfigurationProperties(Properties properties) {
+        this.databaseConfig = new DatabaseConfig();
+        this.databaseConfig.setHost(properties.getProperty(HOST));
+        this.databaseConfig.setPort(properties.getProperty(PORT));
+        this.databaseConfig.setSchema(properties.getProperty(SCHEMA));
+        this.databaseConfig.setUsername(properties.getProperty(USERNAME));
+        this.databaseConfig.setPassword(properties.getProperty(PASSWORD));
+    }
+}
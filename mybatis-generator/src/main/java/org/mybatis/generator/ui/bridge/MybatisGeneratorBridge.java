@@ -2,6 +2,7 @@ package org.mybatis.generator.ui.bridge;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -11,9 +12,9 @@ import org.mybatis.generator.api.ProgressCallback;
 import org.mybatis.generator.api.ShellCallback;
 import org.mybatis.generator.config.CommentGeneratorConfiguration;
 import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.ConnectionFactoryConfiguration;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.DomainObjectRenamingRule;
-import org.mybatis.generator.config.JDBCConnectionConfiguration;
 import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
 import org.mybatis.generator.config.JavaModelGeneratorConfiguration;
 import org.mybatis.generator.config.JavaTypeResolverConfiguration;
@@ -26,7 +27,6 @@ import org.mybatis.generator.internal.util.JavaBeansUtil;
 import org.mybatis.generator.ui.AppProperties;
 import org.mybatis.generator.ui.model.DatabaseConfig;
 import org.mybatis.generator.ui.model.GeneratorConfig;
-import org.mybatis.generator.ui.util.DbUtils;
 import org.mybatis.generator.ui.util.FilenameUtils;
 import org.mybatis.generator.ui.util.StringUtils;
 
@@ -37,6 +37,10 @@ public class MybatisGeneratorBridge {
 
     private ProgressCallback progressCallback;
 
+    private List<String> tableNames;
+
+    private List<String> warnings = new ArrayList<>();
+
     public void setGeneratorConfig(GeneratorConfig generatorConfig) {
         this.generatorConfig = generatorConfig;
     }
@@ -49,6 +53,14 @@ public class MybatisGeneratorBridge {
         this.progressCallback = progressCallback;
     }
 
+    /**
+     * 批量生成的表, 所有表在同一个Context中生成, 共用一个数据库连接和一次内省;
+     * 未设置时只生成generatorConfig中的表
+     */
+    public void setTableNames(List<String> tableNames) {
+        this.tableNames = tableNames;
+    }
+
     public void generate() throws Exception {
         Configuration configuration = new Configuration();
         Context context = new Context(ModelType.FLAT);
@@ -59,30 +71,30 @@ public class MybatisGeneratorBridge {
         context.addProperty(PropertyRegistry.CONTEXT_JAVA_FILE_ENCODING, "UTF-8");
         context.addProperty("sharding", String.valueOf(this.generatorConfig.isSharding()));
 
-        TableConfiguration tableConfig = new TableConfiguration(context);
-        tableConfig.setTableName(this.generatorConfig.getTableName());
-        if (this.generatorConfig.getDeleteTablePre() != null
-                && this.generatorConfig.getDeleteTablePre().length() > 0) {
-            DomainObjectRenamingRule domainObjectRenamingRule = new DomainObjectRenamingRule();
-            domainObjectRenamingRule.setSearchString(this.generatorConfig.getDeleteTablePre());
-            domainObjectRenamingRule.setReplaceString("");
-            tableConfig.setDomainObjectRenamingRule(domainObjectRenamingRule);
+        List<String> tables = this.getTableNames();
+        for (String tableName : tables) {
+            context.addTableConfiguration(this.createTableConfiguration(context, tableName));
         }
-        context.addTableConfiguration(tableConfig);
 
         CommentGeneratorConfiguration commentConfig = new CommentGeneratorConfiguration();
         commentConfig.addProperty("suppressAllComments", "true");
         commentConfig.addProperty("dateFormat", "yyyy-MM-dd HH:mm:ss");
         context.setCommentGeneratorConfiguration(commentConfig);
 
-        JDBCConnectionConfiguration jdbcConfig = new JDBCConnectionConfiguration();
-        jdbcConfig.setDriverClass("com.mysql.jdbc.Driver");
-        jdbcConfig.setConnectionURL(DbUtils.getConnectionUrlWithSchema(this.selectedDatabaseConfig));
-        jdbcConfig.setUserId(this.selectedDatabaseConfig.getUsername());
-        jdbcConfig.setPassword(this.selectedDatabaseConfig.getPassword());
-        jdbcConfig.addProperty("remarks", "true");
-        jdbcConfig.addProperty("useInformationSchema", "true");
-        context.setJdbcConnectionConfiguration(jdbcConfig);
+        // 连接从DbUtils的连接池借出, 浏览表和生成代码不再重复建立连接
+        ConnectionFactoryConfiguration connectionConfig = new ConnectionFactoryConfiguration();
+        connectionConfig.setConfigurationType(DatabaseConfigConnectionFactory.class.getName());
+        addPropertyIfPresent(connectionConfig, DatabaseConfigConnectionFactory.HOST,
+                this.selectedDatabaseConfig.getHost());
+        addPropertyIfPresent(connectionConfig, DatabaseConfigConnectionFactory.PORT,
+                this.selectedDatabaseConfig.getPort());
+        addPropertyIfPresent(connectionConfig, DatabaseConfigConnectionFactory.SCHEMA,
+                this.selectedDatabaseConfig.getSchema());
+        addPropertyIfPresent(connectionConfig, DatabaseConfigConnectionFactory.USERNAME,
+                this.selectedDatabaseConfig.getUsername());
+        addPropertyIfPresent(connectionConfig, DatabaseConfigConnectionFactory.PASSWORD,
+                this.selectedDatabaseConfig.getPassword());
+        context.setConnectionFactoryConfiguration(connectionConfig);
 
         JavaTypeResolverConfiguration javaTypeConfig = new JavaTypeResolverConfiguration();
         javaTypeConfig.addProperty("forceBigDecimals", "true");
@@ -124,6 +136,7 @@ public class MybatisGeneratorBridge {
                 : File.separator + this.generatorConfig.getXmlFolder())));
         xmlConfig.addProperty("enable", String.valueOf(this.generatorConfig.isBuildXML()));
         xmlConfig.addProperty("enableSubPackages", "false");
+        addStatementAttributes(xmlConfig, this.generatorConfig.getStatementAttributes());
         context.setSqlMapGeneratorConfiguration(xmlConfig);
 
         JavaClientGeneratorConfiguration javaClientGeneratorConfig =
@@ -186,31 +199,82 @@ public class MybatisGeneratorBridge {
         javaClientGeneratorConfig.addProperty("enableSubPackages", "false");
         context.setJavaClientGeneratorConfiguration(javaClientGeneratorConfig);
 
-        List<String> warnings = new ArrayList<>();
+        this.warnings.clear();
         Set<String> fullyqualifiedTables = new HashSet<>();
         Set<String> contexts = new HashSet<>();
         ShellCallback shellCallback = new DefaultShellCallback(false);
         MyBatisGenerator myBatisGenerator =
-                new MyBatisGenerator(configuration, shellCallback, warnings);
+                new MyBatisGenerator(configuration, shellCallback, this.warnings);
         // if overrideXML selected, delete oldXML file and generate a new one
         if (this.generatorConfig.isBuildXML() && this.generatorConfig.isOverrideXML()) {
-            String mappingXMLFilePath = this.getMappingXMLFilePath(this.generatorConfig);
-            File mappingXMLFile = new File(mappingXMLFilePath);
-            if (mappingXMLFile.exists()) {
-                mappingXMLFile.delete();
+            for (String tableName : tables) {
+                File mappingXMLFile = new File(this.getMappingXMLFilePath(this.generatorConfig, tableName));
+                if (mappingXMLFile.exists()) {
+                    mappingXMLFile.delete();
+                }
             }
         }
         myBatisGenerator.generate(this.progressCallback, contexts, fullyqualifiedTables);
     }
 
-    private String getMappingXMLFilePath(GeneratorConfig generatorConfig) {
+    /**
+     * 最近一次generate产生的警告
+     */
+    public List<String> getWarnings() {
+        return this.warnings;
+    }
+
+    private static void addPropertyIfPresent(ConnectionFactoryConfiguration config, String name, String value) {
+        if (value != null) {
+            config.addProperty(name, value);
+        }
+    }
+
+    /**
+     * 语句属性写入XML生成配置, 对所有表生效; 格式为"语句或类型.属性=值", 多个用分号或换行分隔
+     */
+    private static void addStatementAttributes(SqlMapGeneratorConfiguration config, String statementAttributes) {
+        if (StringUtils.isEmpty(statementAttributes)) {
+            return;
+        }
+        for (String item : statementAttributes.split("[;\\r\\n]+")) {
+            int index = item.indexOf('=');
+            if (index > 0) {
+                config.addProperty(item.substring(0, index).trim(), item.substring(index + 1).trim());
+            }
+        }
+    }
+
+    private List<String> getTableNames() {
+        if (this.tableNames == null || this.tableNames.isEmpty()) {
+            return Collections.singletonList(this.generatorConfig.getTableName());
+        }
+        return this.tableNames;
+    }
+
+    private TableConfiguration createTableConfiguration(Context context, String tableName) {
+        TableConfiguration tableConfig = new TableConfiguration(context);
+        tableConfig.setTableName(tableName);
+        // 前缀按表处理, 批量生成时不带该前缀的表保持原名
+        String deleteTablePre = this.generatorConfig.getDeleteTablePre();
+        if (deleteTablePre != null && deleteTablePre.length() > 0
+                && tableName.toLowerCase().startsWith(deleteTablePre.toLowerCase())) {
+            DomainObjectRenamingRule domainObjectRenamingRule = new DomainObjectRenamingRule();
+            domainObjectRenamingRule.setSearchString(deleteTablePre);
+            domainObjectRenamingRule.setReplaceString("");
+            tableConfig.setDomainObjectRenamingRule(domainObjectRenamingRule);
+        }
+        return tableConfig;
+    }
+
+    private String getMappingXMLFilePath(GeneratorConfig generatorConfig, String tableName) {
         StringBuilder sb = new StringBuilder();
         sb.append(generatorConfig.getProjectFolder()).append(File.separator);
         if (!StringUtils.isEmpty(generatorConfig.getXmlFolder())) {
             sb.append(generatorConfig.getXmlFolder()).append(File.separator);
         }
         sb.append(generatorConfig.getXmlPackage().replace(".", File.separator)).append(File.separator);
-        sb.append(JavaBeansUtil.getCamelCaseString(generatorConfig.getTableName(), true));
+        sb.append(JavaBeansUtil.getCamelCaseString(tableName, true));
         if (this.generatorConfig.isSharding()) {
             sb.append("Sharding");
         }
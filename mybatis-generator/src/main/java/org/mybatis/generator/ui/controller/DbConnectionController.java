@@ -1,9 +1,11 @@
 package org.mybatis.generator.ui.controller;
 
 import java.net.URL;
+import java.sql.Connection;
 import java.util.ResourceBundle;
 
 import org.mybatis.generator.ui.model.DatabaseConfig;
+import org.mybatis.generator.ui.util.BackgroundTasks;
 import org.mybatis.generator.ui.util.ConfigHelper;
 import org.mybatis.generator.ui.util.DbUtils;
 import org.mybatis.generator.ui.util.StringUtils;
@@ -74,13 +76,14 @@ public class DbConnectionController extends BaseFXController {
         if (config == null) {
             return;
         }
-        try {
-            DbUtils.getConnection(config);
-            AlertUtil.showInfoAlert("连接成功");
-        } catch (Exception e) {
+        BackgroundTasks.run(() -> {
+            try (Connection connection = DbUtils.getConnection(config)) {
+                return null;
+            }
+        }, result -> AlertUtil.showInfoAlert("连接成功"), e -> {
             LOG.error("DbUtil.getConnection error: ", e);
             AlertUtil.showWarnAlert("连接失败, " + e.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -3,16 +3,20 @@ package org.mybatis.generator.ui.controller;
 import java.awt.Desktop;
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.mybatis.generator.ui.bridge.MybatisGeneratorBridge;
 import org.mybatis.generator.ui.model.DatabaseConfig;
 import org.mybatis.generator.ui.model.GeneratorConfig;
+import org.mybatis.generator.ui.util.BackgroundTasks;
 import org.mybatis.generator.ui.util.ConfigHelper;
 import org.mybatis.generator.ui.util.DbUtils;
 import org.mybatis.generator.ui.util.FilenameUtils;
@@ -22,24 +26,28 @@ import org.mybatis.generator.ui.view.UIProgressCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javafx.collections.ObservableList;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.ProgressBar;
+import javafx.scene.control.SelectionMode;
 import javafx.scene.control.TextField;
 import javafx.scene.control.TextInputDialog;
 import javafx.scene.control.TreeCell;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeView;
 import javafx.scene.control.cell.TextFieldTreeCell;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.stage.DirectoryChooser;
-import javafx.util.Callback;
+import javafx.util.converter.DefaultStringConverter;
 
 @SuppressWarnings("restriction")
 public class MainUIController extends BaseFXController {
@@ -49,12 +57,18 @@ public class MainUIController extends BaseFXController {
     private TreeView<String> leftDBTree;
     @FXML
     private ProgressBar progressBar;
+    @FXML
+    private Button generateButton;
+    @FXML
+    private Button cancelButton;
 
     @FXML
     private Label connectionLabel;
     @FXML
     private Label configsLabel;
 
+    @FXML
+    private TextField tableFilterField;
     @FXML
     private TextField tableNameField;
     @FXML
@@ -99,6 +113,8 @@ public class MainUIController extends BaseFXController {
     private TextField xmlTargetPackage;
     @FXML
     private TextField xmlTargetProject;
+    @FXML
+    private TextField statementAttributesField;
 
     @FXML
     private CheckBox buildServiceCheckBox;
@@ -118,6 +134,9 @@ public class MainUIController extends BaseFXController {
     @FXML
     private TextField serviceImplTargetProject;
 
+    private static final Image TABLE_IMAGE = new Image("icons/table.png");
+    private static final int TREE_BATCH_SIZE = 500;
+
     // 打开的项目cache
     private Map<String, TreeItem<?>> openStatusMap = new ConcurrentHashMap<>();
     // Current selected databaseName
@@ -126,6 +145,15 @@ public class MainUIController extends BaseFXController {
     private DatabaseConfig selectedDatabaseConfig;
     // Current selected tableName
     private String tableName;
+    // Current selected tableNames, 多选表或选中整个数据库时批量生成
+    private List<String> tableNames = new ArrayList<>();
+    // 表名缓存, key为连接名:过滤条件
+    private Map<String, List<String>> tableNameCache = new ConcurrentHashMap<>();
+    // 各数据库节点当前的加载序号, 用于丢弃过期的分批加载; 同一连接和过滤条件返回同一个缓存列表, 不能按列表判断
+    private Map<String, Integer> tableLoadGenerations = new HashMap<>();
+    private int tableLoadGeneration;
+    // 正在执行的生成任务的进度回调, 用于取消
+    private UIProgressCallback runningCallback;
 
     @SuppressWarnings("unchecked")
     @Override
@@ -153,10 +181,19 @@ public class MainUIController extends BaseFXController {
 
         this.leftDBTree.setShowRoot(false);
         this.leftDBTree.setRoot(new TreeItem<>());
-        Callback<TreeView<String>, TreeCell<String>> defaultCellFactory =
-                TextFieldTreeCell.forTreeView();
         this.leftDBTree.setCellFactory((TreeView<String> tv) -> {
-            TreeCell<String> cell = defaultCellFactory.call(tv);
+            // 表节点不带图标节点, 由复用的单元格显示共享的表图标
+            TreeCell<String> cell = new TextFieldTreeCell<String>(new DefaultStringConverter()) {
+                private final ImageView tableImageView = createTableImageView();
+
+                @Override
+                public void updateItem(String item, boolean empty) {
+                    super.updateItem(item, empty);
+                    if (!empty && this.getTreeItem() != null && this.getTreeItem().getGraphic() == null) {
+                        this.setGraphic(this.tableImageView);
+                    }
+                }
+            };
             cell.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
                 // reset
                 cell.setContextMenu(null);
@@ -206,10 +243,13 @@ public class MainUIController extends BaseFXController {
                                 this.databaseName = null;
                                 this.selectedDatabaseConfig = null;
                                 this.tableName = null;
+                                this.tableNames = new ArrayList<>();
                                 this.tableNameField.setText(null);
                             }
                             treeItem.setExpanded(false);
                             this.openStatusMap.remove(treeItem.getValue());
+                            this.tableLoadGenerations.remove(treeItem.getValue());
+                            this.tableNameCache.clear();
                             treeItem.getChildren().clear();
                         });
                         contextMenu.getItems().addAll(itemClose);
@@ -220,48 +260,149 @@ public class MainUIController extends BaseFXController {
                     // reset
                     cell.setContextMenu(null);
                     if (level == 1) {
-                        DatabaseConfig selectedConfig = (DatabaseConfig) treeItem.getGraphic().getUserData();
-                        try {
-                            List<String> tables = DbUtils.getTableNames(selectedConfig);
-                            if (tables != null && tables.size() > 0) {
-                                ObservableList<TreeItem<String>> children = treeItem.getChildren();
-                                children.clear();
-                                for (String tableName : tables) {
-                                    TreeItem<String> newTreeItem = new TreeItem<>();
-                                    ImageView imageView = new ImageView("icons/table.png");
-                                    imageView.setFitHeight(16);
-                                    imageView.setFitWidth(16);
-                                    newTreeItem.setGraphic(imageView);
-                                    newTreeItem.setValue(tableName);
-                                    children.add(newTreeItem);
-                                }
-                            } else {
-                                AlertUtil.showInfoAlert("该数据源没有表");
-                                return;
-                            }
-                            treeItem.setExpanded(true);
-                            this.openStatusMap.put(treeItem.getValue(), treeItem);
-                        } catch (Exception e) {
-                            LOG.error(e.getMessage(), e);
-                            AlertUtil.showErrorAlert(e.getMessage());
-                        }
-                    } else if (level == 2) {
-                        this.databaseName = treeItem.getParent().getValue();
-                        this.selectedDatabaseConfig =
-                                (DatabaseConfig) treeItem.getParent().getGraphic().getUserData();
-                        String tableName = treeCell.getTreeItem().getValue();
-                        this.tableName = tableName;
-                        this.tableNameField.setText(tableName);
+                        this.loadTables(treeItem);
                     }
                 }
             });
             return cell;
         });
+        // 支持Ctrl/Shift多选表, 选中已打开的数据库节点表示该库下的全部表
+        this.leftDBTree.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        this.leftDBTree.getSelectionModel().getSelectedItems()
+                .addListener((ListChangeListener<TreeItem<String>>) change -> {
+                    this.updateSelectedTables();
+                    this.prefetchTables();
+                });
         this.progressBar.setProgress(0.0);
         this.loadLeftDBTree();
     }
 
+    private static ImageView createTableImageView() {
+        ImageView imageView = new ImageView(TABLE_IMAGE);
+        imageView.setFitHeight(16);
+        imageView.setFitWidth(16);
+        return imageView;
+    }
+
+    /**
+     * 在后台读取表名(按过滤条件在数据库端匹配), 再分批创建子节点
+     */
+    private void loadTables(TreeItem<String> treeItem) {
+        DatabaseConfig selectedConfig = (DatabaseConfig) treeItem.getGraphic().getUserData();
+        String filter = this.tableFilterField.getText();
+        BackgroundTasks.run(() -> this.getTableNames(selectedConfig, filter), (List<String> tables) -> {
+            if (tables.isEmpty() && StringUtils.isEmpty(filter)) {
+                AlertUtil.showInfoAlert("该数据源没有表");
+                return;
+            }
+            treeItem.setExpanded(true);
+            this.openStatusMap.put(treeItem.getValue(), treeItem);
+            int generation = ++this.tableLoadGeneration;
+            this.tableLoadGenerations.put(treeItem.getValue(), generation);
+            treeItem.getChildren().clear();
+            this.addTableItems(treeItem, tables, 0, generation);
+        }, e -> {
+            LOG.error(e.getMessage(), e);
+            AlertUtil.showErrorAlert(e.getMessage());
+        });
+    }
+
+    private List<String> getTableNames(DatabaseConfig config, String filter) throws Exception {
+        String key = config.getName() + ":" + (filter == null ? "" : filter);
+        List<String> tables = this.tableNameCache.get(key);
+        if (tables == null) {
+            tables = DbUtils.getTableNames(config, filter);
+            this.tableNameCache.put(key, tables);
+        }
+        return tables;
+    }
+
+    /**
+     * 每批创建TREE_BATCH_SIZE个子节点, 批之间让出JavaFX线程, 上千张表时界面不卡顿;
+     * 连接关闭或重新加载(包括相同的过滤条件)后, 旧的批次不再继续
+     */
+    private void addTableItems(TreeItem<String> treeItem, List<String> tables, int from, int generation) {
+        if (!Integer.valueOf(generation).equals(this.tableLoadGenerations.get(treeItem.getValue()))) {
+            return;
+        }
+        int to = Math.min(from + TREE_BATCH_SIZE, tables.size());
+        List<TreeItem<String>> batch = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            batch.add(new TreeItem<>(tables.get(i)));
+        }
+        treeItem.getChildren().addAll(batch);
+        if (to < tables.size()) {
+            Platform.runLater(() -> this.addTableItems(treeItem, tables, to, generation));
+        } else {
+            // 已选中的数据库节点展开后包含全部表
+            this.updateSelectedTables();
+        }
+    }
+
+    /**
+     * 选中还未打开的数据库时在后台预取表名, 双击展开时直接使用缓存
+     */
+    private void prefetchTables() {
+        String filter = this.tableFilterField.getText();
+        for (TreeItem<String> treeItem : this.leftDBTree.getSelectionModel().getSelectedItems()) {
+            if (treeItem == null || this.leftDBTree.getTreeItemLevel(treeItem) != 1
+                    || this.openStatusMap.containsKey(treeItem.getValue())) {
+                continue;
+            }
+            DatabaseConfig config = (DatabaseConfig) treeItem.getGraphic().getUserData();
+            BackgroundTasks.run(() -> this.getTableNames(config, filter), tables -> {
+            }, e -> LOG.warn("prefetch tables failed: {}", e.getMessage()));
+        }
+    }
+
+    @FXML
+    public void filterTables() {
+        for (TreeItem<?> treeItem : this.openStatusMap.values()) {
+            @SuppressWarnings("unchecked")
+            TreeItem<String> databaseItem = (TreeItem<String>) treeItem;
+            this.loadTables(databaseItem);
+        }
+    }
+
+    /**
+     * 根据左侧树的选中项计算要生成的表, 批量生成只能在同一个数据库中进行,
+     * 其他数据库的选中项被忽略
+     */
+    private void updateSelectedTables() {
+        TreeItem<String> databaseItem = null;
+        Set<String> selectedTables = new LinkedHashSet<>();
+        for (TreeItem<String> treeItem : this.leftDBTree.getSelectionModel().getSelectedItems()) {
+            if (treeItem == null) {
+                continue;
+            }
+            int level = this.leftDBTree.getTreeItemLevel(treeItem);
+            TreeItem<String> owner = level == 1 ? treeItem : treeItem.getParent();
+            if (databaseItem == null) {
+                databaseItem = owner;
+            } else if (databaseItem != owner) {
+                continue;
+            }
+            if (level == 1) {
+                for (TreeItem<String> child : treeItem.getChildren()) {
+                    selectedTables.add(child.getValue());
+                }
+            } else if (level == 2) {
+                selectedTables.add(treeItem.getValue());
+            }
+        }
+        if (selectedTables.isEmpty()) {
+            return;
+        }
+        this.databaseName = databaseItem.getValue();
+        this.selectedDatabaseConfig = (DatabaseConfig) databaseItem.getGraphic().getUserData();
+        this.tableNames = new ArrayList<>(selectedTables);
+        this.tableName = this.tableNames.get(0);
+        this.tableNameField.setText(String.join(",", this.tableNames));
+    }
+
     void loadLeftDBTree() {
+        // 连接配置可能被修改, 表名缓存重新读取
+        this.tableNameCache.clear();
         TreeItem<String> rootTreeItem = this.leftDBTree.getRoot();
         List<TreeItem<String>> treeItemList = rootTreeItem.getChildren();
         Map<String, TreeItem<String>> treeItemMap = new HashMap<>();
@@ -308,7 +449,7 @@ public class MainUIController extends BaseFXController {
 
     @FXML
     public void generateCode() {
-        if (StringUtils.isEmpty(this.tableName)) {
+        if (this.tableNames.isEmpty()) {
             AlertUtil.showWarnAlert("请先在左侧选择数据库表");
             return;
         }
@@ -326,7 +467,7 @@ public class MainUIController extends BaseFXController {
         GeneratorConfig generatorConfig = this.getGeneratorConfigFromUI();
         String deleteTablePre = generatorConfig.getDeleteTablePre();
         if (!StringUtils.isEmpty(deleteTablePre)
-                && !this.tableName.startsWith(deleteTablePre.toLowerCase())) {
+                && this.tableNames.stream().noneMatch(name -> name.startsWith(deleteTablePre.toLowerCase()))) {
             AlertUtil.showWarnAlert("将要去除的名称前缀不合法");
             return;
         }
@@ -334,21 +475,45 @@ public class MainUIController extends BaseFXController {
             return;
         }
 
-        if (AlertUtil.showAndWaitWarnAlert("确认生成？", ButtonType.NO, ButtonType.OK)) {
+        String confirm = this.tableNames.size() > 1 ? "确认生成" + this.tableNames.size() + "张表？" : "确认生成？";
+        if (AlertUtil.showAndWaitWarnAlert(confirm, ButtonType.NO, ButtonType.OK)) {
             MybatisGeneratorBridge bridge = new MybatisGeneratorBridge();
             bridge.setGeneratorConfig(generatorConfig);
             bridge.setDatabaseConfig(this.selectedDatabaseConfig);
+            bridge.setTableNames(this.tableNames);
             UIProgressCallback callback = new UIProgressCallback(this.progressBar);
             bridge.setProgressCallback(callback);
-            try {
+            this.setRunningCallback(callback);
+            BackgroundTasks.run(() -> {
                 bridge.generate();
-            } catch (Exception e) {
-                LOG.error("generate error: ", e);
-                AlertUtil.showErrorAlert(e.getMessage());
-            }
+                return null;
+            }, result -> this.setRunningCallback(null), e -> {
+                this.setRunningCallback(null);
+                this.progressBar.setProgress(0.0);
+                if (e instanceof InterruptedException) {
+                    AlertUtil.showInfoAlert("已取消生成");
+                } else {
+                    LOG.error("generate error: ", e);
+                    AlertUtil.showErrorAlert(e.getMessage());
+                }
+            });
         }
     }
 
+    @FXML
+    public void cancelGenerate() {
+        if (this.runningCallback != null) {
+            this.runningCallback.cancel();
+            this.cancelButton.setDisable(true);
+        }
+    }
+
+    private void setRunningCallback(UIProgressCallback callback) {
+        this.runningCallback = callback;
+        this.generateButton.setDisable(callback != null);
+        this.cancelButton.setDisable(callback == null);
+    }
+
     private String validateConfig() {
         String projectFolder = this.projectFolderField.getText();
         if (StringUtils.isEmpty(projectFolder)) {
@@ -459,6 +624,7 @@ public class MainUIController extends BaseFXController {
         generatorConfig.setOverrideXML(this.overrideXMLCheckBox.isSelected());
         generatorConfig.setXmlPackage(this.xmlTargetPackage.getText());
         generatorConfig.setXmlFolder(this.xmlTargetProject.getText());
+        generatorConfig.setStatementAttributes(this.statementAttributesField.getText());
 
         generatorConfig.setBuildService(this.buildServiceCheckBox.isSelected());
         generatorConfig.setOverrideService(this.overrideServiceCheckBox.isSelected());
@@ -497,6 +663,7 @@ public class MainUIController extends BaseFXController {
         this.overrideXMLCheckBox.setSelected(generatorConfig.isOverrideXML());
         this.xmlTargetPackage.setText(generatorConfig.getXmlPackage());
         this.xmlTargetProject.setText(generatorConfig.getXmlFolder());
+        this.statementAttributesField.setText(generatorConfig.getStatementAttributes());
 
         this.buildServiceCheckBox.setSelected(generatorConfig.isBuildService());
         this.overrideServiceCheckBox.setSelected(generatorConfig.isOverrideService());
@@ -0,0 +1,73 @@
+package org.mybatis.generator.ui.model;
+
+import java.util.List;
+
+/**
+ * 命令行批量生成的一个任务: 连接和生成配置可以直接写在文件中, 也可以引用界面中保存的配置名称
+ */
+public class BatchJob {
+    /**
+     * 连接配置, 和connectionName二选一
+     */
+    private DatabaseConfig connection;
+
+    /**
+     * 界面中保存的连接名称
+     */
+    private String connectionName;
+
+    /**
+     * 生成配置, 和configName二选一
+     */
+    private GeneratorConfig config;
+
+    /**
+     * 界面中保存的生成配置名称
+     */
+    private String configName;
+
+    /**
+     * 要生成的表, 为空时生成配置中的表, 配置中也没有时生成库中全部表
+     */
+    private List<String> tables;
+
+    public DatabaseConfig getConnection() {
+        return this.connection;
+    }
+
+    public void setConnection(DatabaseConfig connection) {
+        this.connection = connection;
+    }
+
+    public String getConnectionName() {
+        return this.connectionName;
+    }
+
+    public void setConnectionName(String connectionName) {
+        this.connectionName = connectionName;
+    }
+
+    public GeneratorConfig getConfig() {
+        return this.config;
+    }
+
+    public void setConfig(GeneratorConfig config) {
+        this.config = config;
+    }
+
+    public String getConfigName() {
+        return this.configName;
+    }
+
+    public void setConfigName(String configName) {
+        this.configName = configName;
+    }
+
+    public List<String> getTables() {
+        return this.tables;
+    }
+
+    public void setTables(List<String> tables) {
+        this.tables = tables;
+    }
+}
@@ -30,6 +30,10 @@ public class GeneratorConfig {
     private boolean overrideXML;
     private String xmlPackage;
     private String xmlFolder;
+    /**
+     * 语句属性, 如 select.timeout=5; selectByExample.fetchSize=1000, 多个用分号或换行分隔
+     */
+    private String statementAttributes;
 
     private boolean buildService;
     private boolean overrideService;
@@ -209,6 +213,14 @@ public class GeneratorConfig {
         this.xmlFolder = xmlFolder;
     }
 
+    public String getStatementAttributes() {
+        return this.statementAttributes;
+    }
+
+    public void setStatementAttributes(String statementAttributes) {
+        this.statementAttributes = statementAttributes;
+    }
+
     public boolean isBuildService() {
         return this.buildService;
     }
@@ -284,7 +296,8 @@ public class GeneratorConfig {
                 + this.exampleFolder + ", buildMapper=" + this.buildMapper + ", overrideMapper="
                 + this.overrideMapper + ", mapperPackage=" + this.mapperPackage + ", mapperFolder="
                 + this.mapperFolder + ", buildXML=" + this.buildXML + ", overrideXML=" + this.overrideXML
-                + ", xmlPackage=" + this.xmlPackage + ", xmlFolder=" + this.xmlFolder + ", buildService="
+                + ", xmlPackage=" + this.xmlPackage + ", xmlFolder=" + this.xmlFolder + ", statementAttributes="
+                + this.statementAttributes + ", buildService="
                 + this.buildService + ", overrideService=" + this.overrideService + ", servicePackage="
                 + this.servicePackage + ", serviceFolder=" + this.serviceFolder + ", buildServiceImpl="
                 + this.buildServiceImpl + ", overrideServiceImpl=" + this.overrideServiceImpl
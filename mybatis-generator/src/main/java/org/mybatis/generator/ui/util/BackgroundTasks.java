@@ -0,0 +1,38 @@
+package org.mybatis.generator.ui.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javafx.concurrent.Task;
+
+/**
+ * 后台任务: 数据库访问和代码生成放到后台线程执行, 避免阻塞JavaFX线程;
+ * 回调在JavaFX线程中执行, 可以直接操作界面
+ */
+@SuppressWarnings("restriction")
+public class BackgroundTasks {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    // 守护线程, 关闭窗口时不阻止程序退出
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "background-task-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static <T> Task<T> run(Callable<T> work, Consumer<T> onSucceeded, Consumer<Throwable> onFailed) {
+        Task<T> task = new Task<T>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        task.setOnSucceeded(event -> onSucceeded.accept(task.getValue()));
+        task.setOnFailed(event -> onFailed.accept(task.getException()));
+        EXECUTOR.execute(task);
+        return task;
+    }
+}
@@ -2,10 +2,14 @@ package org.mybatis.generator.ui.util;
 
 import java.io.File;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.mybatis.generator.ui.model.DatabaseConfig;
 import org.mybatis.generator.ui.model.GeneratorConfig;
@@ -14,242 +18,182 @@ import org.slf4j.LoggerFactory;
 
 import com.alibaba.fastjson.JSON;
 
+/**
+ * 连接配置和生成配置保存在config/sqlite3.db中.
+ * 所有SQL使用PreparedStatement, 名称中带引号也能正确保存; 配置在首次读取时解析并缓存,
+ * 写操作同时更新数据库和缓存, 之后的读取不再访问数据库
+ */
 public class ConfigHelper {
     private static final Logger LOG = LoggerFactory.getLogger(ConfigHelper.class);
     private static final String BASE_DIR = "config";
-    private static final String CONFIG_FILE = "sqlite3.db";
+
+    // 配置库结构版本, 保存在PRAGMA user_version中
+    private static final int SCHEMA_VERSION = 1;
+
+    // key为主键, 按主键顺序
+    private static Map<Integer, DatabaseConfig> databaseConfigs;
+    // key为配置名称, 按保存顺序
+    private static Map<String, GeneratorConfig> generatorConfigs;
 
     public static void init() throws Exception {
         File file = new File(BASE_DIR);
         if (!file.exists()) {
             file.mkdir();
         }
-        File uiConfigFile = new File(BASE_DIR + File.separator + CONFIG_FILE);
-        if (!uiConfigFile.exists()) {
-            initTable(uiConfigFile);
+        try (Connection conn = ConnectionManager.getConnection()) {
+            migrate(conn);
+        } catch (Exception e) {
+            LOG.error("init config db error: ", e);
+            throw e;
         }
     }
 
-    private static void initTable(File uiConfigFile) throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            stat.executeUpdate(
-                    "create table dbs(id integer primary key autoincrement, name nvarchar(64) unique not null, value ntext not null)");
-            stat.executeUpdate(
-                    "create table generator_config(name nvarchar(64) unique not null, value ntext not null)");
-        } catch (Exception e) {
-            LOG.error("createTable error: ", e);
-            uiConfigFile.delete();
-        } finally {
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
+    /**
+     * 升级配置库结构, 已是最新版本时不做任何修改;
+     * 同时打开WAL日志模式, 读配置时不会被写操作阻塞
+     */
+    private static void migrate(Connection conn) throws SQLException {
+        try (Statement stat = conn.createStatement()) {
+            stat.execute("PRAGMA journal_mode=WAL");
+            int version = 0;
+            try (ResultSet rs = stat.executeQuery("PRAGMA user_version")) {
+                if (rs.next()) {
+                    version = rs.getInt(1);
+                }
+            }
+            if (version >= SCHEMA_VERSION) {
+                return;
+            }
+            LOG.info("migrate config db from version {} to {}", version, SCHEMA_VERSION);
+            // 版本0: 旧版本创建的库或新库; 表已存在时保留数据, name上的unique约束即名称索引
+            stat.executeUpdate("create table if not exists dbs(id integer primary key autoincrement, "
+                    + "name nvarchar(64) unique not null, value ntext not null)");
+            stat.executeUpdate("create table if not exists generator_config("
+                    + "name nvarchar(64) unique not null, value ntext not null)");
+            stat.executeUpdate("PRAGMA user_version = " + SCHEMA_VERSION);
         }
     }
 
-    public static List<DatabaseConfig> loadDatabaseConfig() throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        ResultSet rs = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            String sql = "SELECT * FROM dbs";
-            rs = stat.executeQuery(sql);
-            LOG.info("sql: {}", sql);
-            List<DatabaseConfig> configs = new ArrayList<>();
-            while (rs.next()) {
-                int id = rs.getInt("id");
-                String value = rs.getString("value");
-                DatabaseConfig databaseConfig = JSON.parseObject(value, DatabaseConfig.class);
-                databaseConfig.setId(id);
-                configs.add(databaseConfig);
-            }
-            return configs;
-        } finally {
-            if (rs != null) {
-                rs.close();
-            }
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
-        }
+    public static synchronized List<DatabaseConfig> loadDatabaseConfig() throws Exception {
+        return new ArrayList<>(getDatabaseConfigs().values());
     }
 
-    public static void saveDatabaseConfig(DatabaseConfig dbConfig) throws Exception {
-        String configName = dbConfig.getName();
-        Connection conn = null;
-        Statement stat = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            ResultSet rs = stat.executeQuery("SELECT * from dbs where name = '" + configName + "'");
-            if (rs.next()) {
+    public static synchronized void saveDatabaseConfig(DatabaseConfig dbConfig) throws Exception {
+        Map<Integer, DatabaseConfig> configs = getDatabaseConfigs();
+        for (DatabaseConfig config : configs.values()) {
+            if (config.getName().equals(dbConfig.getName())) {
                 throw new Exception("名称已经存在, 请使用其它名字");
             }
-            String jsonStr = JSON.toJSONString(dbConfig);
-            String sql =
-                    String.format("INSERT INTO dbs (name, value) values('%s', '%s')", configName, jsonStr);
-            LOG.info("sql: {}", sql);
-            stat.executeUpdate(sql);
-        } finally {
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
+        }
+        String jsonStr = JSON.toJSONString(dbConfig);
+        try (Connection conn = ConnectionManager.getConnection();
+             PreparedStatement stat = conn.prepareStatement("INSERT INTO dbs (name, value) values(?, ?)",
+                     Statement.RETURN_GENERATED_KEYS)) {
+            stat.setString(1, dbConfig.getName());
+            stat.setString(2, jsonStr);
+            stat.executeUpdate();
+            try (ResultSet rs = stat.getGeneratedKeys()) {
+                if (rs.next()) {
+                    dbConfig.setId(rs.getInt(1));
+                }
             }
         }
+        if (dbConfig.getId() == null) {
+            // 取不到主键时重新加载
+            databaseConfigs = null;
+        } else {
+            configs.put(dbConfig.getId(), dbConfig);
+        }
     }
 
-    public static void updateDatabaseConfig(Integer primaryKey, DatabaseConfig dbConfig)
+    public static synchronized void updateDatabaseConfig(Integer primaryKey, DatabaseConfig dbConfig)
             throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            String jsonStr = JSON.toJSONString(dbConfig);
-            String sql = String.format("UPDATE dbs SET name = '%s', value = '%s' where id = %d",
-                    dbConfig.getName(), jsonStr, primaryKey);
-            LOG.info("sql: {}", sql);
-            stat.executeUpdate(sql);
-        } finally {
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
+        Map<Integer, DatabaseConfig> configs = getDatabaseConfigs();
+        String jsonStr = JSON.toJSONString(dbConfig);
+        try (Connection conn = ConnectionManager.getConnection();
+             PreparedStatement stat = conn.prepareStatement("UPDATE dbs SET name = ?, value = ? where id = ?")) {
+            stat.setString(1, dbConfig.getName());
+            stat.setString(2, jsonStr);
+            stat.setInt(3, primaryKey);
+            stat.executeUpdate();
         }
+        dbConfig.setId(primaryKey);
+        configs.put(primaryKey, dbConfig);
     }
 
-    public static void deleteDatabaseConfig(DatabaseConfig databaseConfig) throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        ResultSet rs = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            String sql = String.format("delete from dbs where id=%d", databaseConfig.getId());
-            LOG.info("sql: {}", sql);
-            stat.executeUpdate(sql);
-        } finally {
-            if (rs != null) {
-                rs.close();
-            }
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
+    public static synchronized void deleteDatabaseConfig(DatabaseConfig databaseConfig) throws Exception {
+        Map<Integer, DatabaseConfig> configs = getDatabaseConfigs();
+        try (Connection conn = ConnectionManager.getConnection();
+             PreparedStatement stat = conn.prepareStatement("delete from dbs where id = ?")) {
+            stat.setInt(1, databaseConfig.getId());
+            stat.executeUpdate();
         }
+        configs.remove(databaseConfig.getId());
     }
 
-    public static void saveGeneratorConfig(GeneratorConfig generatorConfig) throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            String jsonStr = JSON.toJSONString(generatorConfig);
-            String sql = String.format("INSERT INTO generator_config values('%s', '%s')",
-                    generatorConfig.getName(), jsonStr);
-            stat.executeUpdate(sql);
-        } finally {
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
+    public static synchronized void saveGeneratorConfig(GeneratorConfig generatorConfig) throws Exception {
+        Map<String, GeneratorConfig> configs = getGeneratorConfigs();
+        String jsonStr = JSON.toJSONString(generatorConfig);
+        try (Connection conn = ConnectionManager.getConnection();
+             PreparedStatement stat = conn.prepareStatement("INSERT INTO generator_config values(?, ?)")) {
+            stat.setString(1, generatorConfig.getName());
+            stat.setString(2, jsonStr);
+            stat.executeUpdate();
         }
+        configs.put(generatorConfig.getName(), generatorConfig);
     }
 
-    public static GeneratorConfig loadGeneratorConfig(String name) throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        ResultSet rs = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            String sql = String.format("SELECT * FROM generator_config where name='%s'", name);
-            LOG.info("sql: {}", sql);
-            rs = stat.executeQuery(sql);
-            GeneratorConfig generatorConfig = null;
-            if (rs.next()) {
-                String value = rs.getString("value");
-                generatorConfig = JSON.parseObject(value, GeneratorConfig.class);
-            }
-            return generatorConfig;
-        } finally {
-            if (rs != null) {
-                rs.close();
-            }
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
+    public static synchronized GeneratorConfig loadGeneratorConfig(String name) throws Exception {
+        return getGeneratorConfigs().get(name);
+    }
+
+    public static synchronized List<GeneratorConfig> loadGeneratorConfigs() throws Exception {
+        return new ArrayList<>(getGeneratorConfigs().values());
+    }
+
+    public static synchronized int deleteGeneratorConfig(String name) throws Exception {
+        Map<String, GeneratorConfig> configs = getGeneratorConfigs();
+        int count;
+        try (Connection conn = ConnectionManager.getConnection();
+             PreparedStatement stat = conn.prepareStatement("DELETE FROM generator_config where name = ?")) {
+            stat.setString(1, name);
+            count = stat.executeUpdate();
         }
+        configs.remove(name);
+        return count;
     }
 
-    public static List<GeneratorConfig> loadGeneratorConfigs() throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        ResultSet rs = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            String sql = "SELECT * FROM generator_config";
-            LOG.info("sql: {}", sql);
-            rs = stat.executeQuery(sql);
-            List<GeneratorConfig> configs = new ArrayList<>();
-            while (rs.next()) {
-                String value = rs.getString("value");
-                configs.add(JSON.parseObject(value, GeneratorConfig.class));
-            }
-            return configs;
-        } finally {
-            if (rs != null) {
-                rs.close();
-            }
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
+    private static Map<Integer, DatabaseConfig> getDatabaseConfigs() throws Exception {
+        if (databaseConfigs == null) {
+            Map<Integer, DatabaseConfig> configs = new LinkedHashMap<>();
+            try (Connection conn = ConnectionManager.getConnection();
+                 PreparedStatement stat = conn.prepareStatement("SELECT id, value FROM dbs order by id");
+                 ResultSet rs = stat.executeQuery()) {
+                while (rs.next()) {
+                    int id = rs.getInt("id");
+                    DatabaseConfig databaseConfig = JSON.parseObject(rs.getString("value"), DatabaseConfig.class);
+                    databaseConfig.setId(id);
+                    configs.put(id, databaseConfig);
+                }
+            }
+            databaseConfigs = configs;
         }
+        return databaseConfigs;
     }
 
-    public static int deleteGeneratorConfig(String name) throws Exception {
-        Connection conn = null;
-        Statement stat = null;
-        try {
-            conn = ConnectionManager.getConnection();
-            stat = conn.createStatement();
-            String sql = String.format("DELETE FROM generator_config where name='%s'", name);
-            LOG.info("sql: {}", sql);
-            return stat.executeUpdate(sql);
-        } finally {
-            if (stat != null) {
-                stat.close();
-            }
-            if (conn != null) {
-                conn.close();
-            }
+    private static Map<String, GeneratorConfig> getGeneratorConfigs() throws Exception {
+        if (generatorConfigs == null) {
+            Map<String, GeneratorConfig> configs = new LinkedHashMap<>();
+            try (Connection conn = ConnectionManager.getConnection();
+                 PreparedStatement stat = conn.prepareStatement("SELECT name, value FROM generator_config");
+                 ResultSet rs = stat.executeQuery()) {
+                while (rs.next()) {
+                    configs.put(rs.getString("name"),
+                            JSON.parseObject(rs.getString("value"), GeneratorConfig.class));
+                }
+            }
+            generatorConfigs = configs;
         }
+        return generatorConfigs;
     }
 }
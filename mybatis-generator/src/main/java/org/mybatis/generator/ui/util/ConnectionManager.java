@@ -11,7 +11,14 @@ public class ConnectionManager {
     private static final Logger LOG = LoggerFactory.getLogger(ConnectionManager.class);
     private static final String DB_URL = "jdbc:sqlite:./config/sqlite3.db";
 
+    /**
+     * 从连接池借出配置库连接, 使用完close即归还
+     */
     public static Connection getConnection() throws Exception {
+        return ConnectionPool.getPool(DB_URL, ConnectionManager::connect).getConnection();
+    }
+
+    private static Connection connect() throws Exception {
         Class.forName("org.sqlite.JDBC");
         File file = new File(DB_URL.substring("jdbc:sqlite:".length())).getAbsoluteFile();
         LOG.info("database FilePath :{}", file.getAbsolutePath());
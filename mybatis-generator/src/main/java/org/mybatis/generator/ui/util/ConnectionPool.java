@@ -0,0 +1,228 @@
+package org.mybatis.generator.ui.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 简单的连接池: 按连接地址和账号区分, 每个池最多保留MAX_IDLE个空闲连接.
+ * 借出的是代理连接, close时归还物理连接; 空闲超过VALIDATE_AFTER_MILLIS的连接借出前先校验,
+ * 空闲超过IDLE_TIMEOUT_MILLIS的连接由后台线程关闭
+ */
+public class ConnectionPool {
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+    private static final int MAX_IDLE = 4;
+    private static final long VALIDATE_AFTER_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int VALIDATE_TIMEOUT_SECONDS = 1;
+
+    private static final Map<String, ConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    static {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            for (ConnectionPool pool : POOLS.values()) {
+                pool.evictIdle();
+            }
+        }, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 建立物理连接
+     */
+    public interface Connector {
+        Connection connect() throws Exception;
+    }
+
+    private final String name;
+    private final Connector connector;
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+
+    private ConnectionPool(String name, Connector connector) {
+        this.name = name;
+        this.connector = connector;
+    }
+
+    /**
+     * 取得key对应的连接池, 不存在时用connector创建, key同时作为日志中的池名称
+     *
+     * @param key 区分连接池, 不能包含密码等敏感信息
+     */
+    public static ConnectionPool getPool(String key, Connector connector) {
+        return getPool(key, key, connector);
+    }
+
+    /**
+     * 取得key对应的连接池, 不存在时用connector创建
+     *
+     * @param key  区分连接池, 应包含连接地址和账号, 修改连接配置后使用新的池
+     * @param name 日志中显示的池名称, 不能包含密码
+     */
+    public static ConnectionPool getPool(String key, String name, Connector connector) {
+        return POOLS.computeIfAbsent(key, k -> new ConnectionPool(name, connector));
+    }
+
+    /**
+     * 借出连接, 使用完必须close归还
+     */
+    public Connection getConnection() throws Exception {
+        while (true) {
+            IdleConnection idleConnection;
+            synchronized (this.idle) {
+                idleConnection = this.idle.pollFirst();
+            }
+            if (idleConnection == null) {
+                return this.wrap(this.connector.connect());
+            }
+            if (this.isUsable(idleConnection)) {
+                return this.wrap(idleConnection.connection);
+            }
+            closeQuietly(idleConnection.connection);
+        }
+    }
+
+    private boolean isUsable(IdleConnection idleConnection) {
+        try {
+            if (idleConnection.connection.isClosed()) {
+                return false;
+            }
+            long idleMillis = System.currentTimeMillis() - idleConnection.since;
+            return idleMillis < VALIDATE_AFTER_MILLIS
+                    || idleConnection.connection.isValid(VALIDATE_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            LOG.warn("validate connection of pool {} failed: {}", this.name, e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            return;
+        }
+        synchronized (this.idle) {
+            if (this.idle.size() < MAX_IDLE) {
+                // 最近归还的放在队首, 优先借出, 队尾的连接更容易因空闲被回收
+                this.idle.addFirst(new IdleConnection(connection));
+                return;
+            }
+        }
+        closeQuietly(connection);
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        synchronized (this.idle) {
+            Iterator<IdleConnection> iterator = this.idle.iterator();
+            while (iterator.hasNext()) {
+                IdleConnection idleConnection = iterator.next();
+                if (now - idleConnection.since >= IDLE_TIMEOUT_MILLIS) {
+                    iterator.remove();
+                    closeQuietly(idleConnection.connection);
+                }
+            }
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PooledConnectionHandler(connection));
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // ignore
+        }
+    }
+
+    private static class IdleConnection {
+        private final Connection connection;
+        private final long since;
+
+        IdleConnection(Connection connection) {
+            this.connection = connection;
+            this.since = System.currentTimeMillis();
+        }
+    }
+
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private boolean closed;
+
+        PooledConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if ("close".equals(methodName) && method.getParameterCount() == 0) {
+                if (!this.closed) {
+                    this.closed = true;
+                    ConnectionPool.this.release(this.connection);
+                }
+                return null;
+            }
+            if ("isClosed".equals(methodName) && method.getParameterCount() == 0) {
+                return this.closed || this.connection.isClosed();
+            }
+            if (this.closed && method.getDeclaringClass() == Connection.class) {
+                throw new SQLException("Connection is closed");
+            }
+            Object result;
+            try {
+                result = method.invoke(this.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if ("getMetaData".equals(methodName) && method.getParameterCount() == 0) {
+                // 元数据的getConnection也要返回代理, 否则调用方关闭它会关掉池中的物理连接
+                return wrapMetaData((DatabaseMetaData) result, (Connection) proxy);
+            }
+            return result;
+        }
+    }
+
+    private static DatabaseMetaData wrapMetaData(DatabaseMetaData metaData, Connection connection) {
+        return (DatabaseMetaData) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{DatabaseMetaData.class}, (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return connection;
+                    }
+                    try {
+                        return method.invoke(metaData, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
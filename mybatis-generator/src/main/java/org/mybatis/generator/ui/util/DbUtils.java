@@ -1,5 +1,8 @@
 package org.mybatis.generator.ui.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.Driver;
@@ -17,33 +20,77 @@ public class DbUtils {
     private static final Logger LOG = LoggerFactory.getLogger(DbUtils.class);
     private static final int DB_CONNECTION_TIMEOUTS_SECONDS = 1;
 
+    private static volatile Driver driver;
+
+    /**
+     * 从连接池借出连接, 使用完close即归还; 浏览表和生成代码共用同一个池
+     */
     public static Connection getConnection(DatabaseConfig config) throws Exception {
         String url = getConnectionUrlWithSchema(config);
+        String name = url + "|" + config.getUsername();
+        // 修改密码后使用新的池, key中只保存密码的摘要, 日志中只有地址和账号
+        String key = name + "|" + sha256(config.getPassword());
+        return ConnectionPool.getPool(key, name, () -> connect(config)).getConnection();
+    }
+
+    private static String sha256(String text) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(String.valueOf(text).getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static Connection connect(DatabaseConfig config) throws Exception {
+        String url = getConnectionUrlWithSchema(config);
 
         Properties props = new Properties();
         props.setProperty("user", config.getUsername());
         props.setProperty("password", config.getPassword());
+        // 代码生成需要读取注释, 浏览和生成共用连接, 统一打开
+        props.setProperty("remarks", "true");
+        props.setProperty("useInformationSchema", "true");
 
         // 1s数据库连接超时
         DriverManager.setLoginTimeout(DB_CONNECTION_TIMEOUTS_SECONDS);
 
-        Class<?> clazz = Class.forName("com.mysql.jdbc.Driver");
-        Driver driver = (Driver) clazz.newInstance();
-        Connection connection = driver.connect(url, props);
+        Connection connection = getDriver().connect(url, props);
         LOG.info("getConnection, connection url: {}", url);
         return connection;
     }
 
+    private static Driver getDriver() throws Exception {
+        if (driver == null) {
+            Class<?> clazz = Class.forName("com.mysql.jdbc.Driver");
+            driver = (Driver) clazz.newInstance();
+        }
+        return driver;
+    }
+
     public static List<String> getTableNames(DatabaseConfig config) throws Exception {
+        return getTableNames(config, null);
+    }
+
+    /**
+     * 按名称过滤表, 过滤条件作为LIKE模式交给数据库匹配, 不必把全部表名取回本地再过滤
+     *
+     * @param filter 表名包含的字符串, 为空时返回全部表
+     */
+    public static List<String> getTableNames(DatabaseConfig config, String filter) throws Exception {
         String url = getConnectionUrlWithSchema(config);
-        LOG.info("getTableNames, connection url: {}", url);
+        LOG.info("getTableNames, connection url: {}, filter: {}", url, filter);
         Connection connection = getConnection(config);
         try {
             List<String> tables = new ArrayList<>();
             DatabaseMetaData md = connection.getMetaData();
-            ResultSet rs = md.getTables(config.getSchema(), null, "%", new String[]{"TABLE", "VIEW"});
-            while (rs.next()) {
-                tables.add(rs.getString(3));
+            String pattern = StringUtils.isEmpty(filter) ? "%"
+                    : "%" + escapeLikePattern(filter, md.getSearchStringEscape()) + "%";
+            try (ResultSet rs = md.getTables(config.getSchema(), null, pattern, new String[]{"TABLE", "VIEW"})) {
+                while (rs.next()) {
+                    tables.add(rs.getString(3));
+                }
             }
             return tables;
         } finally {
@@ -51,6 +98,21 @@ public class DbUtils {
         }
     }
 
+    private static String escapeLikePattern(String filter, String escape) {
+        if (StringUtils.isEmpty(escape)) {
+            return filter;
+        }
+        StringBuilder sb = new StringBuilder(filter.length() + 8);
+        for (int i = 0; i < filter.length(); i++) {
+            char c = filter.charAt(i);
+            if (c == '%' || c == '_' || escape.indexOf(c) >= 0) {
+                sb.append(escape);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
     public static String getConnectionUrlWithSchema(DatabaseConfig dbConfig)
             throws ClassNotFoundException {
         String connectionUrl = String.format(
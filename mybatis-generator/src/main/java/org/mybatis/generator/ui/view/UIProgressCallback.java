@@ -1,15 +1,37 @@
 package org.mybatis.generator.ui.view;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.mybatis.generator.api.ProgressCallback;
 
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ProgressBar;
 
+/**
+ * 进度按阶段汇总: 内省占0~0.2, 生成占0.2~0.6, 保存占0.6~1.0,
+ * 每个阶段内按已完成任务数/总任务数推进, 批量生成多张表时进度连续.
+ * 生成在后台线程执行, 进度通过Platform.runLater合并后更新到界面
+ */
 @SuppressWarnings("restriction")
 public class UIProgressCallback implements ProgressCallback {
+    private static final double INTROSPECTION_START = 0.0;
+    private static final double GENERATION_START = 0.2;
+    private static final double SAVE_START = 0.6;
+    private static final double SAVE_END = 1.0;
+
     private ProgressBar progressBar;
     private Alert alert;
 
+    private double phaseStart;
+    private double phaseEnd;
+    private int totalTasks;
+    private int finishedTasks;
+
+    private volatile double progress;
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private volatile boolean cancelled;
+
     public UIProgressCallback(ProgressBar progressBar) {
         this.progressBar = progressBar;
         this.alert = new Alert(Alert.AlertType.INFORMATION);
@@ -20,34 +42,68 @@ public class UIProgressCallback implements ProgressCallback {
 
     @Override
     public void introspectionStarted(int totalTasks) {
-        this.progressBar.setProgress(0.2);
+        this.startPhase(INTROSPECTION_START, GENERATION_START, totalTasks);
     }
 
     @Override
     public void generationStarted(int totalTasks) {
-        this.progressBar.setProgress(0.4);
+        this.startPhase(GENERATION_START, SAVE_START, totalTasks);
     }
 
     @Override
     public void saveStarted(int totalTasks) {
-        this.progressBar.setProgress(0.6);
+        this.startPhase(SAVE_START, SAVE_END, totalTasks);
     }
 
     @Override
     public void startTask(String taskName) {
-        if (taskName.startsWith("Saving file")) {
-            this.progressBar.setProgress(0.8);
+        if (this.finishedTasks < this.totalTasks) {
+            this.finishedTasks++;
         }
+        this.updateProgress(this.phaseStart
+                + (this.phaseEnd - this.phaseStart) * this.finishedTasks / this.totalTasks);
     }
 
     @Override
     public void done() {
-        this.progressBar.setProgress(1);
-        this.alert.setContentText("生成完成");
-        this.alert.show();
+        this.updateProgress(1);
+        Platform.runLater(() -> {
+            this.alert.setContentText("生成完成");
+            this.alert.show();
+        });
     }
 
     @Override
     public void checkCancel() throws InterruptedException {
+        if (this.cancelled) {
+            throw new InterruptedException();
+        }
+    }
+
+    /**
+     * 请求取消, 生成在下一次checkCancel时停止
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    private void startPhase(double start, double end, int totalTasks) {
+        this.phaseStart = start;
+        this.phaseEnd = end;
+        // 避免除0, 没有任务的阶段直接走到结束位置
+        this.totalTasks = Math.max(totalTasks, 1);
+        this.finishedTasks = totalTasks > 0 ? 0 : 1;
+        this.updateProgress(start);
+    }
+
+    private void updateProgress(double progress) {
+        this.progress = progress;
+        // 上一次提交的更新还没有执行时不再提交, 界面只显示最新的进度
+        if (this.updateScheduled.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                this.updateScheduled.set(false);
+                this.progressBar.setProgress(this.progress);
+            });
+        }
     }
 }